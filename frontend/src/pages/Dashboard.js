@@ -28,7 +28,7 @@ const Dashboard = () => {
       setRecentJobs(jobs.slice(0, 5)); // Show latest 5 jobs
       
       const totalJobs = jobs.length;
-      const myJobs = isRecruiter() ? jobs.filter(job => job.recruiterId === user.id).length : 0;
+      const myJobs = isRecruiter() ? (await jobService.getMyJobs()).length : 0;
       
       setStats({
         totalJobs,
@@ -198,7 +198,7 @@ const Dashboard = () => {
                             {job.skillSet.length > 3 && ` +${job.skillSet.length - 3} more`}
                           </p>
                           <small className="text-muted">
-                            {job.description.substring(0, 100)}...
+                            {job.snippet.substring(0, 100)}...
                           </small>
                         </div>
                         <Link to={`/jobs/${job.id}`} className="btn btn-sm btn-outline-primary">
@@ -22,17 +22,13 @@ const JobDetails = () => {
   const fetchJobDetails = async () => {
     try {
       setLoading(true);
-      // Since there's no individual job endpoint, fetch all jobs and find the one we need
-      const jobs = await jobService.getAllJobs();
-      const foundJob = jobs.find(j => j.id === id);
-      
-      if (foundJob) {
-        setJob(foundJob);
-      } else {
-        setError('Job not found');
-      }
+      // The list endpoints only carry a snippet, so load the full posting
+      const foundJob = await jobService.getJob(id);
+      setJob(foundJob);
     } catch (err) {
-      setError('Failed to load job details. Please try again.');
+      setError(err.response?.status === 404
+        ? 'Job not found'
+        : 'Failed to load job details. Please try again.');
     } finally {
       setLoading(false);
     }
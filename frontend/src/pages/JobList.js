@@ -40,7 +40,7 @@ const JobList = () => {
     if (searchTerm) {
       filtered = filtered.filter(job =>
         job.role.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        job.description.toLowerCase().includes(searchTerm.toLowerCase()) ||
+        (job.snippet ?? job.description).toLowerCase().includes(searchTerm.toLowerCase()) ||
         job.skillSet.some(skill => skill.toLowerCase().includes(searchTerm.toLowerCase()))
       );
     }
@@ -172,9 +172,9 @@ const JobList = () => {
                     {job.experience} year{job.experience !== 1 ? 's' : ''} experience required
                   </Card.Text>
                   <Card.Text className="mb-3">
-                    {job.description.length > 150 
-                      ? `${job.description.substring(0, 150)}...` 
-                      : job.description
+                    {(job.snippet ?? job.description).length > 150 
+                      ? `${(job.snippet ?? job.description).substring(0, 150)}...` 
+                      : (job.snippet ?? job.description)
                     }
                   </Card.Text>
                   
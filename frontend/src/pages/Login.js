@@ -40,6 +40,7 @@ const Login = () => {
       const payload = JSON.parse(atob(token.split('.')[1]));
       const userData = {
         username: payload.sub,
+        id: payload.userId,
         role: payload.role || 'JOB_SEEKER' // Default fallback
       };
       
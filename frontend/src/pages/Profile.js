@@ -15,6 +15,7 @@ const Profile = () => {
   const [skillInput, setSkillInput] = useState('');
   const [loading, setLoading] = useState(true);
   const [saving, setSaving] = useState(false);
+  const [uploading, setUploading] = useState(false);
   const [error, setError] = useState('');
   const [success, setSuccess] = useState('');
   const [hasProfile, setHasProfile] = useState(false);
@@ -56,6 +57,26 @@ const Profile = () => {
     }));
   };
 
+  const handleResumeUpload = async (e) => {
+    const file = e.target.files[0];
+    if (!file) {
+      return;
+    }
+    try {
+      setUploading(true);
+      setError('');
+      const { resumeUrl } = await candidateService.uploadResume(file);
+      setProfileData(prev => ({
+        ...prev,
+        resumeUrl
+      }));
+    } catch (err) {
+      setError(err.response?.data || 'Failed to upload resume. Please try again.');
+    } finally {
+      setUploading(false);
+    }
+  };
+
   const handleAddSkill = (e) => {
     e.preventDefault();
     if (skillInput.trim() && !profileData.skills.includes(skillInput.trim())) {
@@ -203,8 +224,18 @@ const Profile = () => {
                     placeholder="https://example.com/your-resume.pdf"
                   />
                   <Form.Text className="text-muted">
-                    Link to your online resume (Google Drive, Dropbox, etc.)
+                    Link to your online resume, or upload a file below
                   </Form.Text>
+                  <Form.Control
+                    className="mt-2"
+                    type="file"
+                    accept=".pdf,.doc,.docx"
+                    onChange={handleResumeUpload}
+                    disabled={uploading}
+                  />
+                  {uploading && (
+                    <Form.Text className="text-muted">Uploading...</Form.Text>
+                  )}
                 </Form.Group>
 
                 <Form.Group className="mb-4">
@@ -313,7 +344,14 @@ const Profile = () => {
                 {profileData.resumeUrl && (
                   <p className="mb-0">
                     <strong>Resume:</strong>{' '}
-                    <a href={profileData.resumeUrl} target="_blank" rel="noopener noreferrer">
+                    <a
+                      href={profileData.resumeUrl}
+                      onClick={(e) => {
+                        e.preventDefault();
+                        candidateService.openResume(profileData.resumeUrl)
+                          .catch(() => setError('Failed to open the resume. Please try again.'));
+                      }}
+                    >
                       View Resume
                     </a>
                   </p>
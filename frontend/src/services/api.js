@@ -49,6 +49,17 @@ export const authService = {
     const response = await api.post('/register', { username, password, email, role });
     return response.data;
   },
+
+  logout: async (token) => {
+    // The token is passed in: the caller clears the stored one before the interceptor would read it.
+    await api.post('/logout', null, { headers: { Authorization: `Bearer ${token}` } });
+  },
+
+  changePassword: async (currentPassword, newPassword) => {
+    // Answers with a new token: every earlier one, including the current, is revoked.
+    const response = await api.post('/password', { currentPassword, newPassword });
+    return response.data;
+  },
 };
 
 // Job posting services
@@ -58,6 +69,16 @@ export const jobService = {
     return response.data;
   },
 
+  getMyJobs: async () => {
+    const response = await api.get('/posts/mine');
+    return response.data;
+  },
+
+  getJob: async (jobId) => {
+    const response = await api.get(`/posts/${jobId}`);
+    return response.data;
+  },
+
   searchJobs: async (searchTerm) => {
     const response = await api.get(`/posts/search/${encodeURIComponent(searchTerm)}`);
     return response.data;
@@ -81,6 +102,30 @@ export const candidateService = {
     return response.data;
   },
 
+  getProfiles: async (userIds) => {
+    const response = await api.post('/candidate/profiles/batch', { userIds });
+    return response.data;
+  },
+
+  uploadResume: async (file) => {
+    // Sent as the raw request body so the server can stream it to disk.
+    const response = await api.post('/candidate/resume', file, {
+      headers: { 'Content-Type': file.type || 'application/octet-stream' },
+    });
+    return response.data;
+  },
+
+  openResume: async (resumeUrl) => {
+    // Uploaded resumes need the token, which a plain link would not send; other URLs open as they are.
+    const path = resumeUrl.indexOf('/candidate/resume/');
+    if (path < 0) {
+      window.open(resumeUrl, '_blank', 'noopener,noreferrer');
+      return;
+    }
+    const response = await api.get(resumeUrl.substring(path), { responseType: 'blob' });
+    window.open(URL.createObjectURL(response.data), '_blank', 'noopener,noreferrer');
+  },
+
   saveProfile: async (profileData) => {
     const response = await api.post('/candidate/profile', profileData);
     return response.data;
@@ -0,0 +1,58 @@
+package com.hiringplatform.hiring_platform_backend.codec;
+
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * A hand-written BSON codec for JobPosting.
+ * It decodes straight from the driver's BSON reader into the entity, avoiding both the
+ * intermediate org.bson.Document and Spring Data's reflection-based mapping on hot read paths.
+ * The document layout is identical to what Spring Data writes, including the _class hint,
+ * so documents written by either side can be read by the other.
+ */
+public class JobPostingCodec implements Codec<JobPosting> {
+
+    static final String CLASS_HINT = JobPosting.class.getName();
+
+    @Override
+    public JobPosting decode(BsonReader reader, DecoderContext decoderContext) {
+        JobPosting posting = new JobPosting();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> posting.setId(BsonValues.readId(reader));
+                case "recruiterId" -> posting.setRecruiterId(BsonValues.readString(reader));
+                case "role" -> posting.setRole(BsonValues.readString(reader));
+                case "description" -> posting.setDescription(BsonValues.readString(reader));
+                case "experience" -> posting.setExperience(BsonValues.readInt(reader));
+                case "skillSet" -> posting.setSkillSet(BsonValues.readStringList(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return posting;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, JobPosting posting, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonValues.writeId(writer, posting.getId());
+        BsonValues.writeString(writer, "recruiterId", posting.getRecruiterId());
+        BsonValues.writeString(writer, "role", posting.getRole());
+        BsonValues.writeString(writer, "description", posting.getDescription());
+        writer.writeInt32("experience", posting.getExperience());
+        BsonValues.writeStringList(writer, "skillSet", posting.getSkillSet());
+        writer.writeString("_class", CLASS_HINT);
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<JobPosting> getEncoderClass() {
+        return JobPosting.class;
+    }
+}
@@ -0,0 +1,62 @@
+package com.hiringplatform.hiring_platform_backend.codec;
+
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * A hand-written BSON codec for the JobPostingSummary projection.
+ * Queries that decode into this class must apply {@link #PROJECTION}, which has MongoDB
+ * truncate the description server-side so the full text never crosses the wire.
+ */
+public class JobPostingSummaryCodec implements Codec<JobPostingSummary> {
+
+    /**
+     * The projection producing exactly the fields this codec reads.
+     */
+    public static final BsonDocument PROJECTION = BsonDocument.parse("{"
+            + "recruiterId: 1, role: 1, experience: 1, skillSet: 1, "
+            + "snippet: {$substrCP: [{$ifNull: ['$description', '']}, 0, "
+            + JobPostingSummary.SNIPPET_LENGTH + "]}}");
+
+    @Override
+    public JobPostingSummary decode(BsonReader reader, DecoderContext decoderContext) {
+        JobPostingSummary summary = new JobPostingSummary();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> summary.setId(BsonValues.readId(reader));
+                case "recruiterId" -> summary.setRecruiterId(BsonValues.readString(reader));
+                case "role" -> summary.setRole(BsonValues.readString(reader));
+                case "experience" -> summary.setExperience(BsonValues.readInt(reader));
+                case "skillSet" -> summary.setSkillSet(BsonValues.readStringList(reader));
+                case "snippet" -> summary.setSnippet(BsonValues.readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return summary;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, JobPostingSummary summary, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonValues.writeId(writer, summary.getId());
+        BsonValues.writeString(writer, "recruiterId", summary.getRecruiterId());
+        BsonValues.writeString(writer, "role", summary.getRole());
+        writer.writeInt32("experience", summary.getExperience());
+        BsonValues.writeStringList(writer, "skillSet", summary.getSkillSet());
+        BsonValues.writeString(writer, "snippet", summary.getSnippet());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<JobPostingSummary> getEncoderClass() {
+        return JobPostingSummary.class;
+    }
+}
@@ -0,0 +1,26 @@
+package com.hiringplatform.hiring_platform_backend.config;
+
+import com.hiringplatform.hiring_platform_backend.codec.JobPostingCodec;
+import com.hiringplatform.hiring_platform_backend.codec.JobPostingSummaryCodec;
+import com.mongodb.MongoClientSettings;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MongoDB client configuration.
+ * Registers the hand-written codecs with the MongoClient, so collections obtained with
+ * JobPosting or JobPostingSummary as their document class decode without reflection.
+ * Spring Data repositories keep using their own mapping and are unaffected.
+ */
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer jobPostingCodecCustomizer() {
+        return builder -> builder.codecRegistry(CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new JobPostingCodec(), new JobPostingSummaryCodec()),
+                MongoClientSettings.getDefaultCodecRegistry()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.hiringplatform.hiring_platform_backend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for RateLimitFilter, bound from the rate-limit.* properties.
+ * Each route is an Ant-style path pattern (optionally restricted to one HTTP method) with its own
+ * token bucket: 'capacity' requests may be made in a burst, refilled at 'refill-per-second'.
+ * Routes are matched in order and the first match applies; unmatched requests are not limited.
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Buckets untouched for this long are dropped (a dropped bucket is indistinguishable from a full one).
+     */
+    private long idleEvictionSeconds = 600;
+
+    /**
+     * The number of buckets above which new clients of a route share a single overflow bucket.
+     */
+    private int maxKeys = 100_000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public long getIdleEvictionSeconds() { return idleEvictionSeconds; }
+    public void setIdleEvictionSeconds(long idleEvictionSeconds) { this.idleEvictionSeconds = idleEvictionSeconds; }
+    public int getMaxKeys() { return maxKeys; }
+    public void setMaxKeys(int maxKeys) { this.maxKeys = maxKeys; }
+    public List<Route> getRoutes() { return routes; }
+    public void setRoutes(List<Route> routes) { this.routes = routes; }
+
+    /**
+     * One rate-limited route.
+     */
+    public static class Route {
+        private String pattern;
+        private String method;
+        private int capacity;
+        private double refillPerSecond;
+
+        public String getPattern() { return pattern; }
+        public void setPattern(String pattern) { this.pattern = pattern; }
+        public String getMethod() { return method; }
+        public void setMethod(String method) { this.method = method; }
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+        public double getRefillPerSecond() { return refillPerSecond; }
+        public void setRefillPerSecond(double refillPerSecond) { this.refillPerSecond = refillPerSecond; }
+    }
+}
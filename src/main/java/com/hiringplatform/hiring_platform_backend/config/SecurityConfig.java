@@ -1,8 +1,11 @@
 package com.hiringplatform.hiring_platform_backend.config;
 
 import com.hiringplatform.hiring_platform_backend.filter.JwtRequestFilter;
-import com.hiringplatform.hiring_platform_backend.repository.UserRepository;
+import com.hiringplatform.hiring_platform_backend.filter.RateLimitFilter;
+import com.hiringplatform.hiring_platform_backend.service.UserCacheService;
+import com.hiringplatform.hiring_platform_backend.util.RehashingBCryptPasswordEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,9 +16,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
@@ -37,35 +37,27 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * Loads user-specific data for authentication, from a cache in front of the users collection.
+     * It maps a User entity from the database to Spring Security's UserDetails object.
+     */
     @Autowired
-    private UserRepository userRepository;
+    private UserCacheService userDetailsService;
 
     /**
-     * Defines a service to load user-specific data from the database.
-     * Spring Security uses this to fetch user details during authentication.
-     * It maps a User entity from the database to Spring Security's UserDetails object.
+     * The BCrypt cost factor (log2 rounds) for new hashes.
      */
-    @Bean
-    public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
-            .map(user -> new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                Collections.singletonList(
-                    // Spring Security requires roles to be prefixed with "ROLE_" for hasRole() checks.
-                    new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_" + user.getRole())
-                )
-            ))
-            .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-    }
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
 
     /**
      * Provides a PasswordEncoder bean to the application context.
      * Uses BCrypt, a strong hashing algorithm, to securely store user passwords.
+     * Hashes made with a different cost factor are rehashed at the user's next login.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new RehashingBCryptPasswordEncoder(bcryptStrength);
     }
 
     /**
@@ -75,8 +67,9 @@ public class SecurityConfig {
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(userDetailsService());
+        authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -96,23 +89,41 @@ public class SecurityConfig {
      *
      * @param http The HttpSecurity object to configure.
      * @param jwtAuthFilter The custom filter for processing JWTs.
+     * @param rateLimitFilter The per-client rate limiter, which runs once the caller is identified.
      * @return The configured SecurityFilterChain.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtRequestFilter jwtAuthFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtRequestFilter jwtAuthFilter,
+                                                   RateLimitFilter rateLimitFilter) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
+            // POST /logout is AuthController's token revocation, not the session logout filter.
+            .logout(logout -> logout.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 // Public endpoints
                 .requestMatchers("/register", "/login").permitAll()
-                .requestMatchers("/posts/search/**", "/posts/all").permitAll()
+                .requestMatchers("/posts/search/**", "/posts/suggest", "/posts/all", "/posts/all/stream").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+
+                // Operational endpoints (metrics, bulk imports) are restricted to administrators.
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/recruiter/**").hasRole("RECRUITER")
 
                 // Role-Based Authorization
                 .requestMatchers(HttpMethod.POST, "/posts/add").hasRole("RECRUITER")
+                .requestMatchers(HttpMethod.GET, "/posts/*/matches").hasRole("RECRUITER")
+                .requestMatchers(HttpMethod.GET, "/posts/*/applications").hasRole("RECRUITER")
+                .requestMatchers(HttpMethod.GET, "/posts/mine").hasRole("RECRUITER")
+                .requestMatchers(HttpMethod.GET, "/posts/*").permitAll()
                 .requestMatchers(HttpMethod.POST, "/candidate/profile").hasRole("JOB_SEEKER")
                 .requestMatchers(HttpMethod.GET, "/candidate/profile/**").authenticated()
+                .requestMatchers(HttpMethod.POST, "/candidate/resume").hasRole("JOB_SEEKER")
+                // Resumes hold personal data: recruiters and their owner only (checked in CandidateController).
+                .requestMatchers(HttpMethod.GET, "/candidate/resume/*").authenticated()
+                .requestMatchers(HttpMethod.HEAD, "/candidate/resume/*").authenticated()
                 
                 // --- NEW RULE FOR APPLYING ---
                 .requestMatchers(HttpMethod.POST, "/posts/apply/**").hasRole("JOB_SEEKER")
@@ -121,6 +132,7 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtRequestFilter.class)
             .exceptionHandling(exception -> exception
                 .authenticationEntryPoint(authenticationEntryPoint())
                 .accessDeniedHandler(accessDeniedHandler())
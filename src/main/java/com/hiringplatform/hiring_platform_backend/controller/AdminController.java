@@ -0,0 +1,58 @@
+package com.hiringplatform.hiring_platform_backend.controller;
+
+import com.hiringplatform.hiring_platform_backend.dto.ImportReport;
+import com.hiringplatform.hiring_platform_backend.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controller for administrative operations. Every endpoint requires the ADMIN role.
+ */
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+    /**
+     * Injected service that creates user accounts in bulk.
+     */
+    @Autowired
+    private UserImportService userImportService;
+
+    /**
+     * Handles POST requests to import user accounts in bulk, e.g. when onboarding a partner company.
+     * The request body is the file itself, sent as application/x-ndjson (one JSON object with
+     * username, password, email and role per line) or text/csv (with a header row naming those
+     * columns). It is read as a stream, so files of any size can be uploaded. The file is decoded
+     * with the charset parameter of the Content-Type, or as UTF-8 without one; a charset this JVM
+     * does not know is refused with 415 before the request reaches this method.
+     *
+     * @param request The request whose body holds the file.
+     * @return A report of the rows inserted and the rows skipped (with line numbers and reasons),
+     *         or a 400 error if the file cannot be read.
+     */
+    @PostMapping(value = "/users/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<?> importUsers(HttpServletRequest request) {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        UserImportService.Format format = contentType.isCompatibleWith(MediaType.valueOf("text/csv"))
+                ? UserImportService.Format.CSV
+                : UserImportService.Format.NDJSON;
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), charset))) {
+            ImportReport report = userImportService.importUsers(reader, format);
+            return ResponseEntity.ok(report);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("Could not read the uploaded file: " + e.getMessage());
+        }
+    }
+}
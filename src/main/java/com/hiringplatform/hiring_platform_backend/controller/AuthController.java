@@ -1,20 +1,37 @@
 package com.hiringplatform.hiring_platform_backend.controller;
 
 import com.hiringplatform.hiring_platform_backend.dto.AuthRequest;
+import com.hiringplatform.hiring_platform_backend.dto.AuthenticatedUser;
+import com.hiringplatform.hiring_platform_backend.dto.PasswordChangeRequest;
 import com.hiringplatform.hiring_platform_backend.model.User;
 import com.hiringplatform.hiring_platform_backend.repository.UserRepository;
+import com.hiringplatform.hiring_platform_backend.service.PasswordHashingService;
+import com.hiringplatform.hiring_platform_backend.service.TokenVersionService;
+import com.hiringplatform.hiring_platform_backend.service.UserCacheService;
 import com.hiringplatform.hiring_platform_backend.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * Controller responsible for handling authentication-related endpoints,
  * such as user registration and login.
@@ -28,6 +45,12 @@ public class AuthController {
     @Autowired
     private UserRepository userRepository;
 
+    /**
+     * Injected cache of user accounts, used for lookups by username.
+     */
+    @Autowired
+    private UserCacheService userCacheService;
+
     /**
      * Injected encoder for hashing passwords.
      */
@@ -46,25 +69,66 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    /**
+     * Injected bounded pool on which passwords are hashed and verified.
+     */
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    /**
+     * Injected service that revokes a user's tokens by bumping their token version.
+     */
+    @Autowired
+    private TokenVersionService tokenVersionService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * The Retry-After value, in seconds, sent when the hashing pool is full.
+     */
+    @Value("${security.bcrypt.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
     /**
      * Handles POST requests to the /register endpoint.
      * Creates a new user account, hashes the password, and saves it to the database.
      *
+     * The password is hashed on the bounded hashing pool, not on the request thread.
+     *
      * @param user The user details (username, password, role) from the request body.
-     * @return A success message or an error if the username is already taken.
+     * @return A success message, an error if the username is already taken, or a 503 if the hashing pool is saturated.
      */
     @PostMapping("/register")
-    public ResponseEntity<String> registerUser(@RequestBody User user) {
-        // Prevent duplicate usernames by checking if the user already exists.
-        if (userRepository.findByUsername(user.getUsername()).isPresent()) {
-            return ResponseEntity.badRequest().body("Error: Username is already taken!");
+    public CompletableFuture<ResponseEntity<String>> registerUser(@RequestBody User user) {
+        // Only the self-service roles may be chosen at registration; ADMIN accounts are provisioned separately.
+        if (!"RECRUITER".equals(user.getRole()) && !"JOB_SEEKER".equals(user.getRole())) {
+            return CompletableFuture.completedFuture(
+                ResponseEntity.badRequest().body("Error: Role must be RECRUITER or JOB_SEEKER."));
         }
 
-        // Securely hash the user's password before saving it to the database.
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        userRepository.save(user);
+        // Prevent duplicate usernames by checking if the user already exists.
+        if (userCacheService.findByUsername(user.getUsername()).isPresent()) {
+            return CompletableFuture.completedFuture(
+                ResponseEntity.badRequest().body("Error: Username is already taken!"));
+        }
 
-        return ResponseEntity.ok("User registered successfully!");
+        try {
+            return passwordHashingService.submit(() -> {
+                // Securely hash the user's password before saving it to the database.
+                user.setPassword(passwordEncoder.encode(user.getPassword()));
+                // Saving through the repository also drops any cached entry for this user.
+                try {
+                    userRepository.save(user);
+                } catch (DuplicateKeyException e) {
+                    // A concurrent registration won the race for this username (unique index).
+                    return ResponseEntity.badRequest().body("Error: Username is already taken!");
+                }
+                return ResponseEntity.ok("User registered successfully!");
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
+        }
     }
 
     /**
@@ -75,7 +139,21 @@ public class AuthController {
      * @return A ResponseEntity containing the JWT string or an error message.
      */
     @PostMapping("/login")
-    public ResponseEntity<String> loginUser(@RequestBody AuthRequest authRequest) {
+    public CompletableFuture<ResponseEntity<String>> loginUser(@RequestBody AuthRequest authRequest) {
+        try {
+            // Credential checks run BCrypt, so they go to the bounded hashing pool.
+            return passwordHashingService.submit(() -> authenticate(authRequest));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
+        }
+    }
+
+    /**
+     * Validates the credentials and issues a token. Runs on the hashing pool.
+     * If the stored hash was made with a different BCrypt cost than the configured one,
+     * the authentication provider rehashes it as part of a successful login.
+     */
+    private ResponseEntity<String> authenticate(AuthRequest authRequest) {
         try {
             // The AuthenticationManager validates the credentials using the configured AuthenticationProvider.
             Authentication authentication = authenticationManager.authenticate(
@@ -84,9 +162,10 @@ public class AuthController {
             
             // If authentication is successful, retrieve the authenticated user's details.
             final UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+            final User user = userCacheService.findByUsername(userDetails.getUsername()).orElseThrow();
 
-            // Generate a JWT for the authenticated user.
-            final String jwt = jwtUtil.generateToken(userDetails);
+            // Generate a JWT for the authenticated user, carrying their id, role and token version.
+            final String jwt = jwtUtil.generateToken(user);
             
             // Return the JWT to the client.
             return ResponseEntity.ok(jwt);
@@ -96,4 +175,61 @@ public class AuthController {
             return ResponseEntity.status(401).body("Invalid credentials");
         }
     }
+
+    /**
+     * Handles POST requests to the /logout endpoint.
+     * Revokes every token issued to the user so far, on all of their devices; the token of
+     * this request is rejected from the next request on.
+     *
+     * @param currentUser The authenticated user, built from the verified token's claims.
+     * @return A confirmation message.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<String> logoutUser(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+        tokenVersionService.revokeAll(currentUser.getId());
+        return ResponseEntity.ok("Logged out.");
+    }
+
+    /**
+     * Handles POST requests to the /password endpoint.
+     * Checks the current password, stores the new one and revokes every token issued so far,
+     * so a stolen token stops working with the old password. Both hashes run on the hashing pool.
+     *
+     * @param request The current and the new password.
+     * @param currentUser The authenticated user, built from the verified token's claims.
+     * @return A new token for the caller, 400 if the new password is empty, 401 if the current
+     *         password is wrong, or 503 if the hashing pool is saturated.
+     */
+    @PostMapping("/password")
+    public CompletableFuture<ResponseEntity<String>> changePassword(@RequestBody PasswordChangeRequest request,
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        if (request.getNewPassword() == null || request.getNewPassword().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Error: The new password is empty."));
+        }
+        try {
+            return passwordHashingService.submit(() -> {
+                User user = userCacheService.findById(currentUser.getId()).orElse(null);
+                if (user == null || request.getCurrentPassword() == null
+                        || !passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+                    return ResponseEntity.status(401).body("Invalid credentials");
+                }
+                mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(user.getId())),
+                        Update.update("password", passwordEncoder.encode(request.getNewPassword())), User.class);
+                // Also drops the cached user, so the reload below sees the new version.
+                tokenVersionService.revokeAll(user.getId());
+                return ResponseEntity.ok(jwtUtil.generateToken(userCacheService.findById(user.getId()).orElseThrow()));
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
+        }
+    }
+
+    /**
+     * The response for a request turned away because the hashing pool is full.
+     */
+    private ResponseEntity<String> busy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+            .body("The server is busy. Please try again shortly.");
+    }
 }
@@ -1,17 +1,49 @@
 package com.hiringplatform.hiring_platform_backend.controller;
 
+import com.hiringplatform.hiring_platform_backend.dto.AuthenticatedUser;
+import com.hiringplatform.hiring_platform_backend.dto.MatchResult;
+import com.hiringplatform.hiring_platform_backend.dto.ProfileBatchRequest;
+import com.hiringplatform.hiring_platform_backend.dto.ProfileBatchResponse;
+import com.hiringplatform.hiring_platform_backend.dto.ResumeUpload;
 import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
-import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
 import com.hiringplatform.hiring_platform_backend.repository.CandidateProfileRepository;
-import com.hiringplatform.hiring_platform_backend.repository.UserRepository;
+import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
+import com.hiringplatform.hiring_platform_backend.service.CandidateProfileService;
+import com.hiringplatform.hiring_platform_backend.service.MatchingEngine;
+import com.hiringplatform.hiring_platform_backend.service.ResumeStorageService;
+import com.hiringplatform.hiring_platform_backend.util.ByteRange;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Controller responsible for handling API endpoints related to candidate profiles.
@@ -20,6 +52,24 @@ import java.util.Optional;
 @RequestMapping("/candidate")
 public class CandidateController {
 
+    /**
+     * The most user IDs accepted by one batch profile lookup.
+     */
+    private static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * The path under which stored resumes are served, followed by their id.
+     */
+    private static final String RESUME_PATH = "/candidate/resume/";
+
+    /**
+     * Request attributes through which Tomcat's NIO connector sends a file with sendfile (zero-copy).
+     */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     /**
      * Injected repository for candidate profile data access.
      */
@@ -27,10 +77,38 @@ public class CandidateController {
     private CandidateProfileRepository candidateProfileRepository;
 
     /**
-     * Injected repository for user data access, needed to link profiles to users.
+     * Injected repository for job posting data access, used to resolve matched jobs.
+     */
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    /**
+     * Injected service that reads profiles through a short-lived cache.
+     */
+    @Autowired
+    private CandidateProfileService candidateProfileService;
+
+    /**
+     * Injected service that stores uploaded resumes on local disk.
+     */
+    @Autowired
+    private ResumeStorageService resumeStorageService;
+
+    /**
+     * The externally visible address of this API, used to build resume links. Never taken from
+     * the request, whose Host and X-Forwarded-* headers are chosen by the client.
+     */
+    @Value("${resumes.public-base-url:http://localhost:8080}")
+    private String publicBaseUrl;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Injected engine that ranks jobs against a candidate's skills.
      */
     @Autowired
-    private UserRepository userRepository;
+    private MatchingEngine matchingEngine;
 
     /**
      * Handles POST requests to create or update a candidate's profile.
@@ -38,21 +116,12 @@ public class CandidateController {
      * can modify their own profile.
      *
      * @param profile The candidate profile data sent in the request body.
+     * @param currentUser The authenticated user, built from the verified token's claims.
      * @return A ResponseEntity containing the saved profile or an error message.
      */
     @PostMapping("/profile")
-    public ResponseEntity<?> saveOrUpdateProfile(@RequestBody CandidateProfile profile) {
-        // Retrieve the currently authenticated user's details from the security context.
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String currentUsername = authentication.getName();
-
-        // Fetch the full user object from the database to get their ID and role.
-        Optional<User> userOptional = userRepository.findByUsername(currentUsername);
-        if (userOptional.isEmpty()) {
-            return new ResponseEntity<>("Authenticated user not found in the database!", HttpStatus.NOT_FOUND);
-        }
-        User currentUser = userOptional.get();
-
+    public ResponseEntity<?> saveOrUpdateProfile(@RequestBody CandidateProfile profile,
+                                                 @AuthenticationPrincipal AuthenticatedUser currentUser) {
         // Although SecurityConfig provides the primary layer of role-based security,
         // this check adds a secondary, explicit verification.
         if (!"JOB_SEEKER".equals(currentUser.getRole())) {
@@ -76,7 +145,7 @@ public class CandidateController {
      */
     @GetMapping("/profile/{userId}")
     public ResponseEntity<?> getProfileByUserId(@PathVariable String userId) {
-        Optional<CandidateProfile> profileOptional = candidateProfileRepository.findByUserId(userId);
+        Optional<CandidateProfile> profileOptional = candidateProfileService.findByUserId(userId);
 
         if (profileOptional.isEmpty()) {
             return new ResponseEntity<>("Profile not found for the specified user.", HttpStatus.NOT_FOUND);
@@ -84,4 +153,204 @@ public class CandidateController {
 
         return new ResponseEntity<>(profileOptional.get(), HttpStatus.OK);
     }
+
+    /**
+     * Handles POST requests to upload the logged-in job seeker's resume.
+     * The request body is the file itself (PDF, DOC or DOCX), streamed to disk as it arrives.
+     * Identical files are stored once. If the candidate already has a profile, its resumeUrl is
+     * pointed at the stored file; otherwise the returned URL can be saved with the profile.
+     *
+     * @param request The request whose body holds the file.
+     * @param currentUser The authenticated user, built from the verified token's claims.
+     * @return 201 with the resume's URL, digest and size; 400 for an unsupported file; 413 if it is too large.
+     */
+    @PostMapping("/resume")
+    public ResponseEntity<?> uploadResume(HttpServletRequest request, @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        if (request.getContentLengthLong() > resumeStorageService.getMaxBytes()) {
+            return new ResponseEntity<>("The file is larger than " + resumeStorageService.getMaxBytes() + " bytes.",
+                    HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+        ResumeStorageService.StoredResume stored;
+        try {
+            stored = resumeStorageService.store(request.getInputStream());
+        } catch (MaxUploadSizeExceededException e) {
+            return new ResponseEntity<>("The file is larger than " + resumeStorageService.getMaxBytes() + " bytes.",
+                    HttpStatus.PAYLOAD_TOO_LARGE);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IOException e) {
+            return new ResponseEntity<>("Could not store the file: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        String resumeUrl = UriComponentsBuilder.fromHttpUrl(publicBaseUrl)
+                .path(RESUME_PATH + "{id}").buildAndExpand(stored.id()).toUriString();
+        mongoTemplate.updateFirst(Query.query(Criteria.where("userId").is(currentUser.getId())),
+                Update.update("resumeUrl", resumeUrl), CandidateProfile.class);
+        // The update bypasses the mapping events, so drop the cached profile explicitly.
+        candidateProfileService.evict(currentUser.getId());
+
+        return ResponseEntity.created(URI.create(resumeUrl)).body(new ResumeUpload(resumeUrl, stored.id(), stored.size()));
+    }
+
+    /**
+     * Handles GET (and HEAD) requests for a stored resume.
+     * Only recruiters and the candidate whose profile links to the resume may read it; anyone else
+     * gets 403, whether or not the resume exists.
+     * The id is the file's SHA-256 digest, so its content never changes:
+     * it doubles as a strong ETag (If-None-Match answers 304), and single byte ranges are served
+     * with 206 (If-Range is honoured; several ranges are answered with the whole file). On Tomcat
+     * the bytes go from the file to the socket with sendfile, without passing through the heap;
+     * elsewhere they are copied with FileChannel.transferTo.
+     *
+     * @param id The resume's id.
+     * @param currentUser The authenticated user, built from the verified token's claims.
+     * @param request The current request.
+     * @param response The response the file is written to.
+     * @throws IOException If the file cannot be read or the client goes away.
+     */
+    @GetMapping("/resume/{id}")
+    public void downloadResume(@PathVariable String id, @AuthenticationPrincipal AuthenticatedUser currentUser,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!mayReadResume(currentUser, id)) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Access Denied: You can only view your own resume.");
+            return;
+        }
+        Optional<ResumeStorageService.StoredResume> found = resumeStorageService.find(id);
+        if (found.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "Resume not found.");
+            return;
+        }
+        ResumeStorageService.StoredResume resume = found.get();
+        String etag = resume.etag();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        ByteRange range = null;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.equals(etag)) {
+            try {
+                range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), resume.size());
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + resume.size());
+                return;
+            }
+        }
+        long start = range == null ? 0 : range.start();
+        long length = range == null ? resume.size() : range.length();
+        if (range != null) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + resume.size());
+        }
+        response.setContentType(resume.contentType());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"resume-" + id.substring(0, 12) + "\"");
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the file after this method returns, with FileChannel.transferTo to the socket.
+            request.setAttribute(SENDFILE_FILENAME, resume.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel file = FileChannel.open(resume.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long end = start + length;
+            while (position < end) {
+                long sent = file.transferTo(position, end - position, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+    }
+
+    /**
+     * Recruiters may read every resume, a candidate only the one their profile links to.
+     * Stored files are shared by identical uploads, so ownership is taken from the profile.
+     */
+    private boolean mayReadResume(AuthenticatedUser user, String id) {
+        if ("RECRUITER".equals(user.getRole())) {
+            return true;
+        }
+        return candidateProfileService.findByUserId(user.getId())
+                .map(CandidateProfile::getResumeUrl)
+                .filter(url -> url.endsWith(RESUME_PATH + id))
+                .isPresent();
+    }
+
+    /**
+     * Checks an If-None-Match header (a list of entity tags, or *) against the current tag.
+     */
+    private static boolean etagMatches(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Handles POST requests for the profiles of several users at once, e.g. a job's applicants.
+     * Profiles not cached are fetched with a single $in query on the indexed userId field.
+     *
+     * @param request The user IDs (at most 500); repeated IDs are looked up once.
+     * @return The profiles in request order and the user IDs without a profile, or a 400 if the list is empty or too long.
+     */
+    @PostMapping("/profiles/batch")
+    public ResponseEntity<?> getProfilesByUserIds(@RequestBody ProfileBatchRequest request) {
+        List<String> userIds = request.getUserIds();
+        if (userIds == null || userIds.isEmpty() || userIds.size() > MAX_BATCH_SIZE) {
+            return new ResponseEntity<>("Provide between 1 and " + MAX_BATCH_SIZE + " user IDs.", HttpStatus.BAD_REQUEST);
+        }
+        Set<String> distinct = new LinkedHashSet<>(userIds);
+        distinct.remove(null);
+        Map<String, CandidateProfile> found = candidateProfileService.findByUserIds(distinct);
+        List<String> missing = distinct.stream().filter(userId -> !found.containsKey(userId)).toList();
+        return new ResponseEntity<>(new ProfileBatchResponse(new ArrayList<>(found.values()), missing), HttpStatus.OK);
+    }
+
+    /**
+     * Handles GET requests for the job postings that best match a candidate's skills.
+     *
+     * @param userId The unique ID of the user whose profile is matched.
+     * @param k The maximum number of jobs to return (1 to 100).
+     * @return The ranked job postings with their scores, or a 404 if the user has no profile.
+     */
+    @GetMapping("/{userId}/matches")
+    public ResponseEntity<?> matchJobs(@PathVariable String userId, @RequestParam(defaultValue = "10") int k) {
+        if (k < 1 || k > 100) {
+            return new ResponseEntity<>("k must be between 1 and 100.", HttpStatus.BAD_REQUEST);
+        }
+        Optional<List<MatchingEngine.Match>> matches = matchingEngine.topJobsForCandidate(userId, k);
+        if (matches.isEmpty()) {
+            return new ResponseEntity<>("Profile not found for the specified user.", HttpStatus.NOT_FOUND);
+        }
+
+        // Resolve all matched postings with one query, then restore the ranking order.
+        List<String> jobIds = matches.get().stream().map(MatchingEngine.Match::getId).toList();
+        Map<String, JobPosting> jobs = jobPostingRepository.findAllById(jobIds).stream()
+                .collect(Collectors.toMap(JobPosting::getId, Function.identity()));
+        List<MatchResult<JobPosting>> results = matches.get().stream()
+                .filter(match -> jobs.containsKey(match.getId()))
+                .map(match -> new MatchResult<>(jobs.get(match.getId()), match.getScore(), match.getOverlap()))
+                .toList();
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
 }
@@ -1,109 +1,499 @@
 package com.hiringplatform.hiring_platform_backend.controller;
 
+import com.hiringplatform.hiring_platform_backend.dto.AuthenticatedUser;
+import com.hiringplatform.hiring_platform_backend.dto.ExperienceBucket;
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.dto.MatchResult;
+import com.hiringplatform.hiring_platform_backend.dto.SearchCursor;
+import com.hiringplatform.hiring_platform_backend.dto.SearchPage;
+import com.hiringplatform.hiring_platform_backend.dto.SearchQuery;
+import com.hiringplatform.hiring_platform_backend.dto.SearchSort;
+import com.hiringplatform.hiring_platform_backend.model.Application;
 import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage;
 import com.hiringplatform.hiring_platform_backend.model.JobPosting;
 import com.hiringplatform.hiring_platform_backend.model.User;
-import com.hiringplatform.hiring_platform_backend.repository.CandidateProfileRepository;
+import com.hiringplatform.hiring_platform_backend.repository.ApplicationRepository;
 import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
 import com.hiringplatform.hiring_platform_backend.repository.SearchRepository;
-import com.hiringplatform.hiring_platform_backend.repository.UserRepository;
+import com.hiringplatform.hiring_platform_backend.service.ApplicationLookupService;
+import com.hiringplatform.hiring_platform_backend.service.ApplicationWriteBuffer;
+import com.hiringplatform.hiring_platform_backend.service.CandidateProfileService;
+import com.hiringplatform.hiring_platform_backend.service.CatalogVersion;
 import com.hiringplatform.hiring_platform_backend.service.EmailService; // <-- IMPORT EMAIL SERVICE
+import com.hiringplatform.hiring_platform_backend.service.JobPostingCatalog;
+import com.hiringplatform.hiring_platform_backend.service.MatchingEngine;
+import com.hiringplatform.hiring_platform_backend.service.SuggestionService;
+import com.hiringplatform.hiring_platform_backend.util.Threads;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mongodb.client.MongoCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.io.ByteArrayOutputStream;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/posts")
 public class PostController {
 
+    /**
+     * The largest page a client may request from the paginated endpoints.
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * The media type of the streaming listing: one JSON document per line.
+     */
+    private static final String NDJSON = "application/x-ndjson";
+
+    /**
+     * The number of postings fetched from MongoDB, and flushed to the client, at a time.
+     */
+    @Value("${posts.stream.batch-size:500}")
+    private int streamBatchSize;
+
+    /**
+     * How long a streamed listing may run. Set here rather than through spring.mvc.async.request-timeout
+     * so that other asynchronous handlers keep the shorter default.
+     */
+    @Value("${posts.stream.timeout-seconds:3600}")
+    private long streamTimeoutSeconds;
+
+    /**
+     * Runs the streamed listings, one thread each. A stream holds its thread (and a MongoDB cursor)
+     * for as long as the client keeps reading, so the pool has no queue: when every thread is busy
+     * a new stream is refused at once instead of waiting behind exports that may run for an hour.
+     */
+    private final ThreadPoolExecutor streamExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    /**
+     * Serves listing and lookups from memory, or from MongoDB with catalog.enabled=false or no replica set.
+     */
+    @Autowired
+    private JobPostingCatalog catalog;
+
     @Autowired
     private JobPostingRepository jobPostingRepository;
     
     @Autowired
     private SearchRepository srepo;
+    
+    @Autowired
+    private CandidateProfileService candidateProfileService;
 
+    /**
+     * Stores applications in batches and queues their recruiter emails.
+     */
     @Autowired
-    private UserRepository userRepository;
-    
+    private ApplicationWriteBuffer applicationWriteBuffer;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    /**
+     * Fetches the profile, job and recruiter of an application concurrently.
+     */
+    @Autowired
+    private ApplicationLookupService applicationLookupService;
+
     @Autowired
-    private CandidateProfileRepository candidateProfileRepository; // <-- Inject Candidate Repo
+    private MatchingEngine matchingEngine;
 
     @Autowired
-    private EmailService emailService; // <-- Inject Email Service
+    private SuggestionService suggestionService;
+
+    @Autowired
+    public PostController(@Value("${posts.stream.max-concurrent:4}") int maxConcurrentStreams,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        this.streamExecutor = new ThreadPoolExecutor(maxConcurrentStreams, maxConcurrentStreams, 0, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), Threads.factory("posts-stream", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, streamExecutor, "posts-stream");
+    }
+
+    /**
+     * Stops the streams still running; their clients see the response end early.
+     */
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+    }
 
     // ... (existing getAllPosts, addPost, and search methods remain the same)
+    /**
+     * Handles GET requests for the job listing.
+     * Only the summary fields are read from MongoDB, with the description cut to a snippet;
+     * the full posting is served by GET /posts/{id}.
+     *
+     * Without a size every summary is returned; with one, postings come newest first one page
+     * at a time and the 'nextCursor' of a page is passed back as 'cursor' for the next.
+     * While the job catalog follows the change stream (the default on a replica set, which every
+     * Atlas cluster is), responses carry a strong ETag of the catalog version, and a request whose
+     * If-None-Match still names it is answered with 304 Not Modified without reading any postings.
+     * With the catalog disabled or on a standalone mongod there is no version and no ETag is sent.
+     *
+     * @param size The maximum number of summaries per page (1 to 100), or omitted for all of them.
+     * @param cursor The continuation cursor from the previous page, omitted for the first page.
+     * @param request The current request, used to evaluate If-None-Match.
+     * @return The summaries (a list, or a page when size is given), a 304, or a 400 if a parameter is invalid.
+     */
     @GetMapping("/all")
-    public List<JobPosting> getAllPosts() { return jobPostingRepository.findAll(); }
+    public ResponseEntity<?> getAllPosts(@RequestParam(required = false) Integer size,
+                                         @RequestParam(required = false) String cursor,
+                                         WebRequest request) {
+        // Read the version before the data: a write in between then only makes the ETag stale, never the body.
+        String etag = catalogVersion.etag();
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        if (size == null) {
+            return ResponseEntity.ok().eTag(etag).body(catalog.findAllSummaries());
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        String beforeId;
+        try {
+            beforeId = listingCursorId(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid cursor: " + e.getMessage());
+        }
+        List<JobPostingSummary> posts = catalog.findSummariesBefore(beforeId, size + 1);
+        return ResponseEntity.ok().eTag(etag).body(toListingPage(posts, size));
+    }
+
+    /**
+     * Handles GET requests for the authenticated recruiter's own job postings.
+     * Uses the (recruiterId, _id) index, so the cost is proportional to the recruiter's postings.
+     *
+     * @param size The maximum number of summaries per page (1 to 100), or omitted for all of them.
+     * @param cursor The continuation cursor from the previous page, omitted for the first page.
+     * @param principal The authenticated recruiter.
+     * @return The summaries (a list, or a page when size is given), or a 400 if a parameter is invalid.
+     */
+    @GetMapping("/mine")
+    public ResponseEntity<?> getMyPosts(@RequestParam(required = false) Integer size,
+                                        @RequestParam(required = false) String cursor,
+                                        @AuthenticationPrincipal AuthenticatedUser principal) {
+        String recruiterId = principal.getId();
+
+        if (size == null) {
+            return ResponseEntity.ok(jobPostingRepository.findSummariesByRecruiterBefore(recruiterId, null, 0));
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        String beforeId;
+        try {
+            beforeId = listingCursorId(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid cursor: " + e.getMessage());
+        }
+        List<JobPostingSummary> posts = jobPostingRepository.findSummariesByRecruiterBefore(recruiterId, beforeId, size + 1);
+        return ResponseEntity.ok(toListingPage(posts, size));
+    }
+
+    /**
+     * Handles GET requests for the job listing as a stream of newline-delimited JSON.
+     * Summaries are written straight from a MongoDB cursor as they arrive, so memory use does
+     * not grow with the size of the catalog. Each batch is sent before the next one is
+     * requested from the server; a slow client therefore blocks the writer (and with it the
+     * cursor) instead of having the response buffered on the server. The response is cut off
+     * after posts.stream.timeout-seconds.
+     *
+     * At most posts.stream.max-concurrent streams run at once, on their own pool; further
+     * requests are answered with 503 and a Retry-After header.
+     *
+     * @return An emitter producing one JSON summary per line, or a 503 if too many streams are running.
+     */
+    @GetMapping(value = "/all/stream", produces = NDJSON)
+    public ResponseEntity<ResponseBodyEmitter> streamAllPosts() {
+        MediaType ndjson = MediaType.parseMediaType(NDJSON);
+        ObjectWriter writer = objectMapper.writerFor(JobPostingSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(streamTimeoutSeconds * 1000);
+        try {
+            streamExecutor.execute(() -> streamSummaries(emitter, writer, ndjson));
+        } catch (RejectedExecutionException e) {
+            // No body: the declared emitter type is what routes this handler to streaming.
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+        return ResponseEntity.ok().contentType(ndjson).body(emitter);
+    }
+
+    /**
+     * Writes every summary to the emitter in batches. Runs on the stream pool.
+     */
+    private void streamSummaries(ResponseBodyEmitter emitter, ObjectWriter writer, MediaType ndjson) {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        try (MongoCursor<JobPostingSummary> cursor = jobPostingRepository.openSummaryCursor(streamBatchSize);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(batch)) {
+            int inBatch = 0;
+            while (cursor.hasNext()) {
+                writer.writeValue(generator, cursor.next());
+                generator.writeRaw('\n');
+                if (++inBatch == streamBatchSize) {
+                    generator.flush();
+                    emitter.send(batch.toByteArray(), ndjson);
+                    batch.reset();
+                    inBatch = 0;
+                }
+            }
+            generator.flush();
+            if (batch.size() > 0) {
+                emitter.send(batch.toByteArray(), ndjson);
+            }
+        } catch (Exception e) {
+            // Also reached when the client went away or the timeout completed the emitter.
+            emitter.completeWithError(e);
+            return;
+        }
+        // Only once the cursor is closed, so a finished response never still holds one.
+        emitter.complete();
+    }
+
+    /**
+     * Handles GET requests for a single job posting, including its full description.
+     *
+     * @param id The ID of the job posting.
+     * @return The job posting, or a 404 error if it does not exist.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getPost(@PathVariable String id) {
+        Optional<JobPosting> post = catalog.findById(id);
+        if (post.isEmpty()) {
+            return ResponseEntity.status(404).body("Job not found.");
+        }
+        return ResponseEntity.ok(post.get());
+    }
+
     @PostMapping("/add")
-    public ResponseEntity<?> addPost(@RequestBody JobPosting post) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String currentUsername = authentication.getName();
-        Optional<User> userOptional = userRepository.findByUsername(currentUsername);
-        if (userOptional.isEmpty()) { return ResponseEntity.status(404).body("Recruiter user not found!"); }
-        post.setRecruiterId(userOptional.get().getId());
+    public ResponseEntity<?> addPost(@RequestBody JobPosting post, @AuthenticationPrincipal AuthenticatedUser principal) {
+        // The recruiter's id comes from the verified token; no user lookup is needed.
+        post.setRecruiterId(principal.getId());
         JobPosting savedPost = jobPostingRepository.save(post);
         return ResponseEntity.ok(savedPost);
     }
     @GetMapping("/search/{text}")
     public List<JobPosting> search(@PathVariable String text) { return srepo.findByText(text); }
 
+    /**
+     * Handles paginated keyword searches.
+     * Results are returned one page at a time; the 'nextCursor' of a page is passed back
+     * as the 'cursor' parameter to fetch the following page with the same sort and filters.
+     * With facets=true the first page also carries skill and experience-bucket counts over
+     * the whole filtered match set, computed in the same pass as the hits.
+     *
+     * @param q The keyword or phrase to search for.
+     * @param size The maximum number of results per page (1 to 100).
+     * @param sort The ordering: relevance, experience or newest.
+     * @param cursor The continuation cursor from the previous page, omitted for the first page.
+     * @param skill Skills every result must list; may be repeated.
+     * @param experience An experience bucket results must fall in: 0-1, 2-4, 5-9 or 10+.
+     * @param facets Whether to include facet counts.
+     * @param fuzzy Whether to tolerate typos such as "javscript" in the query.
+     * @return The requested page, or a 400 error if a parameter is invalid.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPage(@RequestParam String q,
+                                        @RequestParam(defaultValue = "20") int size,
+                                        @RequestParam(defaultValue = "relevance") String sort,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) List<String> skill,
+                                        @RequestParam(required = false) String experience,
+                                        @RequestParam(defaultValue = "false") boolean facets,
+                                        @RequestParam(defaultValue = "false") boolean fuzzy) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        try {
+            SearchQuery query = new SearchQuery(q, size, SearchSort.parse(sort),
+                    cursor == null ? null : SearchCursor.decode(cursor),
+                    skill, experience == null ? null : ExperienceBucket.parse(experience), facets, fuzzy);
+            // A relevance cursor's value is only checked by the engine that reads it.
+            return ResponseEntity.ok(srepo.findPage(query));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid search parameters: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Handles GET requests for type-ahead suggestions while the user types in the search box.
+     * Served entirely from memory, so it is cheap enough to call on every keystroke.
+     *
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of suggestions (1 to 10).
+     * @return Matching roles and skills, most frequently used first.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > SuggestionService.MAX_SUGGESTIONS) {
+            return ResponseEntity.badRequest().body("limit must be between 1 and " + SuggestionService.MAX_SUGGESTIONS + ".");
+        }
+        return ResponseEntity.ok(suggestionService.suggest(prefix, limit));
+    }
+
+    /**
+     * Handles GET requests for the candidates that best match a job posting's skill requirements.
+     *
+     * @param jobId The ID of the job posting.
+     * @param k The maximum number of candidates to return (1 to 100).
+     * @return The ranked candidate profiles with their scores, or a 404 if the job is unknown.
+     */
+    @GetMapping("/{jobId}/matches")
+    public ResponseEntity<?> matchCandidates(@PathVariable String jobId, @RequestParam(defaultValue = "10") int k) {
+        if (k < 1 || k > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("k must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        Optional<List<MatchingEngine.Match>> matches = matchingEngine.topCandidatesForJob(jobId, k);
+        if (matches.isEmpty()) {
+            return ResponseEntity.status(404).body("Job not found.");
+        }
+
+        // Resolve all matched profiles with at most one query, then restore the ranking order.
+        List<String> userIds = matches.get().stream().map(MatchingEngine.Match::getId).toList();
+        Map<String, CandidateProfile> profiles = candidateProfileService.findByUserIds(userIds);
+        List<MatchResult<CandidateProfile>> results = matches.get().stream()
+                .filter(match -> profiles.containsKey(match.getId()))
+                .map(match -> new MatchResult<>(profiles.get(match.getId()), match.getScore(), match.getOverlap()))
+                .toList();
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Decodes a listing cursor (newest-first, keyed on _id) into the id of the last posting seen.
+     *
+     * @return The id, or null when there is no cursor.
+     * @throws IllegalArgumentException If the cursor is malformed or belongs to another ordering.
+     */
+    private static String listingCursorId(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        SearchCursor decoded = SearchCursor.decode(cursor);
+        if (decoded.getSort() != SearchSort.NEWEST) {
+            throw new IllegalArgumentException("cursor does not belong to this listing");
+        }
+        return decoded.getId();
+    }
+
+    /**
+     * Turns size + 1 fetched summaries into a page of at most size, with a cursor if more remain.
+     */
+    private static SearchPage toListingPage(List<JobPostingSummary> posts, int size) {
+        String nextCursor = null;
+        if (posts.size() > size) {
+            posts.remove(size);
+            nextCursor = new SearchCursor(SearchSort.NEWEST, "", posts.get(size - 1).getId()).encode();
+        }
+        return new SearchPage(posts, nextCursor);
+    }
 
     /**
      * Handles POST requests for a job seeker to apply for a job.
-     * Triggers an email notification to the recruiter who posted the job.
+     * The application is queued for storage and stored with the next batch (see ApplicationWriteBuffer);
+     * the email to the recruiter is queued once it is stored. A repeated application answers 409,
+     * whether the first one is already stored or still queued; only two applications racing each
+     * other can both be accepted, and the unique index then stores one of them.
      *
      * @param jobId The ID of the job being applied for.
-     * @return A success or error message.
+     * @param principal The authenticated candidate.
+     * @return 202 when the application is accepted, 409 if it is a duplicate, 503 when the queue is full.
      */
     @PostMapping("/apply/{jobId}")
-    public ResponseEntity<String> applyForJob(@PathVariable String jobId) {
-        // 1. Get the currently authenticated user (the candidate)
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String candidateUsername = authentication.getName();
-        Optional<User> candidateUserOptional = userRepository.findByUsername(candidateUsername);
-        if (candidateUserOptional.isEmpty()) {
-            return ResponseEntity.status(404).body("Applying user not found.");
-        }
-        User candidateUser = candidateUserOptional.get();
-
-        // 2. Get the candidate's profile
-        Optional<CandidateProfile> candidateProfileOptional = candidateProfileRepository.findByUserId(candidateUser.getId());
-        if (candidateProfileOptional.isEmpty()) {
+    public ResponseEntity<String> applyForJob(@PathVariable String jobId, @AuthenticationPrincipal AuthenticatedUser principal) {
+        // 1. Fetch the candidate's profile (their user id comes from the verified token) and any stored application alongside the job and its recruiter
+        ApplicationLookupService.ApplyContext context = applicationLookupService.load(principal.getId(), jobId);
+        if (context.alreadyApplied()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("You have already applied for this job.");
+        }
+        if (context.profile().isEmpty()) {
             return ResponseEntity.status(400).body("Please create your profile before applying.");
         }
-        CandidateProfile candidateProfile = candidateProfileOptional.get();
+        CandidateProfile candidateProfile = context.profile().get();
 
-        // 3. Find the job posting
-        Optional<JobPosting> jobOptional = jobPostingRepository.findById(jobId);
-        if (jobOptional.isEmpty()) {
+        // 2. Check the job posting
+        if (context.job().isEmpty()) {
             return ResponseEntity.status(404).body("Job not found.");
         }
-        JobPosting job = jobOptional.get();
+        JobPosting job = context.job().get();
 
-        // 4. Find the recruiter's details
-        Optional<User> recruiterUserOptional = userRepository.findById(job.getRecruiterId());
-        if (recruiterUserOptional.isEmpty()) {
+        // 3. Check the recruiter's details
+        if (context.recruiter().isEmpty()) {
             return ResponseEntity.status(500).body("Could not find the recruiter for this job.");
         }
-        User recruiter = recruiterUserOptional.get();
-
-        // 5. Send the email
-        String subject = "New Application for " + job.getRole();
-        String body = "Hello,\n\nA new candidate has applied for the '" + job.getRole() + "' position.\n\n"
-                    + "Candidate Name: " + candidateProfile.getFullName() + "\n"
-                    + "Candidate Email: " + candidateProfile.getEmail() + "\n"
-                    + "Candidate Experience: " + candidateProfile.getTotalExperience() + " years\n"
-                    + "Candidate Skills: " + String.join(", ", candidateProfile.getSkills()) + "\n\n"
-                    + "You can view their resume here: " + candidateProfile.getResumeUrl() + "\n\n"
-                    + "Thank you,\nThe Hiring Platform";
-        
-        emailService.sendEmail(recruiter.getEmail(), subject, body);
-
-        return ResponseEntity.ok("Application submitted successfully!");
+        User recruiter = context.recruiter().get();
+
+        // 4. Compose the recruiter's notification (a digest item unless they asked for immediate emails); it is queued once the application is stored
+        Date now = new Date();
+        EmailOutboxMessage notification = EmailService.applicationNotification(recruiter, job, candidateProfile, now);
+
+        // 5. Queue the application; a concurrent duplicate that slipped past the check is dropped by the unique index
+        Application application = new Application();
+        application.setJobId(job.getId());
+        application.setCandidateUserId(principal.getId());
+        application.setRecruiterId(job.getRecruiterId());
+        application.setAppliedAt(now);
+        switch (applicationWriteBuffer.submit(application, notification)) {
+            case DUPLICATE:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("You have already applied for this job.");
+            case FULL:
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body("Too many applications right now. Please try again in a moment.");
+            default:
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body("Application submitted successfully!");
+        }
+    }
+
+    /**
+     * Handles GET requests for the applications to one of the authenticated recruiter's jobs.
+     * Applications submitted in the last moments may not be listed until their batch is written.
+     *
+     * @param jobId The ID of the job posting.
+     * @param principal The authenticated recruiter.
+     * @return The applications, oldest first, 404 if the job does not exist, or 403 if it is someone else's.
+     */
+    @GetMapping("/{jobId}/applications")
+    public ResponseEntity<?> getApplications(@PathVariable String jobId, @AuthenticationPrincipal AuthenticatedUser principal) {
+        Optional<JobPosting> job = catalog.findById(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Job not found.");
+        }
+        if (!principal.getId().equals(job.get().getRecruiterId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Access Denied: This job belongs to another recruiter.");
+        }
+        return ResponseEntity.ok(applicationRepository.findByJobIdOrderByAppliedAtAsc(jobId));
     }
-}
\ No newline at end of file
+}
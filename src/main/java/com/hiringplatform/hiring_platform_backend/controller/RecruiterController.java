@@ -0,0 +1,66 @@
+package com.hiringplatform.hiring_platform_backend.controller;
+
+import com.hiringplatform.hiring_platform_backend.dto.AuthenticatedUser;
+import com.hiringplatform.hiring_platform_backend.dto.EmailPreferences;
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.service.UserCacheService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller for a recruiter's own account settings. Every endpoint requires the RECRUITER role.
+ */
+@RestController
+@RequestMapping("/recruiter")
+public class RecruiterController {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Holds the cached recruiter accounts read when applications arrive.
+     */
+    @Autowired
+    private UserCacheService userCacheService;
+
+    /**
+     * Handles GET requests for the authenticated recruiter's email settings.
+     *
+     * @param principal The authenticated recruiter.
+     * @return The current settings.
+     */
+    @GetMapping("/email-preferences")
+    public ResponseEntity<?> getEmailPreferences(@AuthenticationPrincipal AuthenticatedUser principal) {
+        return userCacheService.findById(principal.getId())
+                .<ResponseEntity<?>>map(user -> {
+                    EmailPreferences preferences = new EmailPreferences();
+                    preferences.setImmediateApplicationEmails(user.isImmediateApplicationEmails());
+                    return ResponseEntity.ok(preferences);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Handles PUT requests to choose between an email per application and periodic digests.
+     * Only this field is written, so the rest of the account is never overwritten.
+     *
+     * @param preferences The new settings.
+     * @param principal The authenticated recruiter.
+     * @return The stored settings.
+     */
+    @PutMapping("/email-preferences")
+    public ResponseEntity<EmailPreferences> updateEmailPreferences(@RequestBody EmailPreferences preferences,
+                                                                   @AuthenticationPrincipal AuthenticatedUser principal) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(principal.getId())),
+                Update.update("immediateApplicationEmails", preferences.isImmediateApplicationEmails()), User.class);
+        // The update bypasses the mapping events, so drop the cached account explicitly.
+        userCacheService.evict(principal.getId());
+        return ResponseEntity.ok(preferences);
+    }
+}
@@ -0,0 +1,35 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.security.Principal;
+
+/**
+ * The principal of a request authenticated with an access token.
+ * It is built from the token's verified claims, so controllers can read the caller's
+ * id and role without looking the user up again.
+ */
+public class AuthenticatedUser implements Principal {
+
+    private final String id;
+    private final String username;
+    private final String role;
+
+    public AuthenticatedUser(String id, String username, String role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+
+    // --- Getters ---
+    public String getId() { return id; }
+    public String getUsername() { return username; }
+    public String getRole() { return role; }
+
+    /**
+     * @return The username, which is what Authentication.getName() reports.
+     */
+    @Override
+    public String getName() { return username; }
+
+    @Override
+    public String toString() { return username; }
+}
@@ -0,0 +1,22 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+/**
+ * A Data Transfer Object (DTO) for a recruiter's notification settings.
+ */
+public class EmailPreferences {
+
+    /**
+     * True to be emailed about each application at once, false to receive periodic digests.
+     */
+    private boolean immediateApplicationEmails;
+
+    // --- Getters and Setters ---
+
+    public boolean isImmediateApplicationEmails() {
+        return immediateApplicationEmails;
+    }
+
+    public void setImmediateApplicationEmails(boolean immediateApplicationEmails) {
+        this.immediateApplicationEmails = immediateApplicationEmails;
+    }
+}
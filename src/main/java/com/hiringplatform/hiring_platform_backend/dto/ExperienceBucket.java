@@ -0,0 +1,59 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+/**
+ * The fixed experience ranges used for search facets and filters.
+ * Each bucket covers [min, maxExclusive) years of required experience.
+ */
+public enum ExperienceBucket {
+
+    JUNIOR("0-1", 0, 2),
+    MID("2-4", 2, 5),
+    SENIOR("5-9", 5, 10),
+    EXPERT("10+", 10, Integer.MAX_VALUE);
+
+    private final String label;
+    private final int min;
+    private final int maxExclusive;
+
+    ExperienceBucket(String label, int min, int maxExclusive) {
+        this.label = label;
+        this.min = min;
+        this.maxExclusive = maxExclusive;
+    }
+
+    public String getLabel() { return label; }
+    public int getMin() { return min; }
+    public int getMaxExclusive() { return maxExclusive; }
+
+    public boolean contains(int experience) {
+        return experience >= min && experience < maxExclusive;
+    }
+
+    /**
+     * Finds the bucket containing an experience value.
+     *
+     * @return The bucket, or null for negative values.
+     */
+    public static ExperienceBucket of(int experience) {
+        for (ExperienceBucket bucket : values()) {
+            if (bucket.contains(experience)) {
+                return bucket;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a bucket from its label, e.g. "2-4".
+     *
+     * @throws IllegalArgumentException If the label does not name a bucket.
+     */
+    public static ExperienceBucket parse(String label) {
+        for (ExperienceBucket bucket : values()) {
+            if (bucket.label.equals(label.trim())) {
+                return bucket;
+            }
+        }
+        throw new IllegalArgumentException("Unknown experience bucket '" + label + "'");
+    }
+}
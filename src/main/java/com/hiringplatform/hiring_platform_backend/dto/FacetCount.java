@@ -0,0 +1,18 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+/**
+ * The number of matching postings that share one facet value (a skill or an experience bucket).
+ */
+public class FacetCount {
+
+    private final String value;
+    private final long count;
+
+    public FacetCount(String value, long count) {
+        this.value = value;
+        this.count = count;
+    }
+
+    public String getValue() { return value; }
+    public long getCount() { return count; }
+}
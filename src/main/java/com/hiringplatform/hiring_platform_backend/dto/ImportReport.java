@@ -0,0 +1,59 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of a bulk user import: how many rows were read and inserted, and why the
+ * remaining rows were skipped. Only the first MAX_ERRORS problems are listed.
+ */
+public class ImportReport {
+
+    /**
+     * The maximum number of row errors listed in a report.
+     */
+    public static final int MAX_ERRORS = 1000;
+
+    private long total;
+    private long inserted;
+    private long failed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    /**
+     * Records a row that was not imported.
+     */
+    public void addError(long line, String username, String reason) {
+        failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, username, reason));
+        }
+    }
+
+    public void addRows(long count) { total += count; }
+    public void addInserted(long count) { inserted += count; }
+
+    // --- Getters ---
+    public long getTotal() { return total; }
+    public long getInserted() { return inserted; }
+    public long getFailed() { return failed; }
+    public List<RowError> getErrors() { return errors; }
+
+    /**
+     * A skipped row, identified by its line number in the uploaded file.
+     */
+    public static class RowError {
+        private final long line;
+        private final String username;
+        private final String reason;
+
+        public RowError(long line, String username, String reason) {
+            this.line = line;
+            this.username = username;
+            this.reason = reason;
+        }
+
+        public long getLine() { return line; }
+        public String getUsername() { return username; }
+        public String getReason() { return reason; }
+    }
+}
@@ -0,0 +1,67 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.util.List;
+
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+
+/**
+ * A lightweight read projection of a JobPosting for list and search views.
+ * It carries everything a result card shows, but only the first few hundred characters of
+ * the description; the full posting is served by the per-id detail endpoint.
+ */
+public class JobPostingSummary {
+
+    /**
+     * The maximum length, in code points, of the description snippet.
+     */
+    public static final int SNIPPET_LENGTH = 200;
+
+    private String id;
+    private String recruiterId;
+    private String role;
+    private int experience;
+    private List<String> skillSet;
+    private String snippet;
+
+    /**
+     * Builds a summary from a full posting, truncating the description the same way
+     * the database-side projection does.
+     */
+    public static JobPostingSummary of(JobPosting posting) {
+        JobPostingSummary summary = new JobPostingSummary();
+        summary.setId(posting.getId());
+        summary.setRecruiterId(posting.getRecruiterId());
+        summary.setRole(posting.getRole());
+        summary.setExperience(posting.getExperience());
+        summary.setSkillSet(posting.getSkillSet());
+        summary.setSnippet(snippetOf(posting.getDescription()));
+        return summary;
+    }
+
+    /**
+     * Truncates a description to SNIPPET_LENGTH code points (matching MongoDB's $substrCP).
+     */
+    public static String snippetOf(String description) {
+        if (description == null) {
+            return "";
+        }
+        int count = description.codePointCount(0, description.length());
+        return count <= SNIPPET_LENGTH
+                ? description
+                : description.substring(0, description.offsetByCodePoints(0, SNIPPET_LENGTH));
+    }
+
+    // --- Getters and Setters ---
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getRecruiterId() { return recruiterId; }
+    public void setRecruiterId(String recruiterId) { this.recruiterId = recruiterId; }
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+    public int getExperience() { return experience; }
+    public void setExperience(int experience) { this.experience = experience; }
+    public List<String> getSkillSet() { return skillSet; }
+    public void setSkillSet(List<String> skillSet) { this.skillSet = skillSet; }
+    public String getSnippet() { return snippet; }
+    public void setSnippet(String snippet) { this.snippet = snippet; }
+}
@@ -0,0 +1,28 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+/**
+ * A single ranked result of candidate-to-job matching.
+ *
+ * @param <T> The matched item: a CandidateProfile or a JobPosting.
+ */
+public class MatchResult<T> {
+
+    private final T item;
+    private final double score;
+    private final int matchedSkills;
+
+    /**
+     * @param item The matched profile or posting.
+     * @param score The match score in [0, 1]; higher is better.
+     * @param matchedSkills The number of skills the two sides have in common.
+     */
+    public MatchResult(T item, double score, int matchedSkills) {
+        this.item = item;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+    }
+
+    public T getItem() { return item; }
+    public double getScore() { return score; }
+    public int getMatchedSkills() { return matchedSkills; }
+}
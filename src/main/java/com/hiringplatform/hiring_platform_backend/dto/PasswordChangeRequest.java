@@ -0,0 +1,29 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+/**
+ * The request body of a password change: the password in use, to confirm the caller's identity,
+ * and the one replacing it.
+ */
+public class PasswordChangeRequest {
+
+    private String currentPassword;
+    private String newPassword;
+
+    // --- Getters and Setters ---
+
+    public String getCurrentPassword() {
+        return currentPassword;
+    }
+
+    public void setCurrentPassword(String currentPassword) {
+        this.currentPassword = currentPassword;
+    }
+
+    public String getNewPassword() {
+        return newPassword;
+    }
+
+    public void setNewPassword(String newPassword) {
+        this.newPassword = newPassword;
+    }
+}
@@ -0,0 +1,24 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) for the request body of a batch profile lookup.
+ */
+public class ProfileBatchRequest {
+
+    /**
+     * The user IDs whose profiles are requested.
+     */
+    private List<String> userIds;
+
+    // --- Getters and Setters ---
+
+    public List<String> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<String> userIds) {
+        this.userIds = userIds;
+    }
+}
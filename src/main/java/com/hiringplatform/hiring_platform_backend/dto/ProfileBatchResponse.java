@@ -0,0 +1,29 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+
+import java.util.List;
+
+/**
+ * A Data Transfer Object (DTO) for the result of a batch profile lookup.
+ * Profiles are listed in the order their user IDs were requested; user IDs without a profile
+ * are listed under 'missing' instead.
+ */
+public class ProfileBatchResponse {
+
+    private final List<CandidateProfile> profiles;
+    private final List<String> missing;
+
+    public ProfileBatchResponse(List<CandidateProfile> profiles, List<String> missing) {
+        this.profiles = profiles;
+        this.missing = missing;
+    }
+
+    public List<CandidateProfile> getProfiles() {
+        return profiles;
+    }
+
+    public List<String> getMissing() {
+        return missing;
+    }
+}
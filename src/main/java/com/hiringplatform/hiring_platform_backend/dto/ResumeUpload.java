@@ -0,0 +1,34 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+/**
+ * A Data Transfer Object (DTO) describing a stored resume.
+ */
+public class ResumeUpload {
+
+    private final String resumeUrl;
+    private final String sha256;
+    private final long size;
+
+    /**
+     * @param resumeUrl The URL the resume is served from.
+     * @param sha256 The hex SHA-256 digest of the file, which is also its id.
+     * @param size The size of the file in bytes.
+     */
+    public ResumeUpload(String resumeUrl, String sha256, long size) {
+        this.resumeUrl = resumeUrl;
+        this.sha256 = sha256;
+        this.size = size;
+    }
+
+    public String getResumeUrl() {
+        return resumeUrl;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public long getSize() {
+        return size;
+    }
+}
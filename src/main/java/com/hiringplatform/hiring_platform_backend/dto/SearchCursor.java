@@ -0,0 +1,86 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * An opaque continuation cursor for paginated searches.
+ * It records the sort key value and id of the last result of the previous page, so the
+ * next page can start strictly after that position instead of skipping over earlier results.
+ *
+ * Clients only ever see the encoded, URL-safe string form.
+ */
+public class SearchCursor {
+
+    private final SearchSort sort;
+    private final String value;
+    private final String id;
+
+    /**
+     * The value parsed as a finite number, or null when it is not one (such as an Atlas searchAfter token).
+     */
+    private final Double numericValue;
+
+    public SearchCursor(SearchSort sort, String value, String id) {
+        this.sort = sort;
+        this.value = value;
+        this.id = id;
+        this.numericValue = parseNumber(value);
+    }
+
+    public SearchSort getSort() { return sort; }
+    public String getValue() { return value; }
+    public String getId() { return id; }
+
+    /**
+     * Reads the value as a number, for orderings whose sort key is numeric.
+     *
+     * @throws IllegalArgumentException If the value is not a finite number.
+     */
+    public double getNumericValue() {
+        if (numericValue == null) {
+            throw new IllegalArgumentException("Malformed search cursor");
+        }
+        return numericValue;
+    }
+
+    /**
+     * @return The URL-safe string handed to clients.
+     */
+    public String encode() {
+        String raw = sort.name() + '\n' + value + '\n' + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param encoded The string sent back by the client.
+     * @return The decoded cursor.
+     * @throws IllegalArgumentException If the string is not a valid cursor.
+     */
+    public static SearchCursor decode(String encoded) {
+        String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\n", 3);
+        if (parts.length != 3 || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("Malformed search cursor");
+        }
+        SearchCursor cursor = new SearchCursor(SearchSort.valueOf(parts[0]), parts[1], parts[2]);
+        // Experience is a whole number of years; a relevance value depends on the search engine and is checked where used.
+        if (cursor.sort == SearchSort.EXPERIENCE
+                && (cursor.numericValue == null || cursor.numericValue != Math.rint(cursor.numericValue)
+                    || Math.abs(cursor.numericValue) > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Malformed search cursor");
+        }
+        return cursor;
+    }
+
+    private static Double parseNumber(String value) {
+        try {
+            double number = Double.parseDouble(value);
+            return Double.isFinite(number) ? number : null;
+        } catch (NumberFormatException | NullPointerException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.util.List;
+
+/**
+ * Facet counts over the full (filtered) match set of a search.
+ */
+public class SearchFacets {
+
+    /**
+     * How many of the most frequent skills are reported.
+     */
+    public static final int TOP_SKILLS = 10;
+
+    private final long total;
+    private final List<FacetCount> skills;
+    private final List<FacetCount> experience;
+
+    /**
+     * @param total The total number of matching postings.
+     * @param skills The most frequent skills among the matches, most frequent first.
+     * @param experience The count for every experience bucket, in bucket order.
+     */
+    public SearchFacets(long total, List<FacetCount> skills, List<FacetCount> experience) {
+        this.total = total;
+        this.skills = skills;
+        this.experience = experience;
+    }
+
+    public long getTotal() { return total; }
+    public List<FacetCount> getSkills() { return skills; }
+    public List<FacetCount> getExperience() { return experience; }
+}
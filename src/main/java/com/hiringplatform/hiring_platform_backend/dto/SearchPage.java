@@ -0,0 +1,40 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One page of search results (as summaries) together with the cursor needed to fetch the next page
+ * and, when requested, facet counts over the whole match set.
+ */
+public class SearchPage {
+
+    private final List<JobPostingSummary> results;
+    private final String nextCursor;
+    private final SearchFacets facets;
+
+    /**
+     * @param results The postings on this page, in the requested order.
+     * @param nextCursor The encoded cursor of the next page, or null if this is the last page.
+     */
+    public SearchPage(List<JobPostingSummary> results, String nextCursor) {
+        this(results, nextCursor, null);
+    }
+
+    /**
+     * @param results The postings on this page, in the requested order.
+     * @param nextCursor The encoded cursor of the next page, or null if this is the last page.
+     * @param facets The facet counts, or null if they were not requested.
+     */
+    public SearchPage(List<JobPostingSummary> results, String nextCursor, SearchFacets facets) {
+        this.results = results;
+        this.nextCursor = nextCursor;
+        this.facets = facets;
+    }
+
+    public List<JobPostingSummary> getResults() { return results; }
+    public String getNextCursor() { return nextCursor; }
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public SearchFacets getFacets() { return facets; }
+}
@@ -0,0 +1,74 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.util.List;
+
+/**
+ * Describes one page of a keyword search: the query text, optional filters, how many results
+ * to return, how to order them and, for every page after the first, where the previous page ended.
+ */
+public class SearchQuery {
+
+    private final String text;
+    private final int size;
+    private final SearchSort sort;
+    private final SearchCursor cursor;
+    private final List<String> skills;
+    private final ExperienceBucket experience;
+    private final boolean facets;
+    private final boolean fuzzy;
+
+    /**
+     * Creates an unfiltered query without facets.
+     */
+    public SearchQuery(String text, int size, SearchSort sort, SearchCursor cursor) {
+        this(text, size, sort, cursor, List.of(), null, false, false);
+    }
+
+    /**
+     * @param text The keyword or phrase to search for.
+     * @param size The maximum number of results in the page.
+     * @param sort The ordering of the results.
+     * @param cursor The position after which the page starts, or null for the first page.
+     * @param skills Skills every result must list (case-insensitive). Empty for no skill filter.
+     * @param experience The experience bucket results must fall in, or null for no filter.
+     * @param facets Whether to compute facet counts. They are only computed for the first page,
+     *               since later pages share the same match set.
+     * @param fuzzy Whether query terms may also match indexed terms within a small edit distance.
+     */
+    public SearchQuery(String text, int size, SearchSort sort, SearchCursor cursor,
+                       List<String> skills, ExperienceBucket experience, boolean facets, boolean fuzzy) {
+        if (cursor != null && cursor.getSort() != sort) {
+            throw new IllegalArgumentException("Cursor was issued for sort '" + cursor.getSort()
+                    + "' and cannot continue a '" + sort + "' search");
+        }
+        this.text = text;
+        this.size = size;
+        this.sort = sort;
+        this.cursor = cursor;
+        this.skills = skills == null ? List.of() : List.copyOf(skills);
+        this.experience = experience;
+        this.facets = facets;
+        this.fuzzy = fuzzy;
+    }
+
+    public String getText() { return text; }
+    public int getSize() { return size; }
+    public SearchSort getSort() { return sort; }
+    public SearchCursor getCursor() { return cursor; }
+    public List<String> getSkills() { return skills; }
+    public ExperienceBucket getExperience() { return experience; }
+    public boolean isFuzzy() { return fuzzy; }
+
+    /**
+     * @return True if facet counts should be computed for this page.
+     */
+    public boolean wantsFacets() { return facets && cursor == null; }
+
+    /**
+     * @return A canonical string of every parameter except the text, for use in cache keys.
+     */
+    public String pageKey() {
+        return size + "|" + sort + "|" + (cursor == null ? "" : cursor.encode()) + "|" + skills
+                + "|" + (experience == null ? "" : experience.getLabel()) + "|" + wantsFacets() + "|" + fuzzy;
+    }
+}
@@ -0,0 +1,36 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import java.util.Locale;
+
+/**
+ * The orderings supported by paginated job searches. Every ordering is made total
+ * by using the posting id as the final tie-breaker, which is what keyset cursors rely on.
+ */
+public enum SearchSort {
+
+    /**
+     * Best match first (descending score), then ascending id.
+     */
+    RELEVANCE,
+
+    /**
+     * Least required experience first, then ascending id.
+     */
+    EXPERIENCE,
+
+    /**
+     * Most recently created first (descending ObjectId, which embeds the creation time).
+     */
+    NEWEST;
+
+    /**
+     * Parses a sort key from a request parameter, case-insensitively.
+     *
+     * @param value The raw parameter value, e.g. "relevance".
+     * @return The matching SearchSort.
+     * @throws IllegalArgumentException If the value does not name a supported ordering.
+     */
+    public static SearchSort parse(String value) {
+        return SearchSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
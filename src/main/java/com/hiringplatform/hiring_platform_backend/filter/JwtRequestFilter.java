@@ -1,26 +1,42 @@
 package com.hiringplatform.hiring_platform_backend.filter;
 
+import com.hiringplatform.hiring_platform_backend.dto.AuthenticatedUser;
+import com.hiringplatform.hiring_platform_backend.service.TokenVersionService;
 import com.hiringplatform.hiring_platform_backend.util.JwtUtil;
+import com.hiringplatform.hiring_platform_backend.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * A custom Spring Security filter that intercepts every incoming request once.
  * Its primary responsibility is to inspect the request for a JWT in the
  * Authorization header, validate it, and set the user's authentication
  * details in the security context if the token is valid.
+ *
+ * The authentication is built from the token's verified claims (user id, role and
+ * token version) without loading the user; the only per-request state consulted is
+ * the cached token version, which is how tokens are revoked.
+ *
+ * The authentication is also stored as a request attribute. Handlers returning a future
+ * (such as /login and /password) are completed in a second, ASYNC dispatch that this filter
+ * skips; the security filters restore the context from that attribute instead of finding the
+ * request unauthenticated. The token is not verified again there, as the handler may have
+ * revoked it in the meantime (a password change does).
  */
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
@@ -32,10 +48,15 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     /**
-     * Injected service for loading user data from the database.
+     * Injected service that tells whether a token's version has been revoked.
      */
     @Autowired
-    private UserDetailsService userDetailsService;
+    private TokenVersionService tokenVersionService;
+
+    /**
+     * Where the authentication is kept for later dispatches of the same request.
+     */
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
 
     /**
      * The core logic of the filter that is executed for each request.
@@ -51,40 +72,50 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         // Extract the Authorization header from the request.
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        VerifiedToken token = null;
 
         // Check if the header exists and follows the "Bearer <token>" format.
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7); // Extract the token string.
+            String jwt = authorizationHeader.substring(7); // Extract the token string.
             try {
-                username = jwtUtil.extractUsername(jwt);
+                // Verify the signature (and expiry) once.
+                token = jwtUtil.verify(jwt);
             } catch (Exception e) {
                 // Handle cases where the token is malformed or expired.
                 System.out.println("Cannot extract username from JWT or token is expired");
             }
         }
 
-        // If a username was successfully extracted and there is no existing authentication
+        // If the token was verified and there is no existing authentication
         // in the security context, proceed with validation.
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // Load the user's details from the database.
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null && isAcceptable(token)) {
+            // Build the principal and authorities straight from the claims.
+            AuthenticatedUser principal = new AuthenticatedUser(token.getUserId(), token.getUsername(), token.getRole());
+            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+                    principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + token.getRole())));
+            usernamePasswordAuthenticationToken
+                    .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-            // Validate the token against the loaded user details.
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                // If the token is valid, create an authentication token.
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                usernamePasswordAuthenticationToken
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                // Set the authentication in the security context.
-                // This effectively "logs in" the user for the duration of the request.
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-            }
+            // Set the authentication in the security context.
+            // This effectively "logs in" the user for the duration of the request.
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(usernamePasswordAuthenticationToken);
+            SecurityContextHolder.setContext(context);
+            securityContextRepository.saveContext(context, request, response);
         }
         // Pass the request and response along to the next filter in the chain.
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Checks that a verified token carries the claims this filter relies on and has not been revoked.
+     * Tokens issued before these claims existed are rejected; their holders simply log in again.
+     */
+    private boolean isAcceptable(VerifiedToken token) {
+        if (token.getUsername() == null || token.getUserId() == null
+                || token.getRole() == null || token.getTokenVersion() == null) {
+            return false;
+        }
+        return tokenVersionService.isCurrent(token.getUserId(), token.getTokenVersion());
+    }
 }
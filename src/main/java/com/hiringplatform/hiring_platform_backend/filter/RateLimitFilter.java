@@ -0,0 +1,208 @@
+package com.hiringplatform.hiring_platform_backend.filter;
+
+import com.hiringplatform.hiring_platform_backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Spring Security filter that applies per-client token-bucket limits to the configured routes
+ * (see RateLimitProperties). It runs right after JwtRequestFilter, so authenticated clients are
+ * limited per username and anonymous ones per client IP address. A request over the limit is
+ * answered with 429 Too Many Requests and a Retry-After header before it reaches any controller.
+ *
+ * The address is getRemoteAddr(). Behind a proxy that is the proxy's address unless Tomcat
+ * replaces it with the X-Forwarded-For client, which server.forward-headers-strategy=native
+ * enables for requests from trusted proxies (server.tomcat.remoteip.internal-proxies).
+ *
+ * Buckets live in a ConcurrentHashMap, whose lookups are lock-free and whose inserts lock only
+ * one bin. Each bucket is a single AtomicLong packing its last refill time and its remaining
+ * tokens, updated with compare-and-set, so concurrent requests never block each other. Buckets
+ * idle for longer than rate-limit.idle-eviction-seconds are swept out now and then by whichever
+ * request gets there first. Rejections are counted in the ratelimit.rejected meter, tagged by route.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * How many requests pass between two idle-bucket sweeps.
+     */
+    private static final long SWEEP_INTERVAL = 4096;
+
+    private final RateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Counter> rejected = new ArrayList<>();
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    @Autowired
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (route.getCapacity() < 1 || route.getCapacity() > TokenBucket.MAX_CAPACITY || route.getRefillPerSecond() <= 0) {
+                throw new IllegalArgumentException("Invalid rate limit for " + route.getPattern()
+                        + ": capacity must be 1-" + TokenBucket.MAX_CAPACITY + " and refill-per-second positive.");
+            }
+            rejected.add(Counter.builder("ratelimit.rejected")
+                    .description("Requests rejected with 429 by the rate limiter")
+                    .tag("route", route.getPattern())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int routeIndex = properties.isEnabled() ? matchRoute(request) : -1;
+        if (routeIndex < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RateLimitProperties.Route route = properties.getRoutes().get(routeIndex);
+
+        long waitMillis = bucketFor(routeIndex, route, clientKey(request)).tryAcquire(System.currentTimeMillis());
+        if (requests.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            sweep();
+        }
+        if (waitMillis > 0) {
+            rejected.get(routeIndex).increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString((waitMillis + 999) / 1000));
+            response.setContentType("text/plain");
+            response.getWriter().write("Too many requests. Please slow down.");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Returns the index of the first route matching the request, or -1.
+     */
+    private int matchRoute(HttpServletRequest request) {
+        String path = request.getServletPath();
+        List<RateLimitProperties.Route> routes = properties.getRoutes();
+        for (int i = 0; i < routes.size(); i++) {
+            RateLimitProperties.Route route = routes.get(i);
+            if ((route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(route.getPattern(), path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Identifies the client: the username when the request carries a valid token, otherwise the remote address.
+     */
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private TokenBucket bucketFor(int routeIndex, RateLimitProperties.Route route, String client) {
+        String key = routeIndex + "|" + client;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxKeys()) {
+            // Too many distinct clients: rather than grow without bound, new ones share one bucket per route.
+            key = routeIndex + "|overflow";
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(route.getCapacity(), route.getRefillPerSecond()));
+    }
+
+    /**
+     * Drops buckets that have not been used for the idle period. Only one thread sweeps at a time;
+     * the others carry on without waiting.
+     */
+    private void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long cutoff = System.currentTimeMillis() - properties.getIdleEvictionSeconds() * 1000;
+            buckets.values().removeIf(bucket -> bucket.lastRefillMillis() < cutoff);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * A lock-free token bucket. The state is one long: the high 40 bits hold the time of the last
+     * refill in milliseconds since the bucket's creation, the low 24 bits the remaining tokens in
+     * thousandths of a token (which is what bounds the capacity).
+     */
+    static final class TokenBucket {
+
+        static final int MAX_CAPACITY = ((1 << 24) - 1) / 1000;
+
+        private static final int TOKEN_BITS = 24;
+        private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+        private static final long ONE_TOKEN = 1000;
+
+        private final long createdMillis = System.currentTimeMillis();
+        private final long capacity;
+        private final double refillPerSecond;
+        private final AtomicLong state;
+
+        TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity * ONE_TOKEN;
+            this.refillPerSecond = refillPerSecond;
+            this.state = new AtomicLong(this.capacity);
+        }
+
+        /**
+         * Takes one token if available.
+         *
+         * @param nowMillis The current time.
+         * @return 0 if a token was taken, otherwise the milliseconds until one will be available.
+         */
+        long tryAcquire(long nowMillis) {
+            long now = Math.max(0, nowMillis - createdMillis);
+            while (true) {
+                long current = state.get();
+                long last = current >>> TOKEN_BITS;
+                long tokens = current & TOKEN_MASK;
+                long elapsed = Math.max(0, now - last);
+                // refillPerSecond tokens per second is exactly refillPerSecond thousandths per millisecond.
+                long available = Math.min(capacity, tokens + (long) (elapsed * refillPerSecond));
+                if (available < ONE_TOKEN) {
+                    return (long) Math.ceil((ONE_TOKEN - available) / refillPerSecond);
+                }
+                long next = (Math.max(now, last) << TOKEN_BITS) | (available - ONE_TOKEN);
+                if (state.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        long lastRefillMillis() {
+            return createdMillis + (state.get() >>> TOKEN_BITS);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.hiringplatform.hiring_platform_backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.Date;
+
+/**
+ * A candidate's application for a job posting.
+ * The unique (jobId, candidateUserId) index makes a second application by the same candidate
+ * fail at insert time, so duplicates are rejected by MongoDB rather than by a lookup first.
+ * The same index serves the listing of a job's applicants.
+ *
+ * The recruiter's notification is stored with the application and removed once it has been
+ * queued in the outbox, so a failure in between leaves it here to be queued later (see
+ * ApplicationWriteBuffer); the sparse index finds those leftovers.
+ */
+@Document(collection = "Applications")
+@CompoundIndex(name = "jobId_candidateUserId", def = "{'jobId': 1, 'candidateUserId': 1}", unique = true)
+@CompoundIndex(name = "notification_createdAt", def = "{'notification.createdAt': 1}", sparse = true)
+public class Application {
+
+    @Id
+    private String id;
+
+    private String jobId;
+    private String candidateUserId;
+
+    /**
+     * The recruiter who posted the job, copied here so their applicants can be found without a join.
+     */
+    private String recruiterId;
+
+    private Date appliedAt;
+
+    /**
+     * The recruiter notification, until it has been queued in the outbox.
+     */
+    private EmailOutboxMessage notification;
+
+    // --- Getters and Setters ---
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+    public String getCandidateUserId() { return candidateUserId; }
+    public void setCandidateUserId(String candidateUserId) { this.candidateUserId = candidateUserId; }
+    public String getRecruiterId() { return recruiterId; }
+    public void setRecruiterId(String recruiterId) { this.recruiterId = recruiterId; }
+    public Date getAppliedAt() { return appliedAt; }
+    public void setAppliedAt(Date appliedAt) { this.appliedAt = appliedAt; }
+    @JsonIgnore
+    public EmailOutboxMessage getNotification() { return notification; }
+    public void setNotification(EmailOutboxMessage notification) { this.notification = notification; }
+}
@@ -1,6 +1,7 @@
 package com.hiringplatform.hiring_platform_backend.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 
@@ -21,7 +22,9 @@ public class CandidateProfile {
     /**
      * A foreign key linking this profile to a specific User account in the 'users' collection.
      * This ensures that each profile is owned by a registered user.
+     * Indexed, as profiles are always looked up by their user.
      */
+    @Indexed
     private String userId;
 
     /**
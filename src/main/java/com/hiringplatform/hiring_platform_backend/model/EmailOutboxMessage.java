@@ -0,0 +1,105 @@
+package com.hiringplatform.hiring_platform_backend.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * An email waiting in (or already delivered from) the outbox.
+ * Request handlers only insert these documents; EmailOutboxWorker claims and sends them
+ * in the background, retrying failed deliveries with exponential backoff.
+ *
+ * A digest collects several notifications for one recipient: items are appended to it while it
+ * is still open (PENDING and never attempted), and its subject and body are composed from them
+ * when it is sent.
+ */
+@Document(collection = "EmailOutbox")
+@CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}")
+@CompoundIndex(name = "digestKey_status", def = "{'digestKey': 1, 'status': 1}", sparse = true)
+public class EmailOutboxMessage {
+
+    /**
+     * The delivery states of a message.
+     * PENDING messages are due at nextAttemptAt; SENDING ones are claimed by a worker until lockedUntil.
+     */
+    public enum Status { PENDING, SENDING, SENT, FAILED }
+
+    @Id
+    private String id;
+
+    private String to;
+    private String subject;
+    private String body;
+
+    private Status status;
+
+    /**
+     * The number of delivery attempts started so far.
+     */
+    private int attempts;
+
+    /**
+     * When the message is next due to be sent.
+     */
+    private Date nextAttemptAt;
+
+    /**
+     * Until when the claiming worker owns the message; a later claim takes it over (e.g. after a crash).
+     */
+    private Date lockedUntil;
+
+    private Date createdAt;
+    private Date sentAt;
+
+    /**
+     * The error of the most recent failed attempt.
+     */
+    private String lastError;
+
+    /**
+     * For digests, what the digest collects for (e.g. the recruiter's user id); null for single messages.
+     */
+    private String digestKey;
+
+    /**
+     * For digests, the text of each collected notification.
+     */
+    private List<String> digestItems;
+
+    /**
+     * For digests, the number of collected notifications.
+     */
+    private int itemCount;
+
+    // --- Getters and Setters ---
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getTo() { return to; }
+    public void setTo(String to) { this.to = to; }
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) { this.subject = subject; }
+    public String getBody() { return body; }
+    public void setBody(String body) { this.body = body; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public Date getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(Date nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+    public Date getLockedUntil() { return lockedUntil; }
+    public void setLockedUntil(Date lockedUntil) { this.lockedUntil = lockedUntil; }
+    public Date getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Date createdAt) { this.createdAt = createdAt; }
+    public Date getSentAt() { return sentAt; }
+    public void setSentAt(Date sentAt) { this.sentAt = sentAt; }
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+    public String getDigestKey() { return digestKey; }
+    public void setDigestKey(String digestKey) { this.digestKey = digestKey; }
+    public List<String> getDigestItems() { return digestItems; }
+    public void setDigestItems(List<String> digestItems) { this.digestItems = digestItems; }
+    public int getItemCount() { return itemCount; }
+    public void setItemCount(int itemCount) { this.itemCount = itemCount; }
+}
@@ -1,10 +1,12 @@
 package com.hiringplatform.hiring_platform_backend.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 
 @Document(collection = "JobPostings")
+@CompoundIndex(name = "recruiterId_id", def = "{'recruiterId': 1, '_id': 1}")
 public class JobPosting {
 
     @Id
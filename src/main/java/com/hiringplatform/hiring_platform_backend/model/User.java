@@ -1,6 +1,7 @@
 package com.hiringplatform.hiring_platform_backend.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "users")
@@ -8,11 +9,22 @@ public class User {
 
     @Id
     private String id;
+    @Indexed(unique = true)
     private String username;
     private String password;
     private String role;
     private String email; // 
 
+    /**
+     * Embedded in every access token issued to the user; incrementing it revokes all of them.
+     */
+    private long tokenVersion;
+
+    /**
+     * For recruiters: email each application at once instead of in a periodic digest.
+     */
+    private boolean immediateApplicationEmails;
+
     // Getters and Setters
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
@@ -26,4 +38,9 @@ public class User {
     // Getter and Setter for the new email field
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
-}
\ No newline at end of file
+
+    public long getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(long tokenVersion) { this.tokenVersion = tokenVersion; }
+    public boolean isImmediateApplicationEmails() { return immediateApplicationEmails; }
+    public void setImmediateApplicationEmails(boolean immediateApplicationEmails) { this.immediateApplicationEmails = immediateApplicationEmails; }
+}
@@ -0,0 +1,33 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import com.hiringplatform.hiring_platform_backend.model.Application;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * A Spring Data MongoDB repository for reading Application entities.
+ * New applications are not saved through it but through ApplicationWriteBuffer, which inserts them in batches.
+ */
+@Repository
+public interface ApplicationRepository extends MongoRepository<Application, String> {
+
+    /**
+     * Finds every application for a job, oldest first.
+     * Uses the (jobId, candidateUserId) index to select the job's applications.
+     *
+     * @param jobId The ID of the job posting.
+     * @return The applications, in the order they were made.
+     */
+    List<Application> findByJobIdOrderByAppliedAtAsc(String jobId);
+
+    /**
+     * Checks whether a candidate has already applied for a job, with a lookup on the unique index.
+     *
+     * @param jobId The ID of the job posting.
+     * @param candidateUserId The ID of the candidate.
+     * @return True if the application is stored.
+     */
+    boolean existsByJobIdAndCandidateUserId(String jobId, String candidateUserId);
+}
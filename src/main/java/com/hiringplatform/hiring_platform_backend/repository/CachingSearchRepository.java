@@ -0,0 +1,207 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Repository;
+
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.dto.SearchPage;
+import com.hiringplatform.hiring_platform_backend.dto.SearchQuery;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.util.BoundedCache;
+import com.hiringplatform.hiring_platform_backend.util.TextAnalyzer;
+import com.hiringplatform.hiring_platform_backend.util.Threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * A caching decorator placed in front of whichever search engine is configured
+ * (the Atlas or the in-memory implementation, both qualified as "searchEngine").
+ * Being the primary SearchRepository, it is what controllers receive.
+ *
+ * Results are cached per normalized query (plus page parameters) in a size-bounded LRU
+ * with a TTL. When a JobPosting is saved, only the entries it could affect are dropped:
+ * pages that contain the posting and whose cached copy differs in a field they hold,
+ * and queries sharing a term with the posting's new content (it may now match them).
+ * Fuzzy queries can match terms they do not contain, so every fuzzy entry is dropped on each save.
+ * The TTL is the backstop for differences between this tokenizer and Atlas' analyzer.
+ *
+ * Atlas Search indexes a write only after MongoDB has acknowledged it, so a query right after
+ * the invalidation can still return (and cache) the old result. For engines with such a lag
+ * the same entries are invalidated a second time once search.atlas.index-lag-ms has passed.
+ * A write is therefore reflected in cached results within that lag, as long as Atlas has
+ * indexed it by then; a write indexed later can stay hidden until the TTL
+ * (search.cache.ttl-seconds) expires the entry.
+ * Statistics are published as cache.* meters tagged cache=search.
+ */
+@Repository
+@Primary
+public class CachingSearchRepository extends AbstractMongoEventListener<JobPosting> implements SearchRepository {
+
+	/**
+	 * The configured search engine that actually executes queries.
+	 */
+	private final SearchRepository delegate;
+
+	private final BoundedCache<String, CachedSearch> cache;
+
+	/**
+	 * Repeats invalidations once the engine has indexed the write; null if the engine has no lag.
+	 */
+	private final ScheduledExecutorService reinvalidator;
+
+	@Autowired
+	public CachingSearchRepository(@Qualifier("searchEngine") SearchRepository delegate,
+			@Value("${search.cache.max-entries:1000}") int maxEntries,
+			@Value("${search.cache.ttl-seconds:300}") long ttlSeconds,
+			MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.cache = new BoundedCache<>(maxEntries, ttlSeconds * 1000);
+		this.cache.bindTo(meterRegistry, "search");
+		this.reinvalidator = delegate.indexLagMillis() > 0
+				? Executors.newSingleThreadScheduledExecutor(Threads.factory("search-cache", false))
+				: null;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (reinvalidator != null) {
+			reinvalidator.shutdownNow();
+		}
+	}
+
+	@Override
+	public List<JobPosting> findByText(String text) {
+		String normalized = TextAnalyzer.normalize(text);
+		return cache.computeIfAbsent("text|" + normalized, key -> {
+			List<JobPosting> postings = delegate.findByText(text);
+			Map<String, List<Object>> fingerprints = new HashMap<>();
+			postings.forEach(posting -> fingerprints.put(posting.getId(), fingerprint(posting)));
+			return new CachedSearch(normalized, false, false, fingerprints, postings);
+		}).value(List.class);
+	}
+
+	@Override
+	public SearchPage findPage(SearchQuery query) {
+		String normalized = TextAnalyzer.normalize(query.getText());
+		String key = "page|" + normalized + '|' + query.pageKey();
+		return cache.computeIfAbsent(key, k -> {
+			SearchPage page = delegate.findPage(query);
+			Map<String, List<Object>> fingerprints = new HashMap<>();
+			page.getResults().forEach(summary -> fingerprints.put(summary.getId(), fingerprint(summary)));
+			return new CachedSearch(normalized, true, query.isFuzzy(), fingerprints, page);
+		}).value(SearchPage.class);
+	}
+
+	/**
+	 * Drops the cached results a saved posting could have changed.
+	 */
+	@Override
+	public void onAfterSave(AfterSaveEvent<JobPosting> event) {
+		JobPosting saved = event.getSource();
+		Set<String> terms = new HashSet<>(TextAnalyzer.tokenize(saved.getRole()));
+		terms.addAll(TextAnalyzer.tokenize(saved.getDescription()));
+		if (saved.getSkillSet() != null) {
+			saved.getSkillSet().forEach(skill -> terms.addAll(TextAnalyzer.tokenize(skill)));
+		}
+		List<Object> full = fingerprint(saved);
+		List<Object> summary = fingerprint(JobPostingSummary.of(saved));
+
+		invalidateIf((key, cached) -> {
+			List<Object> previous = cached.fingerprints.get(saved.getId());
+			if (previous != null) {
+				return !previous.equals(cached.summaries ? summary : full);
+			}
+			if (cached.fuzzy) {
+				return true;
+			}
+			for (String term : cached.terms) {
+				if (terms.contains(term)) {
+					return true;
+				}
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Drops every cached page that contains a deleted posting.
+	 */
+	@Override
+	public void onAfterDelete(AfterDeleteEvent<JobPosting> event) {
+		Object id = event.getSource().get("_id");
+		if (id == null) {
+			return;
+		}
+		String deletedId = id.toString();
+		invalidateIf((key, cached) -> cached.fingerprints.containsKey(deletedId));
+	}
+
+	/**
+	 * Drops the matching entries now and, if the engine indexes with a lag, again once it has caught up.
+	 */
+	private void invalidateIf(BiPredicate<String, CachedSearch> predicate) {
+		cache.invalidateIf(predicate);
+		if (reinvalidator != null) {
+			reinvalidator.schedule(() -> cache.invalidateIf(predicate), delegate.indexLagMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * The searchable fields of a full posting, as held by legacy findByText entries.
+	 */
+	private static List<Object> fingerprint(JobPosting posting) {
+		return Arrays.asList(posting.getRole(), posting.getDescription(), posting.getSkillSet(), posting.getExperience());
+	}
+
+	/**
+	 * The fields a cached summary shows; a description edit outside the snippet leaves it valid.
+	 */
+	private static List<Object> fingerprint(JobPostingSummary summary) {
+		return Arrays.asList(summary.getRole(), summary.getSnippet(), summary.getSkillSet(), summary.getExperience());
+	}
+
+	/**
+	 * A cached result together with the normalized terms of the query that produced it
+	 * and a fingerprint of every posting it contains, keyed by posting id.
+	 */
+	private static final class CachedSearch {
+		private final Set<String> terms;
+		private final boolean summaries;
+		private final boolean fuzzy;
+		private final Map<String, List<Object>> fingerprints;
+		private final Object value;
+
+		CachedSearch(String normalizedQuery, boolean summaries, boolean fuzzy,
+				Map<String, List<Object>> fingerprints, Object value) {
+			this.terms = new HashSet<>(TextAnalyzer.tokenize(normalizedQuery));
+			this.summaries = summaries;
+			this.fuzzy = fuzzy;
+			this.fingerprints = fingerprints;
+			this.value = value;
+		}
+
+		@SuppressWarnings("unchecked")
+		<T> T value(Class<? super T> type) {
+			return (T) type.cast(value);
+		}
+	}
+
+}
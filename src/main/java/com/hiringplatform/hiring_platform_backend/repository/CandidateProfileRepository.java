@@ -4,6 +4,8 @@ import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +26,12 @@ public interface CandidateProfileRepository extends MongoRepository<CandidatePro
      */
     Optional<CandidateProfile> findByUserId(String userId);
 
+    /**
+     * Finds the profiles of several users with a single $in query.
+     *
+     * @param userIds The user IDs to look up.
+     * @return The profiles found, in no particular order. Users without a profile are simply absent.
+     */
+    List<CandidateProfile> findByUserIdIn(Collection<String> userIds);
+
 }
@@ -0,0 +1,285 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Repository;
+
+import com.hiringplatform.hiring_platform_backend.dto.ExperienceBucket;
+import com.hiringplatform.hiring_platform_backend.dto.FacetCount;
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.dto.SearchCursor;
+import com.hiringplatform.hiring_platform_backend.dto.SearchFacets;
+import com.hiringplatform.hiring_platform_backend.dto.SearchPage;
+import com.hiringplatform.hiring_platform_backend.dto.SearchQuery;
+import com.hiringplatform.hiring_platform_backend.dto.SearchSort;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.service.SkillDictionary;
+
+/**
+ * An alternative SearchRepository implementation that answers keyword searches from
+ * an in-process BM25 inverted index instead of an Atlas Search aggregation.
+ * It works against any MongoDB deployment, including a plain local mongod.
+ *
+ * Enabled with {@code search.engine=memory}. The index is built from the JobPostings
+ * collection once the application is ready and is then kept current by listening to
+ * Spring Data's save and delete events, so postings created through PostController.addPost
+ * become searchable immediately. It is ordered first among the save listeners so that
+ * result caches are invalidated only after the index already reflects the write.
+ */
+@Repository
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Qualifier("searchEngine")
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+public class InMemorySearchRepository extends AbstractMongoEventListener<JobPosting> implements SearchRepository {
+
+	/**
+	 * The maximum number of results returned by findByText, matching the Atlas implementation.
+	 */
+	private static final int MAX_RESULTS = 5;
+
+	/**
+	 * Injected repository used to load the full catalog when the index is built.
+	 */
+	@Autowired
+	private JobPostingRepository jobPostingRepository;
+
+	private final InvertedIndex index = new InvertedIndex();
+
+	/**
+	 * Writes seen while the index is being built, replayed once it is; null otherwise.
+	 * Without them a save or delete that landed between the catalog read and the rebuild
+	 * would be lost (or resurrected) until the next restart. Guarded by pendingLock.
+	 */
+	private List<Runnable> pendingWrites;
+	private final Object pendingLock = new Object();
+
+	/**
+	 * Builds the index from the database once the application context is fully started.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildIndex() {
+		synchronized (pendingLock) {
+			pendingWrites = new ArrayList<>();
+		}
+		List<JobPosting> all = jobPostingRepository.findAll();
+		index.rebuild(all);
+		int replayed;
+		synchronized (pendingLock) {
+			replayed = pendingWrites.size();
+			pendingWrites.forEach(Runnable::run);
+			pendingWrites = null;
+		}
+		System.out.println("In-memory search index built with " + all.size() + " job postings"
+				+ (replayed > 0 ? " and " + replayed + " writes made meanwhile" : ""));
+	}
+
+	/**
+	 * Re-indexes a posting every time it is saved through Spring Data.
+	 */
+	@Override
+	public void onAfterSave(AfterSaveEvent<JobPosting> event) {
+		JobPosting posting = event.getSource();
+		apply(() -> index.add(posting));
+	}
+
+	/**
+	 * Drops a posting from the index when it is deleted through Spring Data.
+	 */
+	@Override
+	public void onAfterDelete(AfterDeleteEvent<JobPosting> event) {
+		Object id = event.getSource().get("_id");
+		if (id != null) {
+			apply(() -> index.remove(id.toString()));
+		}
+	}
+
+	/**
+	 * Applies a write to the index now, or after the rebuild in progress.
+	 */
+	private void apply(Runnable write) {
+		synchronized (pendingLock) {
+			if (pendingWrites != null) {
+				pendingWrites.add(write);
+				return;
+			}
+		}
+		write.run();
+	}
+
+	/**
+	 * Returns the best matches for a keyword search.
+	 *
+	 * @param text The search keyword provided by the user.
+	 * @return Up to five JobPosting objects, ordered by descending BM25 relevance.
+	 */
+	@Override
+	public List<JobPosting> findByText(String text) {
+		return select(new SearchQuery(text, MAX_RESULTS, SearchSort.RELEVANCE, null)).postings();
+	}
+
+	/**
+	 * Returns one page of matches. Instead of sorting the whole match set, the hits that lie
+	 * after the cursor are streamed through a bounded heap of size + 1 entries, so the cost of a
+	 * page is linear in the number of matches regardless of how deep the page is.
+	 * Filters are applied and facet counts accumulated in that same pass.
+	 * Fuzzy queries use the index's trigram-based typo-tolerant lookup.
+	 */
+	@Override
+	public SearchPage findPage(SearchQuery query) {
+		Selection selection = select(query);
+		return new SearchPage(selection.postings().stream().map(JobPostingSummary::of).toList(),
+				selection.nextCursor(), selection.facets());
+	}
+
+	/**
+	 * Selects the postings of one page, in order, together with the next cursor and facets.
+	 */
+	private Selection select(SearchQuery query) {
+		Comparator<ScoredPosting> order = comparatorFor(query.getSort());
+		SearchCursor cursor = query.getCursor();
+		int limit = query.getSize() + 1;
+		Set<String> requiredSkills = new HashSet<>();
+		query.getSkills().forEach(skill -> requiredSkills.add(SkillDictionary.normalize(skill)));
+		FacetCounter facets = query.wantsFacets() ? new FacetCounter() : null;
+
+		// Max-heap on the requested order: the head is the worst candidate kept so far.
+		PriorityQueue<ScoredPosting> heap = new PriorityQueue<>(limit, order.reversed());
+		List<ScoredPosting> hits = query.isFuzzy() ? index.searchFuzzy(query.getText()) : index.search(query.getText());
+		for (ScoredPosting hit : hits) {
+			if (!matchesFilters(hit.getPosting(), requiredSkills, query.getExperience())) {
+				continue;
+			}
+			if (facets != null) {
+				facets.count(hit.getPosting());
+			}
+			if (cursor != null && !isAfter(hit, cursor)) {
+				continue;
+			}
+			heap.offer(hit);
+			if (heap.size() > limit) {
+				heap.poll();
+			}
+		}
+
+		List<ScoredPosting> page = new ArrayList<>(heap);
+		page.sort(order);
+		String nextCursor = null;
+		if (page.size() > query.getSize()) {
+			page.remove(page.size() - 1);
+			nextCursor = cursorFor(page.get(page.size() - 1), query.getSort()).encode();
+		}
+		return new Selection(page.stream().map(ScoredPosting::getPosting).toList(), nextCursor,
+				facets == null ? null : facets.toFacets());
+	}
+
+	private record Selection(List<JobPosting> postings, String nextCursor, SearchFacets facets) {
+	}
+
+	private static boolean matchesFilters(JobPosting posting, Set<String> requiredSkills, ExperienceBucket experience) {
+		if (experience != null && !experience.contains(posting.getExperience())) {
+			return false;
+		}
+		if (requiredSkills.isEmpty()) {
+			return true;
+		}
+		if (posting.getSkillSet() == null) {
+			return false;
+		}
+		Set<String> listed = new HashSet<>();
+		for (String skill : posting.getSkillSet()) {
+			listed.add(SkillDictionary.normalize(skill));
+		}
+		return listed.containsAll(requiredSkills);
+	}
+
+	private static Comparator<ScoredPosting> comparatorFor(SearchSort sort) {
+		Comparator<ScoredPosting> byId = Comparator.comparing(hit -> hit.getPosting().getId());
+		return switch (sort) {
+			case RELEVANCE -> Comparator.comparingDouble(ScoredPosting::getScore).reversed().thenComparing(byId);
+			case EXPERIENCE -> Comparator.<ScoredPosting>comparingInt(hit -> hit.getPosting().getExperience()).thenComparing(byId);
+			case NEWEST -> byId.reversed();
+		};
+	}
+
+	/**
+	 * Checks whether a hit sorts strictly after the position recorded in a cursor.
+	 */
+	private static boolean isAfter(ScoredPosting hit, SearchCursor cursor) {
+		String id = hit.getPosting().getId();
+		int byId = id.compareTo(cursor.getId());
+		return switch (cursor.getSort()) {
+			case RELEVANCE -> {
+				int byScore = Double.compare(cursor.getNumericValue(), hit.getScore());
+				yield byScore > 0 || (byScore == 0 && byId > 0);
+			}
+			case EXPERIENCE -> {
+				int byExperience = Double.compare(hit.getPosting().getExperience(), cursor.getNumericValue());
+				yield byExperience > 0 || (byExperience == 0 && byId > 0);
+			}
+			case NEWEST -> byId < 0;
+		};
+	}
+
+	private static SearchCursor cursorFor(ScoredPosting last, SearchSort sort) {
+		String value = switch (sort) {
+			case RELEVANCE -> Double.toString(last.getScore());
+			case EXPERIENCE -> Integer.toString(last.getPosting().getExperience());
+			case NEWEST -> "";
+		};
+		return new SearchCursor(sort, value, last.getPosting().getId());
+	}
+
+	/**
+	 * Accumulates skill and experience-bucket counts over the filtered match set.
+	 */
+	private static final class FacetCounter {
+		private final Map<String, long[]> skills = new HashMap<>();
+		private final long[] buckets = new long[ExperienceBucket.values().length];
+		private long total;
+
+		void count(JobPosting posting) {
+			total++;
+			ExperienceBucket bucket = ExperienceBucket.of(posting.getExperience());
+			if (bucket != null) {
+				buckets[bucket.ordinal()]++;
+			}
+			if (posting.getSkillSet() != null) {
+				// A posting listing the same skill twice still counts once.
+				new HashSet<>(posting.getSkillSet().stream().map(SkillDictionary::normalize).toList())
+						.forEach(skill -> skills.computeIfAbsent(skill, k -> new long[1])[0]++);
+			}
+		}
+
+		SearchFacets toFacets() {
+			List<FacetCount> topSkills = skills.entrySet().stream()
+					.sorted(Map.Entry.<String, long[]>comparingByValue((a, b) -> Long.compare(b[0], a[0]))
+							.thenComparing(Map.Entry.comparingByKey()))
+					.limit(SearchFacets.TOP_SKILLS)
+					.map(entry -> new FacetCount(entry.getKey(), entry.getValue()[0]))
+					.toList();
+			List<FacetCount> experience = new ArrayList<>();
+			for (ExperienceBucket bucket : ExperienceBucket.values()) {
+				experience.add(new FacetCount(bucket.getLabel(), buckets[bucket.ordinal()]));
+			}
+			return new SearchFacets(total, topSkills, experience);
+		}
+	}
+
+}
@@ -0,0 +1,463 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.util.TextAnalyzer;
+
+/**
+ * An in-memory inverted index over the searchable fields of JobPosting documents
+ * (role, description and skillSet), scored with Okapi BM25.
+ *
+ * Documents are stored in dense integer slots. Updating or removing a posting leaves
+ * a tombstone in its old slot; the index is compacted once tombstones outnumber live documents.
+ * Reads take a shared lock and writes an exclusive one, so searches never block each other.
+ * A trigram index over the term dictionary supports typo-tolerant lookups (see searchFuzzy).
+ */
+public class InvertedIndex {
+
+    /**
+     * Standard BM25 term-frequency saturation and length-normalization parameters.
+     */
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /**
+     * Per-field weights applied to term frequencies, so that a match in the role
+     * or skill list counts for more than a passing mention in the description.
+     */
+    private static final float ROLE_WEIGHT = 3f;
+    private static final float SKILL_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, List<String>> termsByTrigram = new HashMap<>();
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private JobPosting[] docs = new JobPosting[64];
+    private float[] docLengths = new float[64];
+    private int slotCount;
+    private int liveCount;
+    private double totalLength;
+
+    /**
+     * Replaces the whole content of the index with the given postings.
+     *
+     * @param all Every posting that should be searchable.
+     */
+    public void rebuild(Collection<JobPosting> all) {
+        lock.writeLock().lock();
+        try {
+            clearInternal();
+            for (JobPosting posting : all) {
+                addInternal(posting);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a posting to the index, replacing any previously indexed version with the same id.
+     *
+     * @param posting The posting to index. Postings without an id are ignored.
+     */
+    public void add(JobPosting posting) {
+        if (posting == null || posting.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(posting.getId());
+            addInternal(posting);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a posting from the index.
+     *
+     * @param id The id of the posting to remove.
+     */
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of live (searchable) postings.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every posting that contains at least one of the query terms and scores it with BM25.
+     *
+     * @param text The raw query text.
+     * @return The matching postings with their scores, in no particular order.
+     */
+    public List<ScoredPosting> search(String text) {
+        Map<String, Double> weighted = new LinkedHashMap<>();
+        for (String term : TextAnalyzer.tokenize(text)) {
+            weighted.put(term, 1.0);
+        }
+        lock.readLock().lock();
+        try {
+            return score(weighted);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A typo-tolerant variant of {@link #search(String)}.
+     * Each query term is expanded to the indexed terms within a bounded edit distance
+     * (none for terms of up to 3 characters, 1 for up to 5, 2 beyond), found through a
+     * character-trigram index over the term dictionary and confirmed with a banded Levenshtein
+     * check. Postings are then scored with BM25 over the expansions, each weighted down by
+     * 1 / (1 + distance) so exact matches still rank first.
+     *
+     * @param text The raw query text, possibly misspelled.
+     * @return The matching postings with their scores, in no particular order.
+     */
+    public List<ScoredPosting> searchFuzzy(String text) {
+        lock.readLock().lock();
+        try {
+            Map<String, Double> weighted = new LinkedHashMap<>();
+            for (String term : new LinkedHashSet<>(TextAnalyzer.tokenize(text))) {
+                for (Map.Entry<String, Integer> expansion : expand(term, maxEditsFor(term)).entrySet()) {
+                    weighted.merge(expansion.getKey(), 1.0 / (1 + expansion.getValue()), Math::max);
+                }
+            }
+            return score(weighted);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every live posting containing one of the given terms. Callers must hold the read lock.
+     * Scores are summed in an accumulator sized to the matched postings rather than to the whole
+     * index, so a query's allocation follows its hits, not the catalog.
+     *
+     * @param weightedTerms The terms to look up, each with a multiplier applied to its BM25 contribution.
+     */
+    private List<ScoredPosting> score(Map<String, Double> weightedTerms) {
+        List<ScoredPosting> hits = new ArrayList<>();
+        if (weightedTerms.isEmpty() || liveCount == 0) {
+            return hits;
+        }
+        double avgLength = totalLength / liveCount;
+        List<PostingList> lists = new ArrayList<>(weightedTerms.size());
+        List<Double> weights = new ArrayList<>(weightedTerms.size());
+        long entries = 0;
+        for (Map.Entry<String, Double> entry : weightedTerms.entrySet()) {
+            PostingList list = postings.get(entry.getKey());
+            if (list != null && list.live > 0) {
+                lists.add(list);
+                weights.add(entry.getValue());
+                entries += list.size;
+            }
+        }
+        if (lists.isEmpty()) {
+            return hits;
+        }
+
+        ScoreAccumulator scores = new ScoreAccumulator((int) Math.min(entries, slotCount));
+        for (int t = 0; t < lists.size(); t++) {
+            PostingList list = lists.get(t);
+            double idf = weights.get(t) * Math.log(1 + (liveCount - list.live + 0.5) / (list.live + 0.5));
+            for (int i = 0; i < list.size; i++) {
+                int slot = list.slots[i];
+                if (docs[slot] == null) {
+                    continue;
+                }
+                double tf = list.freqs[i];
+                double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * docLengths[slot] / avgLength));
+                scores.add(slot, idf * norm);
+            }
+        }
+
+        for (int i = 0; i < scores.keys.length; i++) {
+            if (scores.keys[i] != 0) {
+                int slot = scores.keys[i] - 1;
+                hits.add(new ScoredPosting(docs[slot], scores.values[i]));
+            }
+        }
+        return hits;
+    }
+
+    private static int maxEditsFor(String term) {
+        return term.length() <= 3 ? 0 : term.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Finds the live indexed terms within maxEdits of a term. Callers must hold the read lock.
+     *
+     * Candidates come from the trigram index and are pruned with the q-gram lemma: a single edit
+     * destroys at most three trigrams of the padded term, so a term within k edits must share at
+     * least max(|a|, |b|) - 3k trigrams with the query term.
+     *
+     * @return Each matching term mapped to its edit distance.
+     */
+    private Map<String, Integer> expand(String term, int maxEdits) {
+        Map<String, Integer> matches = new HashMap<>();
+        PostingList exact = postings.get(term);
+        if (exact != null && exact.live > 0) {
+            matches.put(term, 0);
+        }
+        if (maxEdits == 0) {
+            return matches;
+        }
+
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : trigrams(term)) {
+            List<String> candidates = termsByTrigram.get(gram);
+            if (candidates != null) {
+                for (String candidate : candidates) {
+                    shared.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            String candidate = entry.getKey();
+            if (matches.containsKey(candidate) || Math.abs(candidate.length() - term.length()) > maxEdits) {
+                continue;
+            }
+            int required = Math.max(candidate.length(), term.length()) - 3 * maxEdits;
+            if (entry.getValue() < required) {
+                continue;
+            }
+            PostingList list = postings.get(candidate);
+            if (list == null || list.live == 0) {
+                continue;
+            }
+            int distance = boundedLevenshtein(term, candidate, maxEdits);
+            if (distance <= maxEdits) {
+                matches.put(candidate, distance);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * The distinct trigrams of a term padded with '^' and '$', so that short terms
+     * and word boundaries still produce grams.
+     */
+    private static Set<String> trigrams(String term) {
+        String padded = "^" + term + "$";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Levenshtein distance restricted to a diagonal band of width maxEdits.
+     *
+     * @return The distance, or maxEdits + 1 if it exceeds maxEdits.
+     */
+    private static int boundedLevenshtein(String a, String b, int maxEdits) {
+        int n = a.length();
+        int m = b.length();
+        int over = maxEdits + 1;
+        int[] prev = new int[m + 1];
+        int[] curr = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j <= maxEdits ? j : over;
+        }
+        for (int i = 1; i <= n; i++) {
+            Arrays.fill(curr, over);
+            curr[0] = i <= maxEdits ? i : over;
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(m, i + maxEdits);
+            int rowMin = curr[0];
+            for (int j = from; j <= to; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(prev[j] + 1, curr[j - 1] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, curr[j]);
+            }
+            if (rowMin > maxEdits) {
+                return over;
+            }
+            int[] swap = prev;
+            prev = curr;
+            curr = swap;
+        }
+        return Math.min(prev[m], over);
+    }
+
+    // --- Internal helpers; callers must hold the write lock ---
+
+    private void clearInternal() {
+        postings.clear();
+        termsByTrigram.clear();
+        slotsById.clear();
+        docs = new JobPosting[64];
+        docLengths = new float[64];
+        slotCount = 0;
+        liveCount = 0;
+        totalLength = 0;
+    }
+
+    private void addInternal(JobPosting posting) {
+        Map<String, Float> termFreqs = analyze(posting);
+        float length = 0;
+        for (float freq : termFreqs.values()) {
+            length += freq;
+        }
+
+        if (slotCount == docs.length) {
+            docs = Arrays.copyOf(docs, slotCount * 2);
+            docLengths = Arrays.copyOf(docLengths, slotCount * 2);
+        }
+        int slot = slotCount++;
+        docs[slot] = posting;
+        docLengths[slot] = length;
+        slotsById.put(posting.getId(), slot);
+        liveCount++;
+        totalLength += length;
+
+        for (Map.Entry<String, Float> entry : termFreqs.entrySet()) {
+            PostingList list = postings.get(entry.getKey());
+            if (list == null) {
+                list = new PostingList();
+                postings.put(entry.getKey(), list);
+                for (String gram : trigrams(entry.getKey())) {
+                    termsByTrigram.computeIfAbsent(gram, k -> new ArrayList<>()).add(entry.getKey());
+                }
+            }
+            list.add(slot, entry.getValue());
+        }
+    }
+
+    private void removeInternal(String id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        JobPosting old = docs[slot];
+        for (String term : analyze(old).keySet()) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.live--;
+            }
+        }
+        docs[slot] = null;
+        liveCount--;
+        totalLength -= docLengths[slot];
+    }
+
+    private void compactIfNeeded() {
+        int tombstones = slotCount - liveCount;
+        if (tombstones < 1024 || tombstones < liveCount) {
+            return;
+        }
+        List<JobPosting> live = new ArrayList<>(liveCount);
+        for (int i = 0; i < slotCount; i++) {
+            if (docs[i] != null) {
+                live.add(docs[i]);
+            }
+        }
+        clearInternal();
+        for (JobPosting posting : live) {
+            addInternal(posting);
+        }
+    }
+
+    /**
+     * Computes the field-weighted term frequencies of a posting.
+     */
+    private static Map<String, Float> analyze(JobPosting posting) {
+        Map<String, Float> freqs = new HashMap<>();
+        addTerms(freqs, posting.getRole(), ROLE_WEIGHT);
+        addTerms(freqs, posting.getDescription(), DESCRIPTION_WEIGHT);
+        if (posting.getSkillSet() != null) {
+            for (String skill : posting.getSkillSet()) {
+                addTerms(freqs, skill, SKILL_WEIGHT);
+            }
+        }
+        return freqs;
+    }
+
+    private static void addTerms(Map<String, Float> freqs, String text, float weight) {
+        for (String term : TextAnalyzer.tokenize(text)) {
+            freqs.merge(term, weight, Float::sum);
+        }
+    }
+
+    /**
+     * Sums scores per slot in an open-addressing table with linear probing, sized for a known
+     * maximum number of distinct slots so it never has to grow. Keys are stored as slot + 1,
+     * leaving 0 to mark an empty bucket.
+     */
+    private static final class ScoreAccumulator {
+        private final int[] keys;
+        private final double[] values;
+        private final int mask;
+
+        ScoreAccumulator(int maxSlots) {
+            // At most half full, so probe sequences stay short.
+            int capacity = Integer.highestOneBit(Math.max(1, maxSlots * 2 - 1)) << 1;
+            keys = new int[capacity];
+            values = new double[capacity];
+            mask = capacity - 1;
+        }
+
+        void add(int slot, double score) {
+            int key = slot + 1;
+            int bucket = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+            while (keys[bucket] != 0 && keys[bucket] != key) {
+                bucket = (bucket + 1) & mask;
+            }
+            keys[bucket] = key;
+            values[bucket] += score;
+        }
+    }
+
+    /**
+     * A growable list of (slot, weighted frequency) pairs for a single term.
+     * 'live' counts the entries whose slot has not been tombstoned and serves as the document frequency.
+     */
+    private static final class PostingList {
+        private int[] slots = new int[4];
+        private float[] freqs = new float[4];
+        private int size;
+        private int live;
+
+        void add(int slot, float freq) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            slots[size] = slot;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+    }
+}
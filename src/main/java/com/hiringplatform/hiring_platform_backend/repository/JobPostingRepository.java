@@ -1,9 +1,6 @@
 package com.hiringplatform.hiring_platform_backend.repository;
 
-import java.util.List;
-
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hiringplatform.hiring_platform_backend.model.JobPosting;
@@ -15,8 +12,8 @@ import com.hiringplatform.hiring_platform_backend.model.JobPosting;
  * It is used for creating, reading, updating, and deleting job posts.
  */
 @Repository
-public interface JobPostingRepository extends MongoRepository<JobPosting, String> {
+public interface JobPostingRepository extends MongoRepository<JobPosting, String>, JobPostingRepositoryCustom {
     // By extending MongoRepository, we get methods like save(), findAll(), findById(), etc.,
     // without needing to write any implementation code.
-    // Custom query methods can be added here if needed.
+    // Codec-based read methods are declared in JobPostingRepositoryCustom.
 }
@@ -0,0 +1,53 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import java.util.List;
+
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.mongodb.client.MongoCursor;
+
+/**
+ * Read operations on JobPostings that bypass Spring Data's reflective mapping and
+ * decode through the hand-written codecs registered in MongoConfig.
+ * Implemented by JobPostingRepositoryCustomImpl and mixed into JobPostingRepository.
+ */
+public interface JobPostingRepositoryCustom {
+
+    /**
+     * Loads every posting as a summary, with the description truncated server-side.
+     *
+     * @return The summaries of all job postings.
+     */
+    List<JobPostingSummary> findAllSummaries();
+
+    /**
+     * Loads one page of summaries, newest first, using the _id index for keyset pagination.
+     * Each page costs an index range scan of limit entries, however deep into the catalog it is.
+     *
+     * @param beforeId The id of the last posting on the previous page, or null for the first page.
+     * @param limit The maximum number of summaries to return.
+     * @return Up to limit summaries whose ids sort before beforeId, in descending _id order.
+     */
+    List<JobPostingSummary> findSummariesBefore(String beforeId, int limit);
+
+    /**
+     * Loads one page of a recruiter's own summaries, newest first.
+     * Served by the (recruiterId, _id) index, so the cost depends on the page size and not on
+     * the size of the catalog or of other recruiters' listings.
+     *
+     * @param recruiterId The id of the recruiter whose postings to load.
+     * @param beforeId The id of the last posting on the previous page, or null for the first page.
+     * @param limit The maximum number of summaries to return, or 0 for all of them.
+     * @return The recruiter's summaries whose ids sort before beforeId, in descending _id order.
+     */
+    List<JobPostingSummary> findSummariesByRecruiterBefore(String recruiterId, String beforeId, int limit);
+
+    /**
+     * Opens a cursor over every posting summary, fetching batchSize documents per round trip.
+     * Only one batch is held in memory at a time, and the next batch is requested only once
+     * the caller has consumed the current one. The caller must close the cursor.
+     *
+     * @param batchSize The number of documents the server returns per batch.
+     * @return An open cursor over the summaries of all job postings.
+     */
+    MongoCursor<JobPostingSummary> openSummaryCursor(int batchSize);
+}
@@ -0,0 +1,69 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.hiringplatform.hiring_platform_backend.codec.JobPostingSummaryCodec;
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+
+/**
+ * The implementation of JobPostingRepositoryCustom, picked up by Spring Data through the
+ * "Impl" naming convention. It works on the native driver collection so results are
+ * decoded by the registered codecs rather than by MongoConverter.
+ */
+public class JobPostingRepositoryCustomImpl implements JobPostingRepositoryCustom {
+
+    /**
+     * Injected template, used only to obtain driver-level collection handles.
+     */
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public List<JobPostingSummary> findAllSummaries() {
+        return summaries().find().projection(JobPostingSummaryCodec.PROJECTION).into(new ArrayList<>());
+    }
+
+    @Override
+    public List<JobPostingSummary> findSummariesBefore(String beforeId, int limit) {
+        return findPage(new BsonDocument(), beforeId, limit);
+    }
+
+    @Override
+    public List<JobPostingSummary> findSummariesByRecruiterBefore(String recruiterId, String beforeId, int limit) {
+        return findPage(Filters.eq("recruiterId", recruiterId), beforeId, limit);
+    }
+
+    @Override
+    public MongoCursor<JobPostingSummary> openSummaryCursor(int batchSize) {
+        return summaries().find().projection(JobPostingSummaryCodec.PROJECTION).batchSize(batchSize).cursor();
+    }
+
+    /**
+     * Runs a keyset page query: the summaries matching filter with an _id below beforeId, newest first.
+     */
+    private List<JobPostingSummary> findPage(Bson filter, String beforeId, int limit) {
+        if (beforeId != null) {
+            filter = Filters.and(filter, Filters.lt("_id", ObjectId.isValid(beforeId) ? new ObjectId(beforeId) : beforeId));
+        }
+        return summaries().find(filter)
+                .projection(JobPostingSummaryCodec.PROJECTION)
+                .sort(Sorts.descending("_id"))
+                .limit(limit)
+                .into(new ArrayList<>());
+    }
+
+    private MongoCollection<JobPostingSummary> summaries() {
+        return mongoTemplate.getCollection("JobPostings").withDocumentClass(JobPostingSummary.class);
+    }
+}
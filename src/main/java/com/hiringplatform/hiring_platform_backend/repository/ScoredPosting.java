@@ -0,0 +1,20 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+
+/**
+ * A JobPosting paired with the relevance score it received for a particular query.
+ */
+public class ScoredPosting {
+
+    private final JobPosting posting;
+    private final double score;
+
+    public ScoredPosting(JobPosting posting, double score) {
+        this.posting = posting;
+        this.score = score;
+    }
+
+    public JobPosting getPosting() { return posting; }
+    public double getScore() { return score; }
+}
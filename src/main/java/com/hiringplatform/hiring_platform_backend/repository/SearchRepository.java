@@ -4,6 +4,8 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
+import com.hiringplatform.hiring_platform_backend.dto.SearchPage;
+import com.hiringplatform.hiring_platform_backend.dto.SearchQuery;
 import com.hiringplatform.hiring_platform_backend.model.*;
 
 /**
@@ -24,4 +26,24 @@ public interface SearchRepository {
 	 */
 	List<JobPosting> findByText(String text);
 
+	/**
+	 * Returns one page of the postings matching a keyword search, in the requested order.
+	 * Pages are keyset-paginated: each page starts strictly after the (sort key, id) position
+	 * recorded in the query's cursor, so fetching a deep page costs the same as fetching the first.
+	 *
+	 * @param query The search text, page size, ordering and optional continuation cursor.
+	 * @return The postings on the page and the cursor of the next page, if any.
+	 */
+	SearchPage findPage(SearchQuery query);
+
+	/**
+	 * How long a saved or deleted posting may take to be reflected in this engine's results.
+	 * Engines that index as part of the write return 0, the default.
+	 *
+	 * @return The indexing lag in milliseconds.
+	 */
+	default long indexLagMillis() {
+		return 0;
+	}
+
 }
@@ -2,14 +2,35 @@ package com.hiringplatform.hiring_platform_backend.repository;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import com.hiringplatform.hiring_platform_backend.codec.JobPostingCodec;
+import com.hiringplatform.hiring_platform_backend.codec.JobPostingSummaryCodec;
+import com.hiringplatform.hiring_platform_backend.dto.ExperienceBucket;
+import com.hiringplatform.hiring_platform_backend.dto.FacetCount;
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.dto.SearchCursor;
+import com.hiringplatform.hiring_platform_backend.dto.SearchFacets;
+import com.hiringplatform.hiring_platform_backend.dto.SearchPage;
+import com.hiringplatform.hiring_platform_backend.dto.SearchQuery;
+import com.hiringplatform.hiring_platform_backend.dto.SearchSort;
 import com.hiringplatform.hiring_platform_backend.model.*;
+import com.hiringplatform.hiring_platform_backend.service.SkillDictionary;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
@@ -19,9 +40,15 @@ import com.mongodb.client.MongoDatabase;
  * The concrete implementation of the SearchRepository interface.
  * This class uses the native MongoDB Java driver to build and execute
  * a powerful aggregation pipeline for text-based searches, specifically
- * leveraging MongoDB Atlas Search features.
+ * leveraging MongoDB Atlas Search features. Results are decoded with the
+ * hand-written codecs in the codec package rather than MongoConverter.
+ *
+ * This is the default engine ({@code search.engine=atlas}); see InMemorySearchRepository
+ * for the alternative that does not require Atlas.
  */
 @Repository
+@Qualifier("searchEngine")
+@ConditionalOnProperty(name = "search.engine", havingValue = "atlas", matchIfMissing = true)
 public class SearchRepositoryImpl implements SearchRepository{
 	
 	/**
@@ -29,13 +56,43 @@ public class SearchRepositoryImpl implements SearchRepository{
 	 */
 	@Autowired
 	MongoClient client;
+
+	/**
+	 * How long Atlas Search takes to index a write; it indexes asynchronously, after MongoDB acknowledges the write.
+	 */
+	@Value("${search.atlas.index-lag-ms:3000}")
+	private long indexLagMillis;
 	
 	/**
-	 * Injected converter to manually map BSON Documents back to Java POJOs (JobPosting).
+	 * Hand-written codecs that decode result documents without reflection.
 	 */
-	@Autowired
-	MongoConverter converter;
+	private final JobPostingCodec postingCodec = new JobPostingCodec();
+	private final JobPostingSummaryCodec summaryCodec = new JobPostingSummaryCodec();
 	
+	/**
+	 * The fields searched by every query.
+	 */
+	private static final List<String> SEARCH_PATHS = Arrays.asList("skillSet", "description", "role");
+
+	/**
+	 * The facet collectors: the most frequent skills and the fixed experience buckets.
+	 */
+	private static final Document FACET_DEFINITIONS = new Document("skills",
+			new Document("type", "string").append("path", "skillSet").append("numBuckets", SearchFacets.TOP_SKILLS))
+		.append("experience",
+			new Document("type", "number").append("path", "experience")
+				.append("boundaries", experienceBoundaries()).append("default", "other"));
+
+	/**
+	 * The number of results returned by the legacy, unpaginated findByText.
+	 */
+	private static final int LEGACY_LIMIT = 5;
+
+	@Override
+	public long indexLagMillis() {
+		return indexLagMillis;
+	}
+
 	/**
 	 * Performs an advanced text search on the JobPostings collection using an Atlas Search aggregation pipeline.
 	 *
@@ -45,33 +102,231 @@ public class SearchRepositoryImpl implements SearchRepository{
 	@Override
 	public List<JobPosting> findByText(String text) {
 		final List<JobPosting> posts = new ArrayList<>();
-		
+		SearchQuery query = new SearchQuery(text, LEGACY_LIMIT, SearchSort.EXPERIENCE, null);
+
+		// Decode each raw result straight into a JobPosting with the hand-written codec.
+		collection().aggregate(pipeline(query, false)).forEach(raw -> posts.add(raw.decode(postingCodec)));
+
+		return posts.size() > LEGACY_LIMIT ? posts.subList(0, LEGACY_LIMIT) : posts;
+	}
+
+	/**
+	 * Returns one page of an Atlas Search query.
+	 * The ordering is applied inside the $search stage (using the search index's sort support)
+	 * rather than by a blocking $sort over the full match set, and the page is cut with a $limit
+	 * of size + 1 to detect whether another page exists. For the experience and newest orderings
+	 * the cursor is turned into range filters on (experience, _id) and _id; for relevance, whose
+	 * score cannot be filtered on, Atlas' own searchAfter token for the last hit is carried in the cursor.
+	 *
+	 * Skill and experience filters become non-scoring filter clauses. When facets are requested,
+	 * the operator is wrapped in Atlas' facet collector and the counts are read from $$SEARCH_META
+	 * in the same aggregation, so hits and facets cost a single round trip. This needs skillSet to be
+	 * mapped as both 'string' and 'token' (stringFacet) and experience as 'number' (numberFacet) in
+	 * the search index; see atlas-search-index.json.
+	 *
+	 * Hits are projected to summaries on the server (the description is cut to a snippet) and are
+	 * decoded from the raw BSON bytes by JobPostingSummaryCodec.
+	 *
+	 * @param query The search text, filters, page size, ordering and optional continuation cursor.
+	 * @return The postings on the page, the cursor of the next page (if any) and the requested facets.
+	 */
+	@Override
+	public SearchPage findPage(SearchQuery query) {
+		final List<JobPostingSummary> posts = new ArrayList<>();
+		final List<String> tokens = new ArrayList<>();
+		SearchSort sort = query.getSort();
+
+		// Execute the aggregation pipeline, keeping results as raw BSON until decoded.
+		AggregateIterable<RawBsonDocument> result = collection().aggregate(pipeline(query, true));
+
+		List<BsonDocument> docs = new ArrayList<>();
+		SearchFacets facets = null;
+		if (query.wantsFacets()) {
+			RawBsonDocument combined = result.first();
+			BsonArray meta = combined == null ? new BsonArray() : combined.getArray("meta");
+			if (combined != null) {
+				combined.getArray("docs").forEach(value -> docs.add(value.asDocument()));
+			}
+			facets = toFacets(meta.isEmpty() ? null : meta.get(0).asDocument());
+		} else {
+			result.into(docs);
+		}
+		for (BsonDocument doc : docs) {
+			if (sort == SearchSort.RELEVANCE) {
+				tokens.add(doc.getString("_searchToken").getValue());
+			}
+			posts.add(summaryCodec.decode(doc.asBsonReader(), DecoderContext.builder().build()));
+		}
+
+		String nextCursor = null;
+		if (posts.size() > query.getSize()) {
+			posts.remove(posts.size() - 1);
+			JobPostingSummary last = posts.get(posts.size() - 1);
+			String value = switch (sort) {
+				case RELEVANCE -> tokens.get(posts.size() - 1);
+				case EXPERIENCE -> Integer.toString(last.getExperience());
+				case NEWEST -> "";
+			};
+			nextCursor = new SearchCursor(sort, value, last.getId()).encode();
+		}
+		return new SearchPage(posts, nextCursor, facets);
+	}
+
+	/**
+	 * Returns a handle to the JobPostings collection that yields undecoded BSON.
+	 */
+	private MongoCollection<RawBsonDocument> collection() {
 		// Get a handle to the specific database and collection.
 		MongoDatabase database = client.getDatabase("hiring-platform");
-		MongoCollection<Document> collection = database.getCollection("JobPostings");
-		
-		// Execute the aggregation pipeline.
-		AggregateIterable<Document> result = collection.aggregate(Arrays.asList(
-			// Stage 1: Use Atlas Search ($search) for efficient, indexed text searching.
-			new Document("$search", 
-				new Document("text", 
-					new Document("query", text) // Use the dynamic search text from the method parameter.
-						.append("path", Arrays.asList("skillSet", "description", "role")) // Specify the fields to search within.
-				)
-			), 
-			// Stage 2: Sort the results by the 'experience' field in ascending order (1).
-			new Document("$sort", 
-				new Document("experience", 1L)
-			), 
-			// Stage 3: Limit the number of returned documents to 5.
-			new Document("$limit", 5L)
-		));
-		
-		// Iterate through the raw BSON Document results and convert each one
-		// back into a JobPosting Java object.
-		result.forEach(doc -> posts.add(converter.read(JobPosting.class, doc)));
-		
-		return posts;
+		return database.getCollection("JobPostings", RawBsonDocument.class);
+	}
+
+	/**
+	 * Builds the aggregation pipeline for one page.
+	 *
+	 * @param query The page to fetch.
+	 * @param summaries Whether to project the hits to summaries (otherwise full documents are returned).
+	 */
+	private static List<Document> pipeline(SearchQuery query, boolean summaries) {
+		SearchSort sort = query.getSort();
+		SearchCursor cursor = query.getCursor();
+
+		// Stage 1: Use Atlas Search ($search) for efficient, indexed text searching.
+		Document search = new Document(searchOperator(query));
+		if (query.wantsFacets()) {
+			search = new Document("facet", new Document("operator", search).append("facets", FACET_DEFINITIONS));
+		}
+		search.append("sort", sortSpec(sort));
+		if (cursor != null && sort == SearchSort.RELEVANCE) {
+			search.append("searchAfter", cursor.getValue());
+		}
+
+		List<Document> pipeline = new ArrayList<>();
+		pipeline.add(new Document("$search", search));
+		// Stage 2: Fetch one extra document to find out whether there is a next page.
+		pipeline.add(new Document("$limit", (long) query.getSize() + 1));
+		// Stage 3: Trim the documents to summaries and expose the token Atlas uses to resume after each one.
+		Document token = new Document("$meta", "searchSequenceToken");
+		if (summaries) {
+			Document projection = new Document(JobPostingSummaryCodec.PROJECTION);
+			if (sort == SearchSort.RELEVANCE) {
+				projection.append("_searchToken", token);
+			}
+			pipeline.add(new Document("$project", projection));
+		} else if (sort == SearchSort.RELEVANCE) {
+			pipeline.add(new Document("$addFields", new Document("_searchToken", token)));
+		}
+		if (query.wantsFacets()) {
+			// Stage 4: Return the hits and the facet metadata together in one document.
+			pipeline.add(new Document("$facet", new Document("docs", List.of())
+				.append("meta", List.of(new Document("$replaceWith", "$$SEARCH_META"), new Document("$limit", 1L)))));
+		}
+		return pipeline;
+	}
+
+	/**
+	 * Builds the search operator: the text clause (fuzzy if requested), plus non-scoring filters for the
+	 * skill and experience filters and the keyset position, if any.
+	 */
+	private static Document searchOperator(SearchQuery query) {
+		Document textOptions = new Document("query", query.getText()) // Use the dynamic search text from the query.
+			.append("path", SEARCH_PATHS); // Specify the fields to search within.
+		if (query.isFuzzy()) {
+			// Let Atlas match terms up to two edits away, requiring the first character to match.
+			textOptions.append("fuzzy", new Document("maxEdits", 2).append("prefixLength", 1));
+		}
+		Document text = new Document("text", textOptions);
+
+		List<Document> filters = new ArrayList<>();
+		for (String skill : query.getSkills()) {
+			filters.add(new Document("equals", new Document("path", "skillSet").append("value", SkillDictionary.normalize(skill))));
+		}
+		ExperienceBucket experience = query.getExperience();
+		if (experience != null) {
+			Document range = new Document("path", "experience").append("gte", experience.getMin());
+			if (experience.getMaxExclusive() != Integer.MAX_VALUE) {
+				range.append("lt", experience.getMaxExclusive());
+			}
+			filters.add(new Document("range", range));
+		}
+		if (query.getCursor() != null && query.getSort() != SearchSort.RELEVANCE) {
+			filters.add(keysetFilter(query.getCursor()));
+		}
+
+		if (filters.isEmpty()) {
+			return text;
+		}
+		return new Document("compound", new Document("must", List.of(text)).append("filter", filters));
+	}
+
+	/**
+	 * Converts the $$SEARCH_META document into SearchFacets, reporting every experience bucket.
+	 */
+	private static SearchFacets toFacets(BsonDocument meta) {
+		long total = 0;
+		List<FacetCount> skills = new ArrayList<>();
+		Map<Integer, Long> bucketCounts = new HashMap<>();
+		if (meta != null) {
+			BsonDocument count = meta.getDocument("count", null);
+			total = count == null ? 0 : count.getNumber("lowerBound").longValue();
+			BsonDocument facet = meta.getDocument("facet");
+			for (BsonValue value : facet.getDocument("skills").getArray("buckets")) {
+				BsonDocument bucket = value.asDocument();
+				if (bucket.get("_id").isString()) {
+					skills.add(new FacetCount(bucket.getString("_id").getValue(), bucket.getNumber("count").longValue()));
+				}
+			}
+			for (BsonValue value : facet.getDocument("experience").getArray("buckets")) {
+				BsonDocument bucket = value.asDocument();
+				if (bucket.get("_id").isNumber()) {
+					bucketCounts.put(bucket.getNumber("_id").intValue(), bucket.getNumber("count").longValue());
+				}
+			}
+		}
+		List<FacetCount> experience = new ArrayList<>();
+		for (ExperienceBucket bucket : ExperienceBucket.values()) {
+			experience.add(new FacetCount(bucket.getLabel(), bucketCounts.getOrDefault(bucket.getMin(), 0L)));
+		}
+		return new SearchFacets(total, skills, experience);
+	}
+
+	private static List<Integer> experienceBoundaries() {
+		List<Integer> boundaries = new ArrayList<>();
+		for (ExperienceBucket bucket : ExperienceBucket.values()) {
+			boundaries.add(bucket.getMin());
+		}
+		boundaries.add(Integer.MAX_VALUE);
+		return boundaries;
+	}
+
+	/**
+	 * Builds the $search sort specification for an ordering, always ending with _id as the tie-breaker.
+	 */
+	private static Document sortSpec(SearchSort sort) {
+		return switch (sort) {
+			case RELEVANCE -> new Document("score", new Document("$meta", "searchScore")).append("_id", 1);
+			case EXPERIENCE -> new Document("experience", 1).append("_id", 1);
+			case NEWEST -> new Document("_id", -1);
+		};
+	}
+
+	/**
+	 * Translates a cursor into a search filter that only matches documents sorting strictly after it.
+	 */
+	private static Document keysetFilter(SearchCursor cursor) {
+		Object lastId = ObjectId.isValid(cursor.getId()) ? new ObjectId(cursor.getId()) : cursor.getId();
+		if (cursor.getSort() == SearchSort.NEWEST) {
+			return new Document("range", new Document("path", "_id").append("lt", lastId));
+		}
+		int lastExperience = (int) cursor.getNumericValue();
+		// experience > last OR (experience == last AND _id > lastId)
+		return new Document("compound", new Document("should", List.of(
+			new Document("range", new Document("path", "experience").append("gt", lastExperience)),
+			new Document("compound", new Document("filter", List.of(
+				new Document("equals", new Document("path", "experience").append("value", lastExperience)),
+				new Document("range", new Document("path", "_id").append("gt", lastId))
+			)))
+		)).append("minimumShouldMatch", 1));
 	}
 
 }
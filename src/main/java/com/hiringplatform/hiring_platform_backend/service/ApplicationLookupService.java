@@ -0,0 +1,92 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.repository.ApplicationRepository;
+import com.hiringplatform.hiring_platform_backend.repository.CandidateProfileRepository;
+import com.hiringplatform.hiring_platform_backend.util.Threads;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Loads everything an application needs in about one database round trip.
+ *
+ * The candidate comes from the verified token, so four lookups remain: the candidate's profile,
+ * whether the candidate has already applied, the job, and the job's recruiter. The first two do
+ * not depend on the others and are fetched on a small pool while the request thread resolves the
+ * job and then its recruiter. That chain is usually served from memory (JobPostingCatalog when
+ * enabled, and UserCacheService, which stays warm for a recruiter receiving many applications),
+ * so the two parallel queries are normally the only network latency on the path; with cold caches
+ * they overlap the first of the other two.
+ * The profile lookups run on a virtual thread each when spring.threads.virtual.enabled is set,
+ * and on a pool of applications.lookup-threads otherwise.
+ */
+@Service
+public class ApplicationLookupService {
+
+    private final CandidateProfileRepository candidateProfileRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobPostingCatalog catalog;
+    private final UserCacheService userCacheService;
+    private final ExecutorService lookupPool;
+
+    @Autowired
+    public ApplicationLookupService(CandidateProfileRepository candidateProfileRepository,
+            ApplicationRepository applicationRepository, JobPostingCatalog catalog, UserCacheService userCacheService,
+            @Value("${applications.lookup-threads:16}") int threads,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.candidateProfileRepository = candidateProfileRepository;
+        this.applicationRepository = applicationRepository;
+        this.catalog = catalog;
+        this.userCacheService = userCacheService;
+        this.lookupPool = Threads.blockingExecutor("application-lookup", virtualThreads, threads);
+    }
+
+    /**
+     * The data needed to accept an application. Each part is empty if it does not exist.
+     * alreadyApplied is true if an application of the candidate for the job is already stored.
+     */
+    public record ApplyContext(Optional<CandidateProfile> profile, Optional<JobPosting> job, Optional<User> recruiter,
+            boolean alreadyApplied) {
+    }
+
+    /**
+     * Fetches the candidate's profile and existing application concurrently with the job and its recruiter.
+     *
+     * @param candidateUserId The id of the applying user.
+     * @param jobId The id of the job.
+     * @return The profile, job, recruiter and whether the candidate already applied; the recruiter
+     *         is not looked up if the job does not exist.
+     */
+    public ApplyContext load(String candidateUserId, String jobId) {
+        CompletableFuture<Optional<CandidateProfile>> profile =
+                CompletableFuture.supplyAsync(() -> candidateProfileRepository.findByUserId(candidateUserId), lookupPool);
+        CompletableFuture<Boolean> applied = CompletableFuture.supplyAsync(
+                () -> applicationRepository.existsByJobIdAndCandidateUserId(jobId, candidateUserId), lookupPool);
+        Optional<JobPosting> job = catalog.findById(jobId);
+        Optional<User> recruiter = job.flatMap(posting -> userCacheService.findById(posting.getRecruiterId()));
+        try {
+            return new ApplyContext(profile.join(), job, recruiter, applied.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupPool.shutdown();
+    }
+}
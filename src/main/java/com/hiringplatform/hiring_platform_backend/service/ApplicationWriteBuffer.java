@@ -0,0 +1,343 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.hiringplatform.hiring_platform_backend.model.Application;
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Updates;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Stores new applications in the background, in batches.
+ *
+ * Request handlers only put an application in a bounded in-memory queue. A single flusher thread
+ * takes up to applications.write-behind.batch-size of them, or whatever has arrived within
+ * flush-interval-ms of the first one, and writes them with one unordered insertMany, so a burst
+ * of applications costs one round trip per batch rather than one per click. Duplicates are left
+ * to the unique (jobId, candidateUserId) index: the rest of the batch is stored. Duplicates still
+ * waiting in the queue are rejected on submission.
+ *
+ * Each application is inserted together with its recruiter notification. Once stored, the
+ * notifications are queued in the outbox in one write (plus one for digest items, see
+ * EmailService.enqueueAll) and then removed from the applications. If queuing fails, or the
+ * process dies in between, they stay on the applications, and every
+ * notification-sweep-seconds the flusher queues those older than one sweep interval. A
+ * notification is therefore sent at least once; it is sent twice only if the process dies
+ * after queuing it but before removing it.
+ *
+ * If MongoDB is unavailable the batch is retried until it succeeds; meanwhile the queue fills up
+ * and further submissions are refused. On shutdown the queue is flushed once more. Applications
+ * accepted but not yet written are lost if the process dies abruptly; that is the price of not
+ * waiting for MongoDB on every request. The queue length is published as the
+ * applications.pending gauge, and rejected duplicates as the applications.duplicates counter.
+ */
+@Service
+public class ApplicationWriteBuffer {
+
+    /**
+     * The duplicate key error code returned by MongoDB.
+     */
+    private static final int DUPLICATE_KEY = 11000;
+
+    /**
+     * The outcome of a submission.
+     */
+    public enum Result {
+        /** Queued; it will be stored with the next batch. */
+        ACCEPTED,
+        /** The same candidate's application for the same job is already queued. */
+        DUPLICATE,
+        /** The queue is full, most likely because MongoDB is not keeping up; try again later. */
+        FULL
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private EmailService emailService;
+
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long retryDelayMillis;
+    private final long sweepIntervalMillis;
+    private final BlockingQueue<Pending> queue;
+
+    /**
+     * The (jobId, candidateUserId) keys of the queued applications.
+     */
+    private final Set<String> queuedKeys = ConcurrentHashMap.newKeySet();
+
+    private final Counter duplicates;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @Autowired
+    public ApplicationWriteBuffer(@Value("${applications.write-behind.batch-size:500}") int batchSize,
+            @Value("${applications.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${applications.write-behind.capacity:20000}") int capacity,
+            @Value("${applications.write-behind.retry-delay-ms:1000}") long retryDelayMillis,
+            @Value("${applications.write-behind.notification-sweep-seconds:60}") long sweepIntervalSeconds,
+            MeterRegistry meterRegistry) {
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.retryDelayMillis = retryDelayMillis;
+        this.sweepIntervalMillis = sweepIntervalSeconds * 1000;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("applications.pending", queue, Queue::size)
+                .description("Applications accepted but not yet written to MongoDB")
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("applications.duplicates")
+                .description("Applications rejected because the candidate had already applied")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "application-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Stops accepting work and writes out everything still queued.
+     * MongoTemplate is a dependency of this bean, so it is still open at this point.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        // Not interrupted: the flusher notices within one flush interval, and a write in progress is not cut off.
+        if (flusher != null) {
+            flusher.join();
+        }
+    }
+
+    /**
+     * Queues an application for storage.
+     *
+     * @param application The application; its id is assigned when it is written.
+     * @param notification The email to queue for the recruiter once the application is stored, or null.
+     * @return Whether the application was queued.
+     */
+    public Result submit(Application application, EmailOutboxMessage notification) {
+        if (!running) {
+            return Result.FULL;
+        }
+        String key = application.getJobId() + "|" + application.getCandidateUserId();
+        if (!queuedKeys.add(key)) {
+            duplicates.increment();
+            return Result.DUPLICATE;
+        }
+        if (!queue.offer(new Pending(key, application, notification))) {
+            queuedKeys.remove(key);
+            return Result.FULL;
+        }
+        return Result.ACCEPTED;
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        long nextSweep = System.currentTimeMillis();
+        try {
+            while (running) {
+                if (System.currentTimeMillis() >= nextSweep) {
+                    requeueNotifications();
+                    nextSweep = System.currentTimeMillis() + sweepIntervalMillis;
+                }
+                Pending first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Collect until the batch is full or the first application has waited one interval.
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                if (!writeUntilStored(batch)) {
+                    break;
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // Nothing interrupts this thread on purpose; treat it like a stop and still write what is queued.
+        }
+
+        // Shutting down: one attempt for whatever is left. A failure means MongoDB is gone, so the
+        // remaining chunks would only fail in turn, each after its own timeout.
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<Pending> chunk = batch.subList(from, Math.min(batch.size(), from + batchSize));
+            try {
+                write(chunk);
+            } catch (RuntimeException e) {
+                System.err.println("Lost " + (batch.size() - from) + " applications at shutdown: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes a batch, retrying for as long as the application is running.
+     *
+     * @return False if it stopped retrying because of a shutdown; the batch is then still unwritten.
+     */
+    private boolean writeUntilStored(List<Pending> batch) throws InterruptedException {
+        while (true) {
+            try {
+                write(batch);
+                return true;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    return false;
+                }
+                System.err.println("Could not store " + batch.size() + " applications, retrying: " + e.getMessage());
+                Thread.sleep(retryDelayMillis);
+            }
+        }
+    }
+
+    /**
+     * Inserts a batch with one unordered insertMany and queues the notifications of the applications stored.
+     *
+     * @throws RuntimeException If the insert failed as a whole (e.g. MongoDB is unreachable).
+     */
+    void write(List<Pending> batch) {
+        List<Document> documents = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            pending.application().setNotification(pending.notification());
+            Document document = new Document();
+            mongoTemplate.getConverter().write(pending.application(), document);
+            documents.add(document);
+        }
+
+        Set<Integer> rejected = new HashSet<>();
+        try {
+            applications().insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            // Unordered: everything except the listed writes was applied.
+            for (BulkWriteError error : e.getWriteErrors()) {
+                rejected.add(error.getIndex());
+                if (error.getCode() == DUPLICATE_KEY) {
+                    duplicates.increment();
+                } else {
+                    Application application = batch.get(error.getIndex()).application();
+                    System.err.println("Could not store the application of " + application.getCandidateUserId()
+                            + " for job " + application.getJobId() + ": " + error.getMessage());
+                }
+            }
+        }
+        batch.forEach(pending -> queuedKeys.remove(pending.key()));
+
+        List<Object> ids = new ArrayList<>(batch.size());
+        List<EmailOutboxMessage> notifications = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            EmailOutboxMessage notification = batch.get(i).notification();
+            if (notification != null && !rejected.contains(i)) {
+                // insertMany assigned the _id to the document.
+                ids.add(documents.get(i).get("_id"));
+                notifications.add(notification);
+            }
+        }
+        try {
+            handOver(ids, notifications);
+        } catch (RuntimeException e) {
+            // The applications are stored; failing the batch now would only turn them into duplicates.
+            System.err.println("Could not queue " + notifications.size()
+                    + " application emails, leaving them for the next sweep: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queues the notifications left on applications by a failed or interrupted hand-over,
+     * once they are older than one sweep interval (younger ones may still be in progress).
+     */
+    void requeueNotifications() {
+        Date cutoff = new Date(System.currentTimeMillis() - sweepIntervalMillis);
+        try {
+            while (true) {
+                Query query = Query.query(Criteria.where("notification.createdAt").lt(cutoff)).limit(batchSize);
+                query.fields().include("notification");
+                List<Application> stranded = mongoTemplate.find(query, Application.class);
+                if (stranded.isEmpty()) {
+                    return;
+                }
+                List<Object> ids = new ArrayList<>(stranded.size());
+                List<EmailOutboxMessage> notifications = new ArrayList<>(stranded.size());
+                for (Application application : stranded) {
+                    ids.add(new ObjectId(application.getId()));
+                    notifications.add(application.getNotification());
+                }
+                handOver(ids, notifications);
+                System.out.println("Queued " + notifications.size() + " application emails left over from earlier batches.");
+                if (stranded.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Could not queue left-over application emails, retrying later: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queues notifications in the outbox, then removes them from their applications.
+     *
+     * @param ids The _id values of the applications.
+     * @param notifications Their notifications, in the same order.
+     */
+    private void handOver(List<Object> ids, List<EmailOutboxMessage> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        emailService.enqueueAll(notifications);
+        applications().updateMany(Filters.in("_id", ids), Updates.unset("notification"));
+    }
+
+    private MongoCollection<Document> applications() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Application.class));
+    }
+
+    /**
+     * A queued application, its duplicate-detection key and its recruiter notification.
+     */
+    record Pending(String key, Application application, EmailOutboxMessage notification) {
+    }
+}
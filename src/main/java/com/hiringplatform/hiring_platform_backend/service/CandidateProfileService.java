@@ -0,0 +1,120 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Service;
+
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.repository.CandidateProfileRepository;
+import com.hiringplatform.hiring_platform_backend.util.BoundedCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Reads candidate profiles through a short-lived cache keyed by user id.
+ *
+ * Recruiters tend to look at the same applicants several times in a row (the applicant list,
+ * then each profile, then the list again), so profiles are kept for a short TTL and repeat views
+ * cost no query. Lookups of several users fetch only the uncached ones, with a single $in query
+ * on the indexed userId field. Saving or deleting a profile through Spring Data drops its entry
+ * at once. Profiles that do not exist are not cached. Hit and miss counts are published as
+ * cache.* meters tagged cache=profiles.
+ *
+ * Cached CandidateProfile instances are shared and must be treated as read-only.
+ */
+@Service
+public class CandidateProfileService extends AbstractMongoEventListener<CandidateProfile> {
+
+    @Autowired
+    private CandidateProfileRepository candidateProfileRepository;
+
+    private final BoundedCache<String, CandidateProfile> profiles;
+
+    @Autowired
+    public CandidateProfileService(@Value("${profiles.cache.max-entries:10000}") int maxEntries,
+            @Value("${profiles.cache.ttl-seconds:60}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.profiles = new BoundedCache<>(maxEntries, ttlSeconds * 1000);
+        this.profiles.bindTo(meterRegistry, "profiles");
+    }
+
+    /**
+     * Finds the profile of one user, from the cache when possible.
+     */
+    public Optional<CandidateProfile> findByUserId(String userId) {
+        long generation = profiles.generation();
+        CandidateProfile cached = profiles.get(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<CandidateProfile> loaded = candidateProfileRepository.findByUserId(userId);
+        loaded.ifPresent(profile -> profiles.putIfUnchanged(userId, profile, generation));
+        return loaded;
+    }
+
+    /**
+     * Finds the profiles of several users, with at most one query for those not cached.
+     *
+     * @param userIds The user IDs to look up.
+     * @return The profiles found, keyed by user id in the order of the request. Users without a profile are absent.
+     */
+    public Map<String, CandidateProfile> findByUserIds(Collection<String> userIds) {
+        long generation = profiles.generation();
+        Map<String, CandidateProfile> found = new LinkedHashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String userId : userIds) {
+            CandidateProfile cached = profiles.get(userId);
+            // Reserve the slot so the result keeps the request order; filled or removed below.
+            found.put(userId, cached);
+            if (cached == null) {
+                uncached.add(userId);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            for (CandidateProfile profile : candidateProfileRepository.findByUserIdIn(uncached)) {
+                if (found.get(profile.getUserId()) == null) {
+                    found.put(profile.getUserId(), profile);
+                    profiles.putIfUnchanged(profile.getUserId(), profile, generation);
+                }
+            }
+        }
+        found.values().removeIf(Objects::isNull);
+        return found;
+    }
+
+    /**
+     * Drops the cached profile of a user, after an update that bypasses the mapping events.
+     *
+     * @param userId The id of the user whose profile changed.
+     */
+    public void evict(String userId) {
+        profiles.invalidate(userId);
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<CandidateProfile> event) {
+        String userId = event.getSource().getUserId();
+        if (userId != null) {
+            profiles.invalidate(userId);
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<CandidateProfile> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            profiles.invalidateIf((userId, profile) -> Objects.equals(profile.getId(), id.toString()));
+        }
+    }
+}
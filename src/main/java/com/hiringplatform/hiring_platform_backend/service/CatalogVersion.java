@@ -0,0 +1,51 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.stereotype.Component;
+
+/**
+ * The version of the JobPostings collection that the listing endpoints use as their ETag.
+ *
+ * The version is the change stream resume token up to which JobPostingCatalog has applied the
+ * collection's changes. It is derived from the collection's own change history, so it moves on
+ * with every write, whether made by this instance, another one, a bulk update or the shell, and
+ * instances that have caught up to the same point report the same version. The catalog is on by
+ * default, and Atlas clusters are always replica sets, so the listings normally carry an ETag.
+ * While the catalog is not following the change stream (disabled, not yet loaded, or a standalone
+ * mongod) there is no version, and the listings are served without one.
+ */
+@Component
+public class CatalogVersion {
+
+    private volatile String current;
+
+    /**
+     * Returns the current version as a strong ETag value (including the quotes).
+     *
+     * @return The ETag, or null if the catalog is not live and no reliable version is known.
+     */
+    public String etag() {
+        String version = current;
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Records the position up to which the catalog reflects the collection.
+     * Called after the new snapshot is in place, so the version never runs ahead of the data.
+     *
+     * @param resumeToken The change stream resume token of that position.
+     */
+    void advance(BsonDocument resumeToken) {
+        BsonValue data = resumeToken == null ? null : resumeToken.get("_data");
+        // The token's _data is a hex string on every supported server version.
+        current = data != null && data.isString() ? data.asString().getValue() : null;
+    }
+
+    /**
+     * Forgets the version when the catalog stops following the collection.
+     */
+    void clear() {
+        current = null;
+    }
+}
@@ -0,0 +1,239 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage;
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage.Status;
+import com.hiringplatform.hiring_platform_backend.util.Threads;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Delivers the messages in the EmailOutbox collection in the background.
+ *
+ * A small pool of worker threads each claim up to email.outbox.batch-size due messages, one
+ * atomic findAndModify each, and send them over a single pooled SMTP connection (see
+ * SmtpTransportPool). A claim marks the message SENDING and leases it for a while, so several workers (and
+ * several application instances) never send the same message concurrently. A message whose
+ * lease runs out, because its worker died mid-send, becomes claimable again. After a failed
+ * attempt the message goes back to PENDING with an exponentially growing, jittered delay, and
+ * is marked FAILED after the last allowed attempt. Delivery is therefore at least once.
+ *
+ * Workers poll for due messages, and are also woken immediately when this instance enqueues one.
+ *
+ * With spring.threads.virtual.enabled the workers are virtual threads. JavaMail holds monitors
+ * while talking to the SMTP server, which pins a virtual thread to its carrier for the whole
+ * exchange, so the number of workers is then kept below the number of carriers (one per CPU)
+ * to leave carriers free for request handling.
+ */
+@Service
+public class EmailOutboxWorker {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Value("${email.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${email.outbox.workers:2}")
+    private int workerCount;
+
+    @Value("${email.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    /**
+     * The most messages a worker claims at a time and sends over one SMTP connection.
+     */
+    @Value("${email.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${email.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.initial-backoff-seconds:10}")
+    private long initialBackoffSeconds;
+
+    @Value("${email.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Permits released on enqueue; idle workers wait on it instead of sleeping.
+     */
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * Starts the workers once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        int count = workerCount;
+        if (virtualThreads) {
+            int carriers = Runtime.getRuntime().availableProcessors();
+            count = Math.max(1, Math.min(workerCount, carriers / 2));
+            if (count < workerCount) {
+                System.err.println("Email outbox: using " + count + " of " + workerCount
+                        + " workers, as SMTP sends pin virtual threads to one of " + carriers + " carriers.");
+            }
+        }
+        running = true;
+        ThreadFactory factory = Threads.factory("email-outbox", virtualThreads);
+        for (int i = 0; i < count; i++) {
+            Thread worker = factory.newThread(this::work);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Stops the workers. A message being sent when they stop is picked up again after its lease expires.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Lets an idle worker look for new messages right away.
+     */
+    public void wakeUp() {
+        wakeups.release();
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                List<EmailOutboxMessage> batch = claimBatch();
+                if (batch.isEmpty()) {
+                    wakeups.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                deliver(batch);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // E.g. the database is unreachable; back off for one poll interval.
+                System.err.println("Email outbox worker error: " + e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Atomically takes the oldest due message, or returns null if there is none.
+     */
+    EmailOutboxMessage claim() {
+        Date now = new Date();
+        Query due = new Query(new Criteria().orOperator(
+                Criteria.where("status").is(Status.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(Status.SENDING).and("lockedUntil").lte(now)))
+                .with(Sort.by("nextAttemptAt"));
+        Update lease = new Update()
+                .set("status", Status.SENDING)
+                .set("lockedUntil", new Date(now.getTime() + leaseSeconds * 1000))
+                .inc("attempts", 1);
+        return mongoTemplate.findAndModify(due, lease, FindAndModifyOptions.options().returnNew(true),
+                EmailOutboxMessage.class);
+    }
+
+    /**
+     * Claims up to batchSize due messages.
+     */
+    List<EmailOutboxMessage> claimBatch() {
+        List<EmailOutboxMessage> batch = new ArrayList<>();
+        EmailOutboxMessage message;
+        while (batch.size() < batchSize && (message = claim()) != null) {
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    /**
+     * Sends claimed messages over one SMTP connection and records each outcome.
+     */
+    void deliver(List<EmailOutboxMessage> batch) {
+        List<? extends RuntimeException> failures;
+        try {
+            failures = emailService.sendAll(batch);
+        } catch (RuntimeException e) {
+            failures = Collections.nCopies(batch.size(), e);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            record(batch.get(i), failures.get(i));
+        }
+    }
+
+    /**
+     * Records the outcome of one delivery attempt.
+     *
+     * @param failure Null if the message was sent.
+     */
+    private void record(EmailOutboxMessage message, RuntimeException failure) {
+        Query mine = Query.query(Criteria.where("id").is(message.getId()).and("status").is(Status.SENDING));
+        if (failure == null) {
+            mongoTemplate.updateFirst(mine, new Update()
+                    .set("status", Status.SENT)
+                    .set("sentAt", new Date())
+                    .unset("lockedUntil"), EmailOutboxMessage.class);
+        } else {
+            Update retry = new Update().set("lastError", String.valueOf(failure.getMessage())).unset("lockedUntil");
+            if (message.getAttempts() >= maxAttempts) {
+                retry.set("status", Status.FAILED);
+                System.err.println("Giving up on email to " + message.getTo() + " after " + message.getAttempts()
+                        + " attempts: " + failure.getMessage());
+            } else {
+                retry.set("status", Status.PENDING)
+                        .set("nextAttemptAt", new Date(System.currentTimeMillis() + backoffMillis(message.getAttempts())));
+            }
+            mongoTemplate.updateFirst(mine, retry, EmailOutboxMessage.class);
+        }
+    }
+
+    /**
+     * The delay before the next attempt: doubling from the initial backoff, capped, with up to 20% jitter
+     * so that messages failing together do not retry together.
+     */
+    long backoffMillis(int attempts) {
+        long base = initialBackoffSeconds * 1000L << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoffSeconds * 1000);
+        return capped + ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+    }
+}
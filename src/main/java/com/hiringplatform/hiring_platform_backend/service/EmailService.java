@@ -2,19 +2,73 @@ package com.hiringplatform.hiring_platform_backend.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value; // <-- IMPORT THIS
-import org.springframework.mail.SimpleMailMessage;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.model.User;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * A dedicated service for handling all email-sending operations.
+ * Request handlers call {@link #enqueue} so they never wait on SMTP; the outbox workers
+ * call {@link #sendAll} and retry what fails. Application notifications are collected into
+ * one digest per recruiter and window, unless the recruiter opted in to immediate emails.
  */
 @Service
 public class EmailService {
 
+    private static final String SIGN_OFF = "Thank you,\nThe Hiring Platform";
+
+    /**
+     * How long a recruiter's digest collects applications before it is sent.
+     */
+    @Value("${email.digest.window-seconds:900}")
+    private long digestWindowSeconds;
+
+    /**
+     * The most applications in one digest; further ones start a new digest.
+     */
+    @Value("${email.digest.max-items:50}")
+    private int digestMaxItems;
+
+    @Autowired
+    private SmtpTransportPool smtpTransportPool;
+
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Notified of new messages so it need not wait for its next poll. Lazy, as the worker uses this service to send.
+     */
+    @Lazy
+    @Autowired
+    private EmailOutboxWorker outboxWorker;
+
     /**
      * Reads the 'spring.mail.username' property from application.properties.
      * This will be used as the "from" address for all outgoing emails.
@@ -22,25 +76,198 @@ public class EmailService {
     @Value("${spring.mail.username}")
     private String fromEmailAddress;
 
+    /**
+     * Queues an email for delivery by writing it to the outbox.
+     * Returns as soon as the message is stored; it is sent in the background and retried until delivered.
+     *
+     * @param to The recipient's email address.
+     * @param subject The subject line of the email.
+     * @param body The main text content of the email.
+     */
+    public void enqueue(String to, String subject, String body) {
+        mongoTemplate.insert(pending(to, subject, body, new Date()));
+        outboxWorker.wakeUp();
+    }
+
+    /**
+     * Queues several emails with as few writes as possible: single messages with one insert,
+     * and digest items with one bulk upsert that appends them to each recipient's open digest
+     * (or opens a new one, due email.digest.window-seconds from now). A digest never holds more
+     * than email.digest.max-items: items that do not fit go to further, new digests.
+     *
+     * @param messages The messages, as built by {@link #pending} or {@link #applicationNotification}.
+     */
+    public void enqueueAll(Collection<EmailOutboxMessage> messages) {
+        List<EmailOutboxMessage> singles = new ArrayList<>();
+        Map<String, List<EmailOutboxMessage>> digests = new LinkedHashMap<>();
+        for (EmailOutboxMessage message : messages) {
+            if (message.getDigestKey() == null) {
+                singles.add(message);
+            } else {
+                digests.computeIfAbsent(message.getDigestKey(), key -> new ArrayList<>()).add(message);
+            }
+        }
+
+        if (!digests.isEmpty()) {
+            Date now = new Date();
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmailOutboxMessage.class);
+            for (Map.Entry<String, List<EmailOutboxMessage>> digest : digests.entrySet()) {
+                List<String> items = new ArrayList<>();
+                digest.getValue().forEach(message -> items.addAll(message.getDigestItems()));
+                String recipient = digest.getValue().get(0).getTo();
+                // The first chunk takes the items that do not fill a whole digest and may go to the open one;
+                // every further chunk fills a new digest of its own.
+                int first = items.size() % digestMaxItems == 0 ? digestMaxItems : items.size() % digestMaxItems;
+                for (int from = 0, end = first; from < items.size(); from = end, end += digestMaxItems) {
+                    bulk.upsert(openDigest(digest.getKey(), end - from), appendItems(items.subList(from, end), recipient, now));
+                }
+            }
+            bulk.execute();
+        }
+        if (!singles.isEmpty()) {
+            mongoTemplate.insert(singles, EmailOutboxMessage.class);
+            outboxWorker.wakeUp();
+        }
+    }
+
+    /**
+     * Matches the recipient's digest that is still collecting and has room for the given number of items.
+     * Open means not yet attempted: once a worker claims a digest, new items start the next one.
+     */
+    private Query openDigest(String digestKey, int items) {
+        return Query.query(Criteria.where("digestKey").is(digestKey)
+                .and("status").is(EmailOutboxMessage.Status.PENDING)
+                .and("attempts").is(0)
+                .and("itemCount").lte(digestMaxItems - items));
+    }
+
+    /**
+     * Appends items to the matched digest, or opens a new one (due email.digest.window-seconds from now).
+     */
+    private Update appendItems(List<String> items, String to, Date now) {
+        return new Update()
+                .push("digestItems").each(items.toArray())
+                .inc("itemCount", items.size())
+                .setOnInsert("to", to)
+                .setOnInsert("createdAt", now)
+                .setOnInsert("nextAttemptAt", new Date(now.getTime() + digestWindowSeconds * 1000));
+    }
+
+    /**
+     * Builds an outbox message that is due at once, without storing it.
+     *
+     * @param to The recipient's email address.
+     * @param subject The subject line of the email.
+     * @param body The main text content of the email.
+     * @param now The creation time.
+     * @return The PENDING message.
+     */
+    public static EmailOutboxMessage pending(String to, String subject, String body, Date now) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setBody(body);
+        message.setStatus(EmailOutboxMessage.Status.PENDING);
+        message.setCreatedAt(now);
+        message.setNextAttemptAt(now);
+        return message;
+    }
+
+    /**
+     * Builds the notification of a new application, without storing it: a message of its own for
+     * recruiters who asked for immediate emails, otherwise an item of their next digest.
+     *
+     * @param recruiter The recruiter who posted the job.
+     * @param job The job applied for.
+     * @param candidate The applicant's profile.
+     * @param now The time of the application.
+     * @return The message to pass to {@link #enqueueAll}.
+     */
+    public static EmailOutboxMessage applicationNotification(User recruiter, JobPosting job, CandidateProfile candidate, Date now) {
+        String details = "Position: " + job.getRole() + "\n"
+                + "Candidate Name: " + candidate.getFullName() + "\n"
+                + "Candidate Email: " + candidate.getEmail() + "\n"
+                + "Candidate Experience: " + candidate.getTotalExperience() + " years\n"
+                + "Candidate Skills: " + String.join(", ", candidate.getSkills()) + "\n"
+                + "Resume: " + candidate.getResumeUrl();
+        if (recruiter.isImmediateApplicationEmails()) {
+            return pending(recruiter.getEmail(), "New Application for " + job.getRole(),
+                    "Hello,\n\nA new candidate has applied for the '" + job.getRole() + "' position.\n\n"
+                    + details + "\n\n" + SIGN_OFF, now);
+        }
+        EmailOutboxMessage message = pending(recruiter.getEmail(), null, null, now);
+        message.setDigestKey(recruiter.getId());
+        message.setDigestItems(List.of(details));
+        message.setItemCount(1);
+        return message;
+    }
+
     /**
      * Composes and sends a simple text email.
      *
      * @param to The recipient's email address.
      * @param subject The subject line of the email.
      * @param body The main text content of the email.
+     * @throws MailException If the message could not be handed to the SMTP server.
      */
     public void sendEmail(String to, String subject, String body) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmailAddress); // <-- EXPLICITLY SET THE "FROM" ADDRESS
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-
-            mailSender.send(message);
-            System.out.println("Email sent successfully to " + to);
-        } catch (Exception e) {
-            System.err.println("Error sending email: " + e.getMessage());
+        MailException failure = sendAll(List.of(pending(to, subject, body, new Date()))).get(0);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Sends outbox messages over one pooled SMTP connection, composing digests from their items.
+     *
+     * @param messages The messages to send.
+     * @return One entry per message, in order: null if it was sent, otherwise the reason it was not.
+     */
+    public List<MailException> sendAll(List<EmailOutboxMessage> messages) {
+        List<MimeMessage> mimeMessages = new ArrayList<>(messages.size());
+        List<MailException> results = new ArrayList<>(messages.size());
+        for (EmailOutboxMessage message : messages) {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            try {
+                MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, StandardCharsets.UTF_8.name());
+                helper.setFrom(fromEmailAddress); // <-- EXPLICITLY SET THE "FROM" ADDRESS
+                helper.setTo(message.getTo());
+                helper.setSubject(subjectOf(message));
+                helper.setText(bodyOf(message));
+                mimeMessages.add(mimeMessage);
+                results.add(null);
+            } catch (MessagingException e) {
+                results.add(new MailPreparationException("Invalid message to " + message.getTo(), e));
+            }
+        }
+
+        List<MailException> sent = smtpTransportPool.send(mimeMessages);
+        for (int i = 0, next = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, sent.get(next++));
+                if (results.get(i) == null) {
+                    System.out.println("Email sent successfully to " + messages.get(i).getTo());
+                }
+            }
+        }
+        return results;
+    }
+
+    static String subjectOf(EmailOutboxMessage message) {
+        if (message.getDigestItems() == null) {
+            return message.getSubject();
+        }
+        int count = message.getDigestItems().size();
+        return count == 1 ? "New Application" : count + " New Applications";
+    }
+
+    static String bodyOf(EmailOutboxMessage message) {
+        if (message.getDigestItems() == null) {
+            return message.getBody();
         }
+        int count = message.getDigestItems().size();
+        return "Hello,\n\n" + (count == 1 ? "A new candidate has" : count + " new candidates have")
+                + " applied for your job postings.\n\n"
+                + String.join("\n\n---\n\n", message.getDigestItems()) + "\n\n" + SIGN_OFF;
     }
 }
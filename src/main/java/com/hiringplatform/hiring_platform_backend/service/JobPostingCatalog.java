@@ -0,0 +1,306 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * A read-through copy of the JobPostings collection, on unless catalog.enabled=false.
+ *
+ * The catalog is an immutable snapshot held in an AtomicReference. A single watcher thread follows
+ * a MongoDB change stream on the collection and, for every batch of changes, builds a new snapshot
+ * and swaps it in; readers never lock and always see a consistent catalog. The stream is opened
+ * before the initial load, so no write can fall between the two. After a connection failure the
+ * stream resumes from the last resume token; if the server no longer has that history, the
+ * catalog is reloaded.
+ *
+ * Change streams need a replica set; a single-node one (mongod --replSet) is enough. Until the
+ * first snapshot is loaded, when disabled, or when the deployment does not support change streams,
+ * every call falls through to JobPostingRepository. Lookups of ids missing from the snapshot also
+ * fall through, so a posting saved an instant ago is never reported as unknown.
+ *
+ * After each load and batch the resume token reached is published as the CatalogVersion.
+ */
+@Service
+public class JobPostingCatalog {
+
+    /**
+     * The largest number of queued changes applied with a single snapshot swap.
+     */
+    private static final int MAX_BATCH = 1000;
+
+    /**
+     * The longest pause between attempts to re-open a failed change stream.
+     */
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    /**
+     * Server error codes: change streams unsupported (standalone mongod) and resume point expired.
+     */
+    private static final int NOT_A_REPLICA_SET = 40573;
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    @Value("${catalog.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    /**
+     * The current snapshot, or null while the catalog is not serving reads.
+     */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private volatile boolean running;
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<JobPosting>> cursor;
+    private Thread watcher;
+
+    /**
+     * The position to resume the stream from; only touched by the watcher thread.
+     */
+    private BsonDocument resumeToken;
+
+    /**
+     * Starts following the collection once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        watcher = new Thread(this::watch, "job-catalog-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Stops the watcher thread and closes the change stream.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        MongoChangeStreamCursor<ChangeStreamDocument<JobPosting>> current = cursor;
+        if (current != null) {
+            current.close();
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    /**
+     * Returns whether reads are currently served from memory.
+     */
+    public boolean isLive() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * Looks up a full posting by id.
+     */
+    public Optional<JobPosting> findById(String id) {
+        Snapshot current = snapshot.get();
+        JobPosting posting = current == null ? null : current.byId().get(id);
+        return posting != null ? Optional.of(posting) : jobPostingRepository.findById(id);
+    }
+
+    /**
+     * Returns the summaries of every posting, newest first when served from memory.
+     */
+    public List<JobPostingSummary> findAllSummaries() {
+        Snapshot current = snapshot.get();
+        return current == null ? jobPostingRepository.findAllSummaries() : current.summaries();
+    }
+
+    /**
+     * Returns one keyset page of summaries, newest first; see JobPostingRepositoryCustom.findSummariesBefore.
+     */
+    public List<JobPostingSummary> findSummariesBefore(String beforeId, int limit) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return jobPostingRepository.findSummariesBefore(beforeId, limit);
+        }
+        List<JobPostingSummary> summaries = current.summaries();
+        int from = 0;
+        if (beforeId != null) {
+            // Binary search for the first id that sorts below beforeId (the list is in descending id order).
+            int low = 0;
+            int high = summaries.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (summaries.get(mid).getId().compareTo(beforeId) < 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            from = low;
+        }
+        return new ArrayList<>(summaries.subList(from, Math.min(summaries.size(), from + limit)));
+    }
+
+    /**
+     * The watcher loop: (re)opens the stream, loads the catalog when there is no position to resume
+     * from, and applies changes in batches until stopped.
+     */
+    private void watch() {
+        long backoff = 1000;
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<JobPosting>> stream = open()) {
+                cursor = stream;
+                if (resumeToken == null) {
+                    // The stream is already open, so anything written during the load is replayed after it.
+                    BsonDocument position = stream.getResumeToken();
+                    load();
+                    resumeToken = position;
+                    catalogVersion.advance(resumeToken);
+                }
+                backoff = 1000;
+                while (running) {
+                    List<ChangeStreamDocument<JobPosting>> batch = new ArrayList<>();
+                    batch.add(stream.next());
+                    ChangeStreamDocument<JobPosting> change;
+                    while (batch.size() < MAX_BATCH && (change = stream.tryNext()) != null) {
+                        batch.add(change);
+                    }
+                    if (!apply(batch)) {
+                        // The collection was dropped or renamed; start over from a fresh load.
+                        resumeToken = null;
+                        break;
+                    }
+                    resumeToken = stream.getResumeToken();
+                    catalogVersion.advance(resumeToken);
+                }
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == NOT_A_REPLICA_SET) {
+                    System.out.println("Job catalog disabled: change streams need a replica set. Reading from MongoDB.");
+                    snapshot.set(null);
+                    catalogVersion.clear();
+                    return;
+                }
+                if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    resumeToken = null;
+                }
+                backoff = pause(e, backoff);
+            } catch (RuntimeException e) {
+                backoff = pause(e, backoff);
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<JobPosting>> open() {
+        var changes = collection().watch().fullDocument(FullDocument.UPDATE_LOOKUP);
+        if (resumeToken != null) {
+            changes = changes.resumeAfter(resumeToken);
+        }
+        return changes.cursor();
+    }
+
+    private void load() {
+        Map<String, JobPosting> byId = new HashMap<>();
+        for (JobPosting posting : collection().find()) {
+            byId.put(posting.getId(), posting);
+        }
+        snapshot.set(Snapshot.of(byId));
+        System.out.println("Job catalog loaded " + byId.size() + " postings.");
+    }
+
+    /**
+     * Applies a batch of changes as one copy-on-write swap.
+     *
+     * @return false if the batch ended the stream (drop, rename or invalidate) and a reload is needed.
+     */
+    private boolean apply(List<ChangeStreamDocument<JobPosting>> batch) {
+        Map<String, JobPosting> byId = new HashMap<>(snapshot.get().byId());
+        boolean valid = true;
+        for (ChangeStreamDocument<JobPosting> change : batch) {
+            switch (change.getOperationType()) {
+                case INSERT, UPDATE, REPLACE -> {
+                    // With updateLookup a null full document means the posting was deleted in the meantime.
+                    JobPosting posting = change.getFullDocument();
+                    if (posting != null) {
+                        byId.put(posting.getId(), posting);
+                    } else {
+                        byId.remove(idOf(change));
+                    }
+                }
+                case DELETE -> byId.remove(idOf(change));
+                case DROP, RENAME, DROP_DATABASE, INVALIDATE -> valid = false;
+                default -> { }
+            }
+        }
+        snapshot.set(Snapshot.of(byId));
+        return valid;
+    }
+
+    private static String idOf(ChangeStreamDocument<JobPosting> change) {
+        BsonValue id = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    private long pause(RuntimeException e, long backoff) {
+        if (!running) {
+            return backoff;
+        }
+        System.out.println("Job catalog change stream failed, retrying in " + backoff + " ms: " + e.getMessage());
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        return Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+    }
+
+    private MongoCollection<JobPosting> collection() {
+        return mongoTemplate.getCollection("JobPostings").withDocumentClass(JobPosting.class);
+    }
+
+    /**
+     * An immutable view of the catalog: postings by id, and their summaries in descending id order.
+     */
+    private record Snapshot(Map<String, JobPosting> byId, List<JobPostingSummary> summaries) {
+
+        static Snapshot of(Map<String, JobPosting> byId) {
+            List<JobPostingSummary> summaries = new ArrayList<>(byId.size());
+            byId.values().forEach(posting -> summaries.add(JobPostingSummary.of(posting)));
+            summaries.sort(Comparator.comparing(JobPostingSummary::getId).reversed());
+            return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableList(summaries));
+        }
+    }
+}
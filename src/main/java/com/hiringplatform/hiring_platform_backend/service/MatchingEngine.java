@@ -0,0 +1,386 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.repository.CandidateProfileRepository;
+import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Ranks candidates against job postings (and vice versa) by skill overlap.
+ *
+ * Every candidate profile and job posting is held in memory as a compact skill bitset
+ * (bit positions come from the SkillDictionary) plus its experience value. Scoring a pair
+ * is a handful of AND + popcount operations, and a top-k query is a single scan over the
+ * other side, split across all cores via a parallel stream once the table is large enough.
+ *
+ * The score of a (candidate, job) pair is the fraction of the job's skills the candidate has,
+ * scaled down when the candidate has less experience than the job asks for. Pairs without
+ * any common skill are never returned.
+ */
+@Service
+public class MatchingEngine {
+
+    /**
+     * Below this many rows a sequential scan is faster than forking work to the common pool.
+     */
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    @Autowired
+    private CandidateProfileRepository candidateProfileRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    /**
+     * Candidate rows keyed by user ID; job rows keyed by posting ID.
+     */
+    private final BitsetTable candidates = new BitsetTable();
+    private final BitsetTable jobs = new BitsetTable();
+
+    /**
+     * Maps profile document IDs to user IDs, so profile deletions (which only carry the
+     * document ID) can find their row.
+     */
+    private final Map<String, String> userIdsByProfileId = new ConcurrentHashMap<>();
+
+    /**
+     * Writes seen while the tables are being loaded, replayed once they are; null otherwise.
+     * Without them a save or delete that landed between a findAll and the indexing of its rows
+     * would be overwritten by the stale row (or the deleted row restored) until the next restart.
+     * Guarded by pendingLock.
+     */
+    private List<Runnable> pendingWrites;
+    private final Object pendingLock = new Object();
+
+    /**
+     * Loads every profile and posting once the application context is fully started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (pendingLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        candidateProfileRepository.findAll().forEach(this::index);
+        jobPostingRepository.findAll().forEach(this::index);
+        int replayed;
+        synchronized (pendingLock) {
+            replayed = pendingWrites.size();
+            pendingWrites.forEach(Runnable::run);
+            pendingWrites = null;
+        }
+        System.out.println("Matching engine loaded " + candidates.size() + " candidates, " + jobs.size()
+                + " jobs and " + skillDictionary.size() + " distinct skills"
+                + (replayed > 0 ? ", replaying " + replayed + " writes made meanwhile" : ""));
+    }
+
+    /**
+     * Keeps the tables current as profiles and postings are saved through Spring Data.
+     */
+    @EventListener
+    public void onAfterSave(AfterSaveEvent<?> event) {
+        if (event.getSource() instanceof JobPosting posting) {
+            apply(() -> index(posting));
+        } else if (event.getSource() instanceof CandidateProfile profile) {
+            apply(() -> index(profile));
+        }
+    }
+
+    /**
+     * Removes deleted profiles and postings from the tables.
+     */
+    @EventListener
+    public void onAfterDelete(AfterDeleteEvent<?> event) {
+        Object id = event.getSource().get("_id");
+        if (id == null) {
+            return;
+        }
+        if (event.getType() == JobPosting.class) {
+            apply(() -> jobs.remove(id.toString()));
+        } else if (event.getType() == CandidateProfile.class) {
+            apply(() -> {
+                String userId = userIdsByProfileId.remove(id.toString());
+                if (userId != null) {
+                    candidates.remove(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Applies a write to the tables now, or after the load in progress.
+     */
+    private void apply(Runnable write) {
+        synchronized (pendingLock) {
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+                return;
+            }
+        }
+        write.run();
+    }
+
+    /**
+     * Finds the candidates whose skills best cover a job's requirements.
+     *
+     * @param jobId The ID of the job posting.
+     * @param k The maximum number of candidates to return.
+     * @return The best matches (candidate user IDs), best first, or empty if the job is unknown.
+     */
+    public Optional<List<Match>> topCandidatesForJob(String jobId, int k) {
+        return jobs.row(jobId).map(job -> candidates.topK(k, (bits, skillCount, experience) ->
+                score(bits, experience, job.bits, job.skillCount, job.experience)));
+    }
+
+    /**
+     * Finds the job postings whose requirements a candidate covers best.
+     *
+     * @param userId The user ID of the candidate.
+     * @param k The maximum number of jobs to return.
+     * @return The best matches (job posting IDs), best first, or empty if the candidate has no profile.
+     */
+    public Optional<List<Match>> topJobsForCandidate(String userId, int k) {
+        return candidates.row(userId).map(candidate -> jobs.topK(k, (bits, skillCount, experience) ->
+                score(candidate.bits, candidate.experience, bits, skillCount, experience)));
+    }
+
+    private void index(JobPosting posting) {
+        if (posting.getId() != null) {
+            jobs.put(posting.getId(), skillDictionary.toBitset(posting.getSkillSet()), posting.getExperience());
+        }
+    }
+
+    private void index(CandidateProfile profile) {
+        if (profile.getUserId() == null) {
+            return;
+        }
+        if (profile.getId() != null) {
+            userIdsByProfileId.put(profile.getId(), profile.getUserId());
+        }
+        candidates.put(profile.getUserId(), skillDictionary.toBitset(profile.getSkills()), profile.getTotalExperience());
+    }
+
+    /**
+     * Scores a candidate against a job. Returns a value in (0, 1], or 0 when nothing overlaps.
+     * The overlap count is returned in the upper bits so callers get both from one call.
+     */
+    private static long score(long[] candidateBits, int candidateExperience,
+                              long[] jobBits, int jobSkillCount, int jobExperience) {
+        int overlap = 0;
+        int words = Math.min(candidateBits.length, jobBits.length);
+        for (int i = 0; i < words; i++) {
+            overlap += Long.bitCount(candidateBits[i] & jobBits[i]);
+        }
+        if (overlap == 0) {
+            return 0;
+        }
+        double coverage = (double) overlap / jobSkillCount;
+        double experienceFit = jobExperience <= 0 || candidateExperience >= jobExperience
+                ? 1.0
+                : 0.5 + 0.5 * candidateExperience / jobExperience;
+        return packScore(coverage * experienceFit, overlap);
+    }
+
+    /**
+     * Packs a score in [0, 1] and an overlap count into a single long: the score as a float's
+     * bits in the low 32 bits and the overlap in the high 32. Keeps the hot loop allocation-free.
+     */
+    private static long packScore(double score, int overlap) {
+        return ((long) overlap << 32) | (Float.floatToIntBits((float) score) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * One ranked match: the ID of the matched profile's user or of the matched posting,
+     * the score and the number of skills in common.
+     */
+    public static final class Match {
+        private final String id;
+        private final double score;
+        private final int overlap;
+
+        Match(String id, double score, int overlap) {
+            this.id = id;
+            this.score = score;
+            this.overlap = overlap;
+        }
+
+        public String getId() { return id; }
+        public double getScore() { return score; }
+        public int getOverlap() { return overlap; }
+    }
+
+    @FunctionalInterface
+    private interface RowScorer {
+        long score(long[] bits, int skillCount, int experience);
+    }
+
+    /**
+     * An immutable view of one row, handed out to callers.
+     */
+    private record Row(long[] bits, int skillCount, int experience) {
+    }
+
+    /**
+     * A dense, column-oriented table of skill bitsets. Deletions move the last row into the
+     * freed slot so scans never skip holes. Writes take an exclusive lock; scans a shared one.
+     */
+    private static final class BitsetTable {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Integer> slots = new HashMap<>();
+        private String[] keys = new String[64];
+        private long[][] bits = new long[64][];
+        private int[] skillCounts = new int[64];
+        private int[] experience = new int[64];
+        private int size;
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return size;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Optional<Row> row(String key) {
+            lock.readLock().lock();
+            try {
+                Integer slot = slots.get(key);
+                return slot == null
+                        ? Optional.empty()
+                        : Optional.of(new Row(bits[slot], skillCounts[slot], experience[slot]));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void put(String key, long[] rowBits, int rowExperience) {
+            int skillCount = 0;
+            for (long word : rowBits) {
+                skillCount += Long.bitCount(word);
+            }
+            lock.writeLock().lock();
+            try {
+                Integer slot = slots.get(key);
+                if (slot == null) {
+                    if (size == keys.length) {
+                        keys = Arrays.copyOf(keys, size * 2);
+                        bits = Arrays.copyOf(bits, size * 2);
+                        skillCounts = Arrays.copyOf(skillCounts, size * 2);
+                        experience = Arrays.copyOf(experience, size * 2);
+                    }
+                    slot = size++;
+                    slots.put(key, slot);
+                    keys[slot] = key;
+                }
+                bits[slot] = rowBits;
+                skillCounts[slot] = skillCount;
+                experience[slot] = rowExperience;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String key) {
+            lock.writeLock().lock();
+            try {
+                Integer slot = slots.remove(key);
+                if (slot == null) {
+                    return;
+                }
+                int last = --size;
+                if (slot != last) {
+                    keys[slot] = keys[last];
+                    bits[slot] = bits[last];
+                    skillCounts[slot] = skillCounts[last];
+                    experience[slot] = experience[last];
+                    slots.put(keys[slot], slot);
+                }
+                keys[last] = null;
+                bits[last] = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Match> topK(int k, RowScorer scorer) {
+            lock.readLock().lock();
+            try {
+                IntStream rows = IntStream.range(0, size);
+                if (size >= PARALLEL_THRESHOLD) {
+                    rows = rows.parallel();
+                }
+                TopK top = rows.collect(() -> new TopK(k), (acc, slot) -> {
+                    long packed = scorer.score(bits[slot], skillCounts[slot], experience[slot]);
+                    if (packed != 0) {
+                        acc.offer(keys[slot], Float.intBitsToFloat((int) packed), (int) (packed >>> 32));
+                    }
+                }, TopK::merge);
+                return top.sorted();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * A bounded min-heap keeping the k best matches seen by one worker.
+     */
+    private static final class TopK {
+        private static final Comparator<Match> ORDER =
+                Comparator.comparingDouble(Match::getScore).thenComparing(Match::getId, Comparator.reverseOrder());
+
+        private final int k;
+        private final PriorityQueue<Match> heap;
+
+        TopK(int k) {
+            this.k = k;
+            this.heap = new PriorityQueue<>(Math.max(1, k), ORDER);
+        }
+
+        void offer(String id, double score, int overlap) {
+            if (heap.size() < k) {
+                heap.offer(new Match(id, score, overlap));
+            } else if (k > 0 && score >= heap.peek().getScore()) {
+                // Equal scores are decided by id, as in the final order; lower scores need no Match at all.
+                Match candidate = new Match(id, score, overlap);
+                if (ORDER.compare(candidate, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.offer(candidate);
+                }
+            }
+        }
+
+        void merge(TopK other) {
+            for (Match match : other.heap) {
+                offer(match.getId(), match.getScore(), match.getOverlap());
+            }
+        }
+
+        List<Match> sorted() {
+            List<Match> result = new ArrayList<>(heap);
+            result.sort(ORDER.reversed());
+            return result;
+        }
+    }
+}
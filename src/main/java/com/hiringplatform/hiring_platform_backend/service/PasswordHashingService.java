@@ -0,0 +1,65 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password hashing and verification on a dedicated, bounded thread pool.
+ *
+ * BCrypt is deliberately slow, so a burst of logins run on request threads would occupy the
+ * whole servlet pool and starve every other endpoint. Here at most 'threads' hashes run at once
+ * and at most 'queue-capacity' wait; beyond that, work is rejected immediately so the caller can
+ * answer 503 instead of queueing without bound. Pool statistics are published as executor.*
+ * meters tagged name=bcrypt.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    public PasswordHashingService(@Value("${security.bcrypt.threads:0}") int threads,
+            @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "bcrypt");
+    }
+
+    /**
+     * Schedules a task that hashes or verifies passwords.
+     *
+     * @param task The work to run on the hashing pool.
+     * @return A future completed with the task's result.
+     * @throws RejectedExecutionException If the pool and its queue are full.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
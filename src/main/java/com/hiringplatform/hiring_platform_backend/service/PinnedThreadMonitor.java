@@ -0,0 +1,102 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread.
+ *
+ * On Java 21 a virtual thread that blocks inside a synchronized block or a native frame cannot
+ * unmount, so it holds one of the few carrier threads for as long as it waits; enough of them
+ * at once stall every virtual thread in the process. Such code paths (JavaMail's SMTP transport
+ * is a known one) are found by streaming the JDK's jdk.VirtualThreadPinned flight recorder
+ * events in-process. Each pin longer than threads.virtual.pinned-threshold-ms is counted in the
+ * threads.virtual.pinned meter, and the stack of every distinct pinning site is logged once.
+ *
+ * Only active when spring.threads.virtual.enabled is set.
+ */
+@Service
+public class PinnedThreadMonitor {
+
+    /**
+     * The number of frames logged for a pinning site.
+     */
+    private static final int LOGGED_FRAMES = 8;
+
+    /**
+     * The most pinning sites logged; beyond that pins are only counted.
+     */
+    private static final int MAX_REPORTED_SITES = 100;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${threads.virtual.pinned-threshold-ms:20}")
+    private long thresholdMillis;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * The top frames of the pinning sites already logged.
+     */
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!virtualThreads) {
+            return;
+        }
+        Counter pinned = Counter.builder("threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(thresholdMillis))
+                .withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinned.increment();
+            report(event);
+        });
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        String site = frames.stream().limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n    at "));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            System.err.println("Virtual thread pinned for " + event.getDuration().toMillis() + " ms at\n    at " + site);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.zip.ZipFile;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+/**
+ * Stores resume files on local disk, addressed by their content.
+ *
+ * An upload is streamed to a temporary file through a fixed-size buffer while its SHA-256 digest
+ * is computed, so memory use does not depend on the file size. The file is then moved to
+ * {storage-dir}/{first two hex digits}/{digest}; if a file with that digest is already there,
+ * the upload is a duplicate and the temporary file is simply deleted. Stored files never change,
+ * so the digest also serves as a strong ETag.
+ *
+ * Only PDF, DOC and DOCX files are accepted, recognised by their content rather than by the
+ * Content-Type the client claims: PDF and DOC by their first bytes, DOCX as a ZIP archive whose
+ * central directory lists [Content_Types].xml and a word/ part. Other ZIP archives, including
+ * spreadsheets and presentations, are refused. Only the directory is read, never an entry.
+ */
+@Service
+public class ResumeStorageService {
+
+    private static final Pattern ID = Pattern.compile("[0-9a-f]{64}");
+
+    private static final byte[] PDF = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] ZIP = {'P', 'K', 3, 4};
+    private static final byte[] OLE = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0};
+
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    private final Path root;
+    private final Path uploads;
+    private final long maxBytes;
+
+    @Autowired
+    public ResumeStorageService(@Value("${resumes.storage-dir:data/resumes}") String storageDir,
+            @Value("${resumes.max-bytes:10485760}") long maxBytes) throws IOException {
+        this.root = Paths.get(storageDir).toAbsolutePath().normalize();
+        this.uploads = Files.createDirectories(root.resolve("uploads"));
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * A stored resume file.
+     *
+     * @param id The hex SHA-256 digest of the file.
+     * @param path Where the file is.
+     * @param size Its size in bytes.
+     * @param contentType Its media type.
+     */
+    public record StoredResume(String id, Path path, long size, String contentType) {
+
+        /**
+         * A strong entity tag: the content never changes for a given id.
+         */
+        public String etag() {
+            return "\"" + id + "\"";
+        }
+    }
+
+    /**
+     * The largest accepted file, in bytes.
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Stores an uploaded file, or finds the identical file stored before.
+     *
+     * @param in The file contents; read to the end but not closed.
+     * @return The stored file.
+     * @throws MaxUploadSizeExceededException If the file is larger than resumes.max-bytes.
+     * @throws IllegalArgumentException If the file is empty or not a PDF, DOC or DOCX document.
+     * @throws IOException If the file cannot be read or written.
+     */
+    public StoredResume store(InputStream in) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(uploads, "upload-", ".part");
+        try {
+            byte[] head = new byte[8];
+            int headLength = 0;
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new MaxUploadSizeExceededException(maxBytes);
+                    }
+                    if (headLength < head.length) {
+                        int copied = Math.min(read, head.length - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copied);
+                        headLength += copied;
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("The file is empty.");
+            }
+            String contentType = contentType(Arrays.copyOf(head, headLength), temp);
+            if (contentType == null) {
+                throw new IllegalArgumentException("Only PDF, DOC and DOCX resumes are accepted.");
+            }
+
+            String id = HexFormat.of().formatHex(digest.digest());
+            Path target = pathOf(id);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Stored concurrently by an identical upload.
+                }
+            }
+            return new StoredResume(id, target, size, contentType);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Looks up a stored file.
+     *
+     * @param id The id returned by {@link #store}.
+     * Files stored before DOCX archives were told apart from other ZIPs may be neither; they are
+     * served as application/octet-stream.
+     *
+     * @return The file, or empty if the id is malformed or unknown.
+     * @throws IOException If the file exists but cannot be read.
+     */
+    public Optional<StoredResume> find(String id) throws IOException {
+        if (id == null || !ID.matcher(id).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(id);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        ByteBuffer head = ByteBuffer.allocate(8);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.read(head, 0);
+            String contentType = contentType(Arrays.copyOf(head.array(), head.position()), path);
+            return Optional.of(new StoredResume(id, path, channel.size(),
+                    contentType == null ? "application/octet-stream" : contentType));
+        }
+    }
+
+    private Path pathOf(String id) {
+        return root.resolve(id.substring(0, 2)).resolve(id);
+    }
+
+    /**
+     * Detects the media type of a file from its first bytes (and, for a ZIP archive, its entries).
+     *
+     * @return The media type, or null if the file is not a PDF, DOC or DOCX document.
+     */
+    private static String contentType(byte[] head, Path file) {
+        if (startsWith(head, PDF)) {
+            return "application/pdf";
+        }
+        if (startsWith(head, ZIP)) {
+            return isWordDocument(file) ? DOCX : null;
+        }
+        if (startsWith(head, OLE)) {
+            return "application/msword";
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a ZIP archive is a WordprocessingML package.
+     */
+    private static boolean isWordDocument(Path file) {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            return zip.getEntry("[Content_Types].xml") != null
+                    && zip.stream().anyMatch(entry -> entry.getName().startsWith("word/"));
+        } catch (IOException e) {
+            // Not a readable archive.
+            return false;
+        }
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        return data.length >= prefix.length && Arrays.equals(data, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns free-form skill strings into dense integer IDs.
+ * Skills are normalized first (trimmed, lowercased, inner whitespace collapsed), so
+ * "Spring Boot", " spring  boot" and "SPRING BOOT" all map to the same ID.
+ * IDs are assigned in first-seen order starting at 0 and are never reused, which makes
+ * them usable directly as bit positions in a skill bitset.
+ */
+@Component
+public class SkillDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Normalizes a skill string for comparison.
+     *
+     * @param skill The raw skill as entered by a user.
+     * @return The normalized form, or an empty string for null/blank input.
+     */
+    public static String normalize(String skill) {
+        if (skill == null) {
+            return "";
+        }
+        return skill.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the ID of a skill, assigning a new one if it has not been seen before.
+     *
+     * @param skill The raw skill string.
+     * @return The skill's ID, or -1 if the skill is blank.
+     */
+    public int intern(String skill) {
+        String normalized = normalize(skill);
+        if (normalized.isEmpty()) {
+            return -1;
+        }
+        return ids.computeIfAbsent(normalized, key -> nextId.getAndIncrement());
+    }
+
+    /**
+     * @return The number of distinct skills interned so far.
+     */
+    public int size() {
+        return nextId.get();
+    }
+
+    /**
+     * Converts a list of skills into a bitset with one bit set per skill ID, interning new skills.
+     *
+     * @param skills The raw skill strings. May be null.
+     * @return The bitset as an array of 64-bit words.
+     */
+    public long[] toBitset(List<String> skills) {
+        long[] bits = new long[0];
+        if (skills == null) {
+            return bits;
+        }
+        for (String skill : skills) {
+            int id = intern(skill);
+            if (id < 0) {
+                continue;
+            }
+            int word = id >>> 6;
+            if (word >= bits.length) {
+                bits = Arrays.copyOf(bits, word + 1);
+            }
+            bits[word] |= 1L << id;
+        }
+        return bits;
+    }
+}
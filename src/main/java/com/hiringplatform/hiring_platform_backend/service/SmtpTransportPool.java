@@ -0,0 +1,180 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Keeps SMTP connections open between sends.
+ *
+ * JavaMailSender opens a new connection, with its TLS handshake and login, for every send call.
+ * Here a batch of messages goes over one connection, and the connection is then kept for the
+ * next batch: up to email.smtp.pool-size idle connections are held, each for at most
+ * email.smtp.idle-timeout-seconds and email.smtp.max-messages-per-connection messages, which
+ * stays within what providers tolerate; a batch that reaches the message limit continues on a
+ * fresh connection. A connection that fails mid-batch is dropped and the rest of the batch goes
+ * over a new one. Connections opened are counted in the smtp.connections meter.
+ *
+ * Works with the JavaMailSenderImpl configured from spring.mail.*; with any other sender each
+ * message is simply passed to it.
+ */
+@Service
+public class SmtpTransportPool {
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Value("${email.smtp.pool-size:2}")
+    private int poolSize;
+
+    @Value("${email.smtp.idle-timeout-seconds:60}")
+    private long idleTimeoutSeconds;
+
+    @Value("${email.smtp.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    private final BlockingDeque<Connection> idle = new LinkedBlockingDeque<>();
+    private final Counter connectionsOpened;
+
+    @Autowired
+    public SmtpTransportPool(MeterRegistry meterRegistry) {
+        this.connectionsOpened = Counter.builder("smtp.connections")
+                .description("SMTP connections opened")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends messages over one pooled connection where possible.
+     *
+     * @param messages The messages to send.
+     * @return One entry per message, in order: null if it was sent, otherwise the reason it was not.
+     */
+    public List<MailException> send(List<MimeMessage> messages) {
+        List<MailException> results = new ArrayList<>(messages.size());
+        if (!(mailSender instanceof JavaMailSenderImpl sender)) {
+            for (MimeMessage message : messages) {
+                try {
+                    mailSender.send(message);
+                    results.add(null);
+                } catch (MailException e) {
+                    results.add(e);
+                }
+            }
+            return results;
+        }
+
+        Connection connection = null;
+        for (MimeMessage message : messages) {
+            try {
+                if (connection != null && connection.sent >= maxMessagesPerConnection) {
+                    close(connection);
+                    connection = null;
+                }
+                if (connection == null) {
+                    connection = borrow(sender);
+                }
+                if (message.getSentDate() == null) {
+                    message.setSentDate(new Date());
+                }
+                message.saveChanges();
+                connection.transport.sendMessage(message, message.getAllRecipients());
+                connection.sent++;
+                results.add(null);
+            } catch (MessagingException e) {
+                results.add(new MailSendException("Failed to send message: " + e.getMessage(), e));
+                // The message may have been refused on its own, but the connection is in an unknown state.
+                close(connection);
+                connection = null;
+            }
+        }
+        if (connection != null) {
+            release(connection);
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            close(connection);
+        }
+    }
+
+    private Connection borrow(JavaMailSenderImpl sender) throws MessagingException {
+        long now = System.currentTimeMillis();
+        Connection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (now - connection.lastUsed < idleTimeoutSeconds * 1000 && connection.transport.isConnected()) {
+                return connection;
+            }
+            close(connection);
+        }
+        Transport transport = sender.getSession().getTransport(protocolOf(sender));
+        transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+        connectionsOpened.increment();
+        return new Connection(transport);
+    }
+
+    /**
+     * The transport protocol, defaulted the way JavaMailSenderImpl does when none is set.
+     */
+    private static String protocolOf(JavaMailSenderImpl sender) {
+        if (sender.getProtocol() != null) {
+            return sender.getProtocol();
+        }
+        String configured = sender.getSession().getProperty("mail.transport.protocol");
+        return configured != null ? configured : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+    }
+
+    private void release(Connection connection) {
+        connection.lastUsed = System.currentTimeMillis();
+        if (connection.sent >= maxMessagesPerConnection || idle.size() >= poolSize) {
+            close(connection);
+        } else {
+            // Most recently used first, so surplus connections age out at the end of the deque.
+            idle.offerFirst(connection);
+        }
+    }
+
+    private static void close(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.transport.close();
+        } catch (MessagingException e) {
+            // The server may already have dropped it; nothing left to release.
+        }
+    }
+
+    /**
+     * An open connection and its usage.
+     */
+    private static final class Connection {
+        final Transport transport;
+        int sent;
+        long lastUsed = System.currentTimeMillis();
+
+        Connection(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
+import com.hiringplatform.hiring_platform_backend.util.CompletionTrie;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves type-ahead suggestions for job roles and skills from two in-memory completion tries.
+ * A term's weight is the number of postings that use it, so popular roles and skills rank first.
+ *
+ * The tries are filled from the JobPostings collection at startup and then adjusted
+ * incrementally on every save and delete: the terms a posting contributed are remembered,
+ * so re-saving a posting replaces its old contribution instead of counting it twice.
+ */
+@Service
+public class SuggestionService extends AbstractMongoEventListener<JobPosting> {
+
+    /**
+     * The maximum number of suggestions a single request can ask for.
+     */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private final CompletionTrie roles = new CompletionTrie(MAX_SUGGESTIONS);
+    private final CompletionTrie skills = new CompletionTrie(MAX_SUGGESTIONS);
+
+    /**
+     * The role and skills each indexed posting contributed, keyed by posting ID.
+     */
+    private final Map<String, JobPosting> contributions = new ConcurrentHashMap<>();
+
+    /**
+     * Writes seen while the tries are being filled, replayed once they are; null otherwise.
+     * Without them a posting deleted during the load would be re-added from the stale read and
+     * keep its weight forever, and a concurrent save could be replaced by the older version.
+     * Guarded by pendingLock.
+     */
+    private List<Runnable> pendingWrites;
+    private final Object pendingLock = new Object();
+
+    /**
+     * Fills the tries from the database once the application context is fully started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (pendingLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        jobPostingRepository.findAll().forEach(this::index);
+        synchronized (pendingLock) {
+            pendingWrites.forEach(Runnable::run);
+            pendingWrites = null;
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<JobPosting> event) {
+        JobPosting posting = event.getSource();
+        apply(() -> index(posting));
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<JobPosting> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            apply(() -> replace(id.toString(), null));
+        }
+    }
+
+    /**
+     * Applies a write to the tries now, or after the load in progress.
+     */
+    private void apply(Runnable write) {
+        synchronized (pendingLock) {
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+                return;
+            }
+        }
+        write.run();
+    }
+
+    /**
+     * Returns ranked completions for a prefix across roles and skills.
+     *
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of suggestions.
+     * @return The suggestions, most frequently used first.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        List<Suggestion> merged = new ArrayList<>();
+        roles.complete(prefix, limit).forEach(c -> merged.add(new Suggestion(c.value(), "role", c.weight())));
+        skills.complete(prefix, limit).forEach(c -> merged.add(new Suggestion(c.value(), "skill", c.weight())));
+        merged.sort(Comparator.comparingLong(Suggestion::count).reversed());
+        return merged.subList(0, Math.min(limit, merged.size()));
+    }
+
+    private void index(JobPosting posting) {
+        if (posting.getId() == null) {
+            return;
+        }
+        // Keep a private copy of the indexed fields; the entity itself may be mutated later.
+        JobPosting snapshot = new JobPosting();
+        snapshot.setRole(posting.getRole());
+        snapshot.setSkillSet(posting.getSkillSet() == null ? null : List.copyOf(posting.getSkillSet()));
+        replace(posting.getId(), snapshot);
+    }
+
+    /**
+     * Swaps the contribution of one posting, so concurrent saves of the same posting
+     * cannot both subtract the same previous version. Only terms the posting gained or lost
+     * are adjusted; a re-save that keeps its role and skills touches neither trie.
+     */
+    private synchronized void replace(String id, JobPosting snapshot) {
+        JobPosting previous = snapshot == null ? contributions.remove(id) : contributions.put(id, snapshot);
+        update(roles, previous == null ? Map.of() : rolesOf(previous), snapshot == null ? Map.of() : rolesOf(snapshot));
+        update(skills, previous == null ? Map.of() : skillsOf(previous), snapshot == null ? Map.of() : skillsOf(snapshot));
+    }
+
+    /**
+     * Applies the difference between two contributions, each keyed by normalized term.
+     */
+    private static void update(CompletionTrie trie, Map<String, String> before, Map<String, String> after) {
+        before.forEach((key, display) -> {
+            if (!after.containsKey(key)) {
+                trie.adjust(display, -1);
+            }
+        });
+        after.forEach((key, display) -> {
+            if (!before.containsKey(key)) {
+                trie.adjust(display, 1);
+            }
+        });
+    }
+
+    private static Map<String, String> rolesOf(JobPosting posting) {
+        return posting.getRole() == null ? Map.of() : Map.of(CompletionTrie.normalize(posting.getRole()), posting.getRole());
+    }
+
+    private static Map<String, String> skillsOf(JobPosting posting) {
+        // A posting listing the same skill twice (in any casing) still counts once.
+        Map<String, String> distinct = new LinkedHashMap<>();
+        if (posting.getSkillSet() != null) {
+            posting.getSkillSet().forEach(skill -> distinct.putIfAbsent(CompletionTrie.normalize(skill), skill));
+        }
+        return distinct;
+    }
+
+    /**
+     * A single suggestion: the completed value, whether it is a role or a skill,
+     * and how many postings use it.
+     */
+    public record Suggestion(String value, String type, long count) {
+    }
+}
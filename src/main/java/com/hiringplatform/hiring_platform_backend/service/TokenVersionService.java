@@ -0,0 +1,98 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.util.BoundedCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decides whether an access token has been revoked.
+ *
+ * Every token carries the user's token version from the moment it was issued; incrementing the
+ * version in the users collection revokes all of them at once. The current versions are cached
+ * in memory, so the check usually costs no database access at all. Local writes to a user drop
+ * the cached entry immediately; writes made by other instances are picked up within the TTL.
+ */
+@Service
+public class TokenVersionService extends AbstractMongoEventListener<User> {
+
+    /**
+     * The cached version of a user that no longer exists; no token matches it.
+     */
+    private static final long UNKNOWN_USER = -1;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Holds cached User entities, whose tokenVersion must not outlive a revocation.
+     */
+    @Autowired
+    private UserCacheService userCacheService;
+
+    private final BoundedCache<String, Long> versions;
+
+    @Autowired
+    public TokenVersionService(@Value("${security.token-version.cache.max-entries:10000}") int maxEntries,
+            @Value("${security.token-version.cache.ttl-seconds:60}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.versions = new BoundedCache<>(maxEntries, ttlSeconds * 1000);
+        this.versions.bindTo(meterRegistry, "token-version");
+    }
+
+    /**
+     * Checks a token's version against the user's current one.
+     *
+     * @param userId The id of the user the token was issued to.
+     * @param tokenVersion The version embedded in the token.
+     * @return True if the token has not been revoked.
+     */
+    public boolean isCurrent(String userId, long tokenVersion) {
+        return currentVersion(userId) == tokenVersion;
+    }
+
+    /**
+     * Revokes every access token issued to a user so far.
+     *
+     * @param userId The id of the user.
+     */
+    public void revokeAll(String userId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(userId)),
+                new Update().inc("tokenVersion", 1), User.class);
+        versions.invalidate(userId);
+        userCacheService.evict(userId);
+    }
+
+    private long currentVersion(String userId) {
+        return versions.computeIfAbsent(userId, id -> {
+            Query query = Query.query(Criteria.where("id").is(id));
+            query.fields().include("tokenVersion");
+            User user = mongoTemplate.findOne(query, User.class);
+            return user == null ? UNKNOWN_USER : user.getTokenVersion();
+        });
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        versions.invalidate(event.getSource().getId());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            versions.invalidate(id.toString());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.repository.UserRepository;
+import com.hiringplatform.hiring_platform_backend.util.BoundedCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The application's UserDetailsService, backed by a bounded, expiring cache of User entities.
+ *
+ * Users are cached both by username (login, registration checks) and by id (resolving the
+ * recruiter of a job), so repeated lookups of the same account within the TTL cost no query.
+ * Saving or deleting a user through Spring Data drops its entries at once; updates that bypass
+ * the mapping events, such as TokenVersionService.revokeAll, call {@link #evict(String)} themselves.
+ * Lookups of unknown users are not cached. Hit and miss counts are published as cache.* meters
+ * tagged cache=users, and the time spent loading on a miss as the users.load timer.
+ *
+ * Cached User instances are shared and must be treated as read-only.
+ */
+@Service
+public class UserCacheService extends AbstractMongoEventListener<User>
+        implements UserDetailsService, UserDetailsPasswordService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Users keyed by "name|" + username and by "id|" + id.
+     */
+    private final BoundedCache<String, User> users;
+
+    private final Timer loadTimer;
+
+    @Autowired
+    public UserCacheService(@Value("${security.user-cache.max-entries:10000}") int maxEntries,
+            @Value("${security.user-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.users = new BoundedCache<>(maxEntries, ttlSeconds * 1000);
+        this.users.bindTo(meterRegistry, "users");
+        this.loadTimer = Timer.builder("users.load")
+                .description("Time spent loading users from MongoDB on a cache miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Finds a user by username, from the cache when possible.
+     */
+    public Optional<User> findByUsername(String username) {
+        return lookup("name|" + username, () -> userRepository.findByUsername(username));
+    }
+
+    /**
+     * Finds a user by id, from the cache when possible.
+     */
+    public Optional<User> findById(String id) {
+        return lookup("id|" + id, () -> userRepository.findById(id));
+    }
+
+    /**
+     * Maps the cached User entity to Spring Security's UserDetails.
+     */
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return findByUsername(username)
+            .map(user -> new org.springframework.security.core.userdetails.User(
+                user.getUsername(),
+                user.getPassword(),
+                Collections.singletonList(
+                    // Spring Security requires roles to be prefixed with "ROLE_" for hasRole() checks.
+                    new SimpleGrantedAuthority("ROLE_" + user.getRole())
+                )
+            ))
+            .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+    }
+
+    /**
+     * Stores a rehashed password after a successful login (see RehashingBCryptPasswordEncoder).
+     * Only the password field is written, so concurrent changes to the user are not overwritten.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("username").is(user.getUsername())),
+                Update.update("password", newPassword), User.class);
+        users.invalidateIf((key, cached) -> Objects.equals(cached.getUsername(), user.getUsername()));
+        return org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
+    }
+
+    /**
+     * Drops every cached entry of a user.
+     *
+     * @param userId The id of the user whose data changed.
+     */
+    public void evict(String userId) {
+        users.invalidateIf((key, user) -> Objects.equals(user.getId(), userId));
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        User saved = event.getSource();
+        evict(saved.getId());
+        users.invalidate("name|" + saved.getUsername());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            evict(id.toString());
+        }
+    }
+
+    private Optional<User> lookup(String key, Supplier<Optional<User>> loader) {
+        long generation = users.generation();
+        User cached = users.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> loaded = loadTimer.record(loader);
+        loaded.ifPresent(user -> {
+            // Both keys or neither: a save between the two puts bumps the generation for the second.
+            if (users.putIfUnchanged("name|" + user.getUsername(), user, generation)) {
+                users.putIfUnchanged("id|" + user.getId(), user, generation);
+            }
+        });
+        return loaded;
+    }
+}
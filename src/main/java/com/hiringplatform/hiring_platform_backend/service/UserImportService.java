@@ -0,0 +1,259 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiringplatform.hiring_platform_backend.dto.ImportReport;
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Creates user accounts in bulk from an uploaded NDJSON or CSV file.
+ *
+ * The file is read as a stream and processed in batches, so memory use depends on the batch size
+ * and not on the file. For each batch the passwords are hashed in parallel on a dedicated pool
+ * (one thread per core by default, separate from the login pool so an import cannot cause login
+ * 503s), and the accounts are inserted with a single unordered bulkWrite. Uniqueness is enforced
+ * by the unique index on users.username rather than by per-row lookups; rows rejected by it, and
+ * rows that fail validation, are reported by line number while the rest of the batch goes in.
+ */
+@Service
+public class UserImportService {
+
+    /**
+     * The duplicate key error code returned by MongoDB.
+     */
+    private static final int DUPLICATE_KEY = 11000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${import.users.batch-size:500}")
+    private int batchSize;
+
+    private final ExecutorService hashingPool;
+
+    @Autowired
+    public UserImportService(@Value("${import.users.hash-threads:0}") int threads) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.hashingPool = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The supported upload formats.
+     */
+    public enum Format { NDJSON, CSV }
+
+    /**
+     * Imports every row of a file.
+     *
+     * @param reader The file contents.
+     * @param format NDJSON (one {"username", "password", "email", "role"} object per line) or CSV with a header row.
+     * @return The number of rows read and inserted, and the rows that were skipped.
+     * @throws IOException If the upload cannot be read, or a CSV file has no usable header.
+     */
+    public ImportReport importUsers(BufferedReader reader, Format format) throws IOException {
+        ImportReport report = new ImportReport();
+        Map<String, Integer> columns = format == Format.CSV ? readHeader(reader) : null;
+        long lineNumber = format == Format.CSV ? 1 : 0;
+
+        List<Row> batch = new ArrayList<>(batchSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            report.addRows(1);
+            Row row;
+            try {
+                row = format == Format.CSV ? parseCsv(lineNumber, line, columns) : parseJson(lineNumber, line);
+            } catch (IOException | RuntimeException e) {
+                report.addError(lineNumber, null, "Unreadable row: " + e.getMessage());
+                continue;
+            }
+            String problem = validate(row);
+            if (problem != null) {
+                report.addError(lineNumber, row.username(), problem);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                insert(batch, report);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch, report);
+        }
+        return report;
+    }
+
+    /**
+     * Hashes a batch in parallel, then inserts it with one unordered bulk write.
+     */
+    private void insert(List<Row> batch, ImportReport report) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(row.password()), hashingPool));
+        }
+
+        List<InsertOneModel<Document>> inserts = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Row row = batch.get(i);
+            User user = new User();
+            user.setUsername(row.username());
+            user.setPassword(hashes.get(i).join());
+            user.setEmail(row.email());
+            user.setRole(row.role());
+            Document document = new Document();
+            mongoTemplate.getConverter().write(user, document);
+            inserts.add(new InsertOneModel<>(document));
+        }
+
+        try {
+            int inserted = mongoTemplate.getCollection(mongoTemplate.getCollectionName(User.class))
+                    .bulkWrite(inserts, new BulkWriteOptions().ordered(false))
+                    .getInsertedCount();
+            report.addInserted(inserted);
+        } catch (MongoBulkWriteException e) {
+            // Unordered: everything except the listed writes was applied.
+            report.addInserted(e.getWriteResult().getInsertedCount());
+            for (BulkWriteError error : e.getWriteErrors()) {
+                Row row = batch.get(error.getIndex());
+                String reason = error.getCode() == DUPLICATE_KEY ? "Username is already taken" : error.getMessage();
+                report.addError(row.line(), row.username(), reason);
+            }
+        }
+    }
+
+    private static String validate(Row row) {
+        if (row.username() == null || row.username().isBlank()) {
+            return "Missing username";
+        }
+        if (row.password() == null || row.password().isEmpty()) {
+            return "Missing password";
+        }
+        // The same self-service roles as /register; ADMIN accounts are provisioned separately.
+        if (!"RECRUITER".equals(row.role()) && !"JOB_SEEKER".equals(row.role())) {
+            return "Role must be RECRUITER or JOB_SEEKER";
+        }
+        return null;
+    }
+
+    private Row parseJson(long line, String text) throws IOException {
+        JsonNode node = objectMapper.readTree(text);
+        return new Row(line, textOf(node, "username"), textOf(node, "password"), textOf(node, "email"), textOf(node, "role"));
+    }
+
+    private static String textOf(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Map<String, Integer> readHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IOException("The CSV file is empty.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("username") || !columns.containsKey("password")) {
+            throw new IOException("The CSV header must name at least the username and password columns.");
+        }
+        return columns;
+    }
+
+    private static Row parseCsv(long line, String text, Map<String, Integer> columns) {
+        List<String> fields = splitCsv(text);
+        return new Row(line, field(fields, columns, "username"), field(fields, columns, "password"),
+                field(fields, columns, "email"), field(fields, columns, "role"));
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    /**
+     * Splits one CSV record (RFC 4180 quoting, without line breaks inside fields).
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    /**
+     * One parsed row and the line it came from.
+     */
+    private record Row(long line, String username, String password, String email, String role) {
+    }
+}
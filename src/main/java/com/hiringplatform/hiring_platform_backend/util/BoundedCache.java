@@ -0,0 +1,256 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A small, size-bounded LRU cache with optional time-to-live, used wherever the application
+ * keeps short-lived copies of data that lives in MongoDB.
+ *
+ * Entries expire either after the cache-wide TTL or at an explicit per-entry deadline,
+ * whichever comes first. Hit, miss, eviction and invalidation counts are tracked so that
+ * the cache can be sized from its metrics (see {@link #bindTo(MeterRegistry, String)}).
+ *
+ * Values are loaded outside the lock, so an invalidation can arrive while a load is still
+ * reading the old data. Every invalidation therefore advances a generation counter, and a load
+ * stores its result only if the generation it started in is still current (see
+ * {@link #generation()} and {@link #putIfUnchanged}); otherwise the result is returned once but
+ * not cached, and the next lookup reads the data again.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Advanced by every invalidation; guarded by the lock.
+     */
+    private long generation;
+
+    /**
+     * @param maxEntries The maximum number of entries; the least recently used entry is evicted beyond it.
+     * @param ttlMillis How long an entry stays valid after being stored, or 0 for no cache-wide TTL.
+     */
+    public BoundedCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Looks up a value, counting a hit or a miss.
+     *
+     * @param key The key to look up.
+     * @return The cached value, or null if it is absent or expired.
+     */
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt <= now) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the cached value for a key, loading and storing it on a miss.
+     * The loader runs outside the cache lock, so concurrent misses on the same key may load twice.
+     * A value loaded while an invalidation happened is returned but not stored.
+     *
+     * @param key The key to look up.
+     * @param loader Computes the value on a miss. A null result is returned but not cached.
+     * @return The cached or freshly loaded value.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        long before = generation();
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                putIfUnchanged(key, value, before);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * The current invalidation generation. Read it before loading a value from the source,
+     * and pass it to {@link #putIfUnchanged} when storing the result.
+     */
+    public long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a value unless an invalidation happened since the given generation was read,
+     * in which case the value may predate the change and is dropped.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param generation The {@link #generation()} read before the value was loaded.
+     * @return True if the value was stored.
+     */
+    public boolean putIfUnchanged(K key, V value, long generation) {
+        return store(key, value, Long.MAX_VALUE, generation);
+    }
+
+    /**
+     * Stores a value, subject to the cache-wide TTL.
+     */
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * Stores a value that must not outlive the given deadline.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param expiresAtMillis The epoch millisecond after which the entry is no longer valid.
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        store(key, value, expiresAtMillis, -1);
+    }
+
+    /**
+     * Stores a value, if the generation is still the expected one (or any generation is accepted).
+     *
+     * @param expectedGeneration The required generation, or -1 to store unconditionally.
+     */
+    private boolean store(K key, V value, long expiresAtMillis, long expectedGeneration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = ttlMillis > 0 ? Math.min(expiresAtMillis, now + ttlMillis) : expiresAtMillis;
+        lock.lock();
+        try {
+            if (expectedGeneration >= 0 && expectedGeneration != generation) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, expiresAt));
+            Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a single entry.
+     */
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            generation++;
+            if (entries.remove(key) != null) {
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry matching a predicate.
+     *
+     * @param predicate Receives each key and value; returning true removes the entry.
+     */
+    public void invalidateIf(BiPredicate<? super K, ? super V> predicate) {
+        lock.lock();
+        try {
+            generation++;
+            Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Entry<V>> entry = it.next();
+                if (predicate.test(entry.getKey(), entry.getValue().value)) {
+                    it.remove();
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void invalidateAll() {
+        invalidateIf((key, value) -> true);
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() { return hits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getEvictionCount() { return evictions.sum(); }
+    public long getInvalidationCount() { return invalidations.sum(); }
+
+    /**
+     * Publishes the cache statistics as Micrometer meters tagged with the cache name
+     * (cache.gets with result=hit|miss, cache.evictions, cache.invalidations and cache.size).
+     *
+     * @param registry The registry to publish to.
+     * @param name The value of the 'cache' tag.
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("cache.gets", this, BoundedCache::getHitCount)
+                .tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", this, BoundedCache::getMissCount)
+                .tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", this, BoundedCache::getEvictionCount)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("cache.invalidations", this, BoundedCache::getInvalidationCount)
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.size", this, BoundedCache::size)
+                .tag("cache", name).register(registry);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+/**
+ * A single byte range of an HTTP Range request (RFC 9110, section 14), resolved against the size of the content.
+ *
+ * @param start The first byte.
+ * @param end The last byte, inclusive.
+ */
+public record ByteRange(long start, long end) {
+
+    /**
+     * The number of bytes in the range.
+     */
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Parses a Range header.
+     * Only single ranges are supported; a header asking for several ranges, using another unit, or
+     * malformed is ignored, which the specification allows and which means serving the whole content.
+     *
+     * @param header The value of the Range header, or null.
+     * @param size The size of the content.
+     * @return The range, or null to serve the whole content.
+     * @throws IllegalArgumentException If the range starts beyond the content (answered with 416).
+     */
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            if (dash == 0) {
+                // A suffix range: the last n bytes.
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0 || size == 0) {
+                    throw new IllegalArgumentException("unsatisfiable range " + spec);
+                }
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(spec.substring(0, dash));
+            long end = dash == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= size) {
+                throw new IllegalArgumentException("unsatisfiable range " + spec);
+            }
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A frequency-weighted prefix trie for type-ahead suggestions.
+ *
+ * Every node caches the best {@code topK} completions of its subtree, so a lookup only walks
+ * the prefix and copies that cached list: O(prefix length + k), independent of how many terms
+ * are stored. Children are kept in sorted parallel arrays (binary-searched) rather than maps to
+ * keep the per-node footprint small.
+ *
+ * Weights are adjusted incrementally and only touch the nodes on the term's path. After a
+ * decrease the cached lists are simply re-sorted, unless the term drops to the last place of a
+ * full list (or to zero), where a term outside the list may now outrank it. That node's list is
+ * then rebuilt by merging its children's lists, which are complete for their subtrees since the
+ * path is processed from the deepest node up: O(children * k) per node, never a subtree walk.
+ */
+public class CompletionTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Term[] NO_TERMS = new Term[0];
+
+    /**
+     * Highest weight first; ties broken alphabetically so results are stable.
+     */
+    private static final Comparator<Term> ORDER =
+            Comparator.comparingLong((Term term) -> term.weight).reversed().thenComparing(term -> term.key);
+
+    private final int topK;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+
+    /**
+     * @param topK How many completions each node caches; the upper bound for a lookup's limit.
+     */
+    public CompletionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * Normalizes a term or prefix: trimmed, lowercased, inner whitespace collapsed.
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds a (possibly negative) amount to a term's weight, inserting the term if needed.
+     *
+     * @param display The term as it should be shown to users. The first form seen is kept.
+     * @param delta The weight change.
+     */
+    public void adjust(String display, long delta) {
+        String key = normalize(display);
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Node[] path = new Node[key.length() + 1];
+            Node node = root;
+            path[0] = node;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                path[i + 1] = node;
+            }
+            if (node.term == null) {
+                node.term = new Term(key, display.trim());
+            }
+            Term term = node.term;
+            term.weight = Math.max(0, term.weight + delta);
+
+            if (delta > 0) {
+                for (Node onPath : path) {
+                    promote(onPath, term);
+                }
+            } else {
+                // Deepest first: demote may rebuild a node from its children's lists.
+                for (int i = path.length - 1; i >= 0; i--) {
+                    demote(path[i], term);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the highest-weighted terms starting with a prefix.
+     *
+     * @param prefix The prefix typed so far; normalized like stored terms.
+     * @param limit The maximum number of completions (capped at topK).
+     * @return The matching terms, best first.
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        String key = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            List<Completion> completions = new ArrayList<>();
+            if (node == null) {
+                return completions;
+            }
+            for (int i = 0; i < node.top.length && completions.size() < limit; i++) {
+                completions.add(new Completion(node.top[i].display, node.top[i].weight));
+            }
+            return completions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts or repositions a term whose weight grew in a node's cached list.
+     */
+    private void promote(Node node, Term term) {
+        Term[] top = node.top;
+        int existing = node.indexOfTop(term);
+        if (existing < 0) {
+            if (top.length == topK && ORDER.compare(term, top[top.length - 1]) >= 0) {
+                return;
+            }
+            top = Arrays.copyOf(top, Math.min(top.length + 1, topK));
+            top[top.length - 1] = term;
+        } else {
+            top = top.clone();
+        }
+        Arrays.sort(top, ORDER);
+        node.top = top;
+    }
+
+    /**
+     * Repositions or removes a term whose weight shrank in a node's cached list.
+     */
+    private void demote(Node node, Term term) {
+        int existing = node.indexOfTop(term);
+        if (existing < 0) {
+            return;
+        }
+        Term[] top = node.top;
+        if (top.length < topK) {
+            // A list with room holds every weighted term of the subtree, so nothing can move up into it.
+            if (term.weight == 0) {
+                Term[] shorter = new Term[top.length - 1];
+                System.arraycopy(top, 0, shorter, 0, existing);
+                System.arraycopy(top, existing + 1, shorter, existing, top.length - existing - 1);
+                node.top = shorter;
+            } else {
+                top = top.clone();
+                Arrays.sort(top, ORDER);
+                node.top = top;
+            }
+            return;
+        }
+        if (term.weight > 0) {
+            top = top.clone();
+            Arrays.sort(top, ORDER);
+            if (top[top.length - 1] != term) {
+                // It still outranks the former last entry, and so every term outside the list.
+                node.top = top;
+                return;
+            }
+        }
+        node.top = merge(node);
+    }
+
+    /**
+     * Rebuilds a node's cached list from its own term and its children's lists.
+     */
+    private Term[] merge(Node node) {
+        List<Term> candidates = new ArrayList<>();
+        if (node.term != null && node.term.weight > 0) {
+            candidates.add(node.term);
+        }
+        for (Node child : node.children) {
+            for (Term candidate : child.top) {
+                if (candidate.weight > 0) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        candidates.sort(ORDER);
+        return candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_TERMS);
+    }
+
+    /**
+     * A suggested completion and its weight.
+     */
+    public record Completion(String value, long weight) {
+    }
+
+    private static final class Term {
+        private final String key;
+        private final String display;
+        private long weight;
+
+        Term(String key, String display) {
+            this.key = key;
+            this.display = display;
+        }
+    }
+
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Term term;
+        private Term[] top = NO_TERMS;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = new Node();
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[at];
+        }
+
+        int indexOfTop(Term term) {
+            for (int i = 0; i < top.length; i++) {
+                if (top[i] == term) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
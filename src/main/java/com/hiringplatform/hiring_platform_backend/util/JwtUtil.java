@@ -1,13 +1,23 @@
 package com.hiringplatform.hiring_platform_backend.util;
 
+import com.hiringplatform.hiring_platform_backend.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,6 +26,11 @@ import java.util.function.Function;
 /**
  * A utility class for handling JSON Web Token (JWT) operations.
  * This includes generating, parsing, and validating tokens.
+ *
+ * Verification goes through one prebuilt (immutable, thread-safe) parser, and each token is
+ * verified at most once while it is cached: verified tokens are kept in a bounded cache keyed
+ * by the SHA-256 digest of the token, each entry expiring at the token's own 'exp'. A repeat
+ * request with the same token costs one digest instead of a signature check and a JSON parse.
  */
 @Component
 public class JwtUtil {
@@ -27,6 +42,47 @@ public class JwtUtil {
      */
     private static final SecretKey SECRET_KEY = Keys.hmacShaKeyFor("hiringplatformsecretkey12345678901234567890".getBytes());
 
+    /**
+     * Names of the custom claims carried by access tokens.
+     */
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_VERSION_CLAIM = "tokenVersion";
+
+    /**
+     * The parser used for every verification, built once.
+     */
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(SECRET_KEY).build();
+
+    /**
+     * Tokens that have already been verified, keyed by the digest of the token string.
+     */
+    private final BoundedCache<String, VerifiedToken> verified;
+
+    @Autowired
+    public JwtUtil(@Value("${security.jwt.cache.max-entries:10000}") int maxEntries, MeterRegistry meterRegistry) {
+        this.verified = new BoundedCache<>(maxEntries, 0);
+        this.verified.bindTo(meterRegistry, "jwt");
+    }
+
+    /**
+     * Verifies a token's signature and expiration, parsing it only if it is not already cached.
+     *
+     * @param token The JWT string.
+     * @return The verified token.
+     * @throws JwtException If the token is malformed, has an invalid signature, or has expired.
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verified.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken fresh = new VerifiedToken(parser.parseClaimsJws(token).getBody());
+        verified.put(digest, fresh, fresh.getExpiration().getTime());
+        return fresh;
+    }
+
     /**
      * Extracts the username (subject) from a given JWT.
      *
@@ -55,45 +111,23 @@ public class JwtUtil {
      * @return The extracted claim.
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    /**
-     * Parses the JWT and returns all claims contained within its body.
-     *
-     * @param token The JWT string.
-     * @return The Claims object representing the token's payload.
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * Checks if a given JWT has expired.
-     *
-     * @param token The JWT string.
-     * @return True if the token has expired, false otherwise.
-     */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return claimsResolver.apply(verify(token).getClaims());
     }
 
     /**
      * Generates a new JWT for a given user.
+     * The token carries the user's id, role and token version, which is everything needed
+     * to authenticate later requests without loading the user.
      *
-     * @param userDetails The user details for whom the token is being generated.
+     * @param user The user for whom the token is being generated.
      * @return A new, signed JWT string.
      */
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        // Custom claims can be added here (e.g., roles, user ID)
-        return createToken(claims, userDetails.getUsername());
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        return createToken(claims, user.getUsername());
     }
 
     /**
@@ -122,7 +156,30 @@ public class JwtUtil {
      * @return True if the token is valid, false otherwise.
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(verify(token), userDetails);
+    }
+
+    /**
+     * Validates an already verified token against the user it claims to belong to.
+     *
+     * @param token The verified token.
+     * @param userDetails The user details to validate against.
+     * @return True if the token belongs to the user and has not expired, false otherwise.
+     */
+    public boolean validateToken(VerifiedToken token, UserDetails userDetails) {
+        return token.getUsername().equals(userDetails.getUsername()) && !token.isExpired();
+    }
+
+    /**
+     * Computes the cache key of a token. Keying on a digest keeps entries small and avoids
+     * holding bearer tokens themselves in memory.
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
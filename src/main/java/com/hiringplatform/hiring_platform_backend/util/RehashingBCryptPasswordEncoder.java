@@ -0,0 +1,36 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A BCrypt encoder that asks for a rehash whenever a stored hash was made with a different
+ * cost factor than the configured one, in either direction. The standard encoder only upgrades
+ * weaker hashes; this one also lets the cost be lowered again to trade strength for capacity.
+ * Spring Security's DaoAuthenticationProvider performs the rehash after a successful login.
+ */
+public class RehashingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    /**
+     * @param strength The log2 cost factor new hashes are made with (4 to 31).
+     */
+    public RehashingBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
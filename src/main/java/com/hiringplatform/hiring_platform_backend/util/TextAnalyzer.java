@@ -0,0 +1,56 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A small, dependency-free text analyzer shared by the in-memory search components.
+ * It lowercases input and splits it into terms on anything that is not a letter, a digit,
+ * '+' or '#', so that skills such as "C++" and "C#" survive as single terms.
+ */
+public final class TextAnalyzer {
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Splits a piece of free text into normalized terms.
+     *
+     * @param text The text to analyze. May be null.
+     * @return The terms in their original order, including duplicates.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean termChar = Character.isLetterOrDigit(c) || c == '+' || c == '#';
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                terms.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            terms.add(lower.substring(start));
+        }
+        return terms;
+    }
+
+    /**
+     * Normalizes a whole query string so that equivalent queries share one representation
+     * (e.g. "  Java  Spring" and "java spring").
+     *
+     * @param text The raw query text.
+     * @return The normalized terms joined by single spaces.
+     */
+    public static String normalize(String text) {
+        return String.join(" ", tokenize(text));
+    }
+}
@@ -0,0 +1,46 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the threads for the application's own background work.
+ *
+ * With spring.threads.virtual.enabled set, work that mostly waits on MongoDB or SMTP runs on
+ * virtual threads, like the request handlers; otherwise on named platform daemon threads.
+ * CPU-bound pools (password hashing) always use platform threads, since virtual threads would
+ * only add scheduling overhead there and would lose the pool's admission control.
+ */
+public final class Threads {
+
+    private Threads() {
+    }
+
+    /**
+     * Returns a factory for threads named prefix-1, prefix-2, ...
+     *
+     * @param prefix The thread name prefix.
+     * @param virtual Whether to create virtual threads.
+     */
+    public static ThreadFactory factory(String prefix, boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(prefix + "-", 1).factory();
+        }
+        return Thread.ofPlatform().name(prefix + "-", 1).daemon(true).factory();
+    }
+
+    /**
+     * Returns an executor for blocking I/O: one virtual thread per task, or a fixed pool of platform threads.
+     *
+     * @param prefix The thread name prefix.
+     * @param virtual Whether to use virtual threads.
+     * @param platformThreads The pool size when not using virtual threads.
+     */
+    public static ExecutorService blockingExecutor(String prefix, boolean virtual, int platformThreads) {
+        if (virtual) {
+            return Executors.newThreadPerTaskExecutor(factory(prefix, true));
+        }
+        return Executors.newFixedThreadPool(platformThreads, factory(prefix, false));
+    }
+}
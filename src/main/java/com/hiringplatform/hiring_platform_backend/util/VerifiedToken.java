@@ -0,0 +1,68 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * The result of verifying a JWT once: its signature has been checked and its claims parsed.
+ * Instances are immutable views over the claims and may be shared between requests.
+ */
+public final class VerifiedToken {
+
+    private final Claims claims;
+
+    VerifiedToken(Claims claims) {
+        this.claims = claims;
+    }
+
+    /**
+     * @return The username (subject) the token was issued to.
+     */
+    public String getUsername() {
+        return claims.getSubject();
+    }
+
+    /**
+     * @return The id of the user the token was issued to, or null for tokens without the claim.
+     */
+    public String getUserId() {
+        return claims.get(JwtUtil.USER_ID_CLAIM, String.class);
+    }
+
+    /**
+     * @return The user's role at the time the token was issued, or null for tokens without the claim.
+     */
+    public String getRole() {
+        return claims.get(JwtUtil.ROLE_CLAIM, String.class);
+    }
+
+    /**
+     * @return The user's token version at the time the token was issued, or null for tokens without the claim.
+     */
+    public Long getTokenVersion() {
+        Number version = claims.get(JwtUtil.TOKEN_VERSION_CLAIM, Number.class);
+        return version == null ? null : version.longValue();
+    }
+
+    /**
+     * @return The moment the token stops being valid.
+     */
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    /**
+     * @return Whether the token's expiration time has passed.
+     */
+    public boolean isExpired() {
+        return claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * @return All claims in the token's body.
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+}
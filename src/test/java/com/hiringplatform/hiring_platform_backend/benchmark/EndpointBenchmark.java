@@ -0,0 +1,158 @@
+package com.hiringplatform.hiring_platform_backend.benchmark;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A closed-loop load generator comparing the request-handling modes.
+ *
+ * Start the application once with spring.threads.virtual.enabled=false and once with true, and
+ * run this against each. Every endpoint is hammered by the given number of concurrent clients
+ * (each sending its next request as soon as the previous one completes) for a warm-up period and
+ * then a measured period; the throughput and the p50/p99/max latencies of the measured period are
+ * printed per endpoint. It is a plain main class, not a test, so the build never runs it:
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.hiringplatform.hiring_platform_backend.benchmark.EndpointBenchmark
+ *     -Dexec.args="--url http://localhost:8080 --concurrency 1000 --token <JOB_SEEKER JWT> --job <jobId>"
+ *
+ * /posts/apply is only measured with --token and --job. After the first request the candidate's
+ * application is a duplicate, which costs the same lookups as a new one but no insert; to measure
+ * inserts too, pass several tokens separated by commas. Raise the rate-limit settings, or disable
+ * rate limiting, for the search endpoint before benchmarking it.
+ */
+public class EndpointBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "500"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup-seconds", "10")));
+        Duration measured = Duration.ofSeconds(Long.parseLong(options.getOrDefault("seconds", "30")));
+        String query = URLEncoder.encode(options.getOrDefault("query", "java developer"), StandardCharsets.UTF_8);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        System.out.printf("%-16s %10s %9s %9s %9s %8s%n", "endpoint", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        run(client, "/posts/all", concurrency, warmup, measured,
+                i -> HttpRequest.newBuilder(URI.create(url + "/posts/all?size=20")).GET().build());
+        run(client, "/posts/search", concurrency, warmup, measured,
+                i -> HttpRequest.newBuilder(URI.create(url + "/posts/search?q=" + query + "&size=20")).GET().build());
+        if (options.containsKey("token") && options.containsKey("job")) {
+            String[] tokens = options.get("token").split(",");
+            String job = options.get("job");
+            run(client, "/posts/apply", concurrency, warmup, measured,
+                    i -> HttpRequest.newBuilder(URI.create(url + "/posts/apply/" + job))
+                            .header("Authorization", "Bearer " + tokens[(int) (i % tokens.length)])
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build());
+        }
+    }
+
+    /**
+     * Builds the n-th request of a run.
+     */
+    private interface RequestFactory {
+        HttpRequest create(long n);
+    }
+
+    private static void run(HttpClient client, String name, int concurrency, Duration warmup, Duration measured,
+            RequestFactory requests) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + measured.toNanos();
+        AtomicLong sequence = new AtomicLong();
+        LongAdder errors = new LongAdder();
+        List<long[]> perClient = new ArrayList<>(concurrency);
+        int[] counts = new int[concurrency];
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                long[] latencies = new long[1024];
+                perClient.add(latencies);
+                int index = c;
+                clients.execute(() -> {
+                    long[] recorded = latencies;
+                    int count = 0;
+                    while (true) {
+                        long sent = System.nanoTime();
+                        if (sent >= end) {
+                            break;
+                        }
+                        boolean ok;
+                        try {
+                            HttpRequest request = requests.create(sequence.getAndIncrement());
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            // 409 is the expected answer to a repeated application.
+                            ok = status < 400 || status == 409;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long received = System.nanoTime();
+                        if (sent < measureFrom) {
+                            continue;
+                        }
+                        if (!ok) {
+                            errors.increment();
+                        }
+                        if (count == recorded.length) {
+                            recorded = Arrays.copyOf(recorded, count * 2);
+                            perClient.set(index, recorded);
+                        }
+                        recorded[count++] = received - sent;
+                    }
+                    counts[index] = count;
+                });
+            }
+        }
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int c = 0; c < concurrency; c++) {
+            System.arraycopy(perClient.get(c), 0, all, offset, counts[c]);
+            offset += counts[c];
+        }
+        Arrays.sort(all);
+        System.out.printf("%-16s %10.0f %9.1f %9.1f %9.1f %8d%n", name,
+                total / (measured.toNanos() / 1e9),
+                percentile(all, 0.50), percentile(all, 0.99), total == 0 ? 0.0 : all[total - 1] / 1e6,
+                errors.sum());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
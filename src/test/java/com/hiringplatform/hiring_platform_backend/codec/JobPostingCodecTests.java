@@ -0,0 +1,100 @@
+package com.hiringplatform.hiring_platform_backend.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Checks that the codec and Spring Data's mapping read each other's documents, since both
+ * write to the JobPostings collection.
+ */
+class JobPostingCodecTests {
+
+    private final JobPostingCodec codec = new JobPostingCodec();
+    private final MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+
+    @Test
+    void writesTheSameDocumentAsSpringData() {
+        JobPosting posting = posting(new ObjectId().toHexString());
+        Document mapped = new Document();
+        converter.write(posting, mapped);
+
+        assertEquals(mapped.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()), encode(posting));
+    }
+
+    @Test
+    void readsWhatSpringDataWrites() {
+        JobPosting posting = posting(new ObjectId().toHexString());
+        Document mapped = new Document();
+        converter.write(posting, mapped);
+
+        JobPosting decoded = decode(mapped.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()));
+
+        assertEquals(posting.getId(), decoded.getId());
+        assertEquals("recruiter-1", decoded.getRecruiterId());
+        assertEquals("Engineer", decoded.getRole());
+        assertEquals("Builds things", decoded.getDescription());
+        assertEquals(3, decoded.getExperience());
+        assertEquals(List.of("java", "mongodb"), decoded.getSkillSet());
+        assertEquals(posting.getId(), converter.read(JobPosting.class, Document.parse(encode(decoded).toJson())).getId());
+    }
+
+    @Test
+    void keepsIdsThatAreNotObjectIdsAsStrings() {
+        BsonDocument encoded = encode(posting("legacy-7"));
+
+        assertEquals("legacy-7", encoded.getString("_id").getValue());
+        assertEquals("legacy-7", decode(encoded).getId());
+    }
+
+    @Test
+    void toleratesOtherNumericTypesNullsAndUnexpectedFields() {
+        JobPosting decoded = decode(BsonDocument.parse("{_id: 'p1', role: null, description: 42, "
+                + "experience: {$numberLong: '5'}, skillSet: ['java', null], extra: {nested: true}}"));
+
+        assertNull(decoded.getRole());
+        assertNull(decoded.getDescription());
+        assertEquals(5, decoded.getExperience());
+        assertEquals(Arrays.asList("java", null), decoded.getSkillSet());
+        assertEquals(2, decode(BsonDocument.parse("{experience: 2.9}")).getExperience());
+        assertNull(decode(BsonDocument.parse("{skillSet: 'java'}")).getSkillSet());
+    }
+
+    private BsonDocument encode(JobPosting posting) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), posting, EncoderContext.builder().build());
+        return document;
+    }
+
+    private JobPosting decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private static JobPosting posting(String id) {
+        JobPosting posting = new JobPosting();
+        posting.setId(id);
+        posting.setRecruiterId("recruiter-1");
+        posting.setRole("Engineer");
+        posting.setDescription("Builds things");
+        posting.setExperience(3);
+        posting.setSkillSet(List.of("java", "mongodb"));
+        return posting;
+    }
+}
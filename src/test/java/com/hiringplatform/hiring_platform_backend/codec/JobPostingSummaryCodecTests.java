@@ -0,0 +1,77 @@
+package com.hiringplatform.hiring_platform_backend.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+
+class JobPostingSummaryCodecTests {
+
+    private final JobPostingSummaryCodec codec = new JobPostingSummaryCodec();
+
+    @Test
+    void decodesAProjectedPosting() {
+        ObjectId id = new ObjectId();
+        BsonDocument projected = BsonDocument.parse("{_id: {$oid: '" + id.toHexString() + "'}, recruiterId: 'recruiter-1', "
+                + "role: 'Engineer', experience: {$numberDouble: '4.0'}, skillSet: ['java'], snippet: 'Builds'}");
+
+        JobPostingSummary summary = decode(projected);
+
+        assertEquals(id.toHexString(), summary.getId());
+        assertEquals("recruiter-1", summary.getRecruiterId());
+        assertEquals("Engineer", summary.getRole());
+        assertEquals(4, summary.getExperience());
+        assertEquals(List.of("java"), summary.getSkillSet());
+        assertEquals("Builds", summary.getSnippet());
+    }
+
+    @Test
+    void ignoresFieldsOutsideTheProjection() {
+        JobPostingSummary summary = decode(BsonDocument.parse("{_id: 'p1', description: 'The full text', _class: 'JobPosting'}"));
+
+        assertEquals("p1", summary.getId());
+        assertNull(summary.getSnippet());
+        assertNull(summary.getSkillSet());
+    }
+
+    @Test
+    void projectsExactlyTheFieldsItReads() {
+        assertEquals(List.of("recruiterId", "role", "experience", "skillSet", "snippet"),
+                List.copyOf(JobPostingSummaryCodec.PROJECTION.keySet()));
+        assertEquals(JobPostingSummary.SNIPPET_LENGTH, JobPostingSummaryCodec.PROJECTION.getDocument("snippet")
+                .getArray("$substrCP").get(2).asInt32().getValue());
+    }
+
+    @Test
+    void roundTripsThroughEncode() {
+        JobPostingSummary summary = new JobPostingSummary();
+        summary.setId(new ObjectId().toHexString());
+        summary.setRole("Tester");
+        summary.setExperience(1);
+        summary.setSnippet("Tests things");
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), summary, EncoderContext.builder().build());
+
+        JobPostingSummary decoded = decode(document);
+
+        assertEquals(summary.getId(), decoded.getId());
+        assertEquals("Tester", decoded.getRole());
+        assertEquals(1, decoded.getExperience());
+        assertEquals("Tests things", decoded.getSnippet());
+        assertNull(decoded.getRecruiterId());
+    }
+
+    private JobPostingSummary decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.hiringplatform.hiring_platform_backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.hiringplatform.hiring_platform_backend.dto.ImportReport;
+import com.hiringplatform.hiring_platform_backend.service.UserImportService;
+
+/**
+ * Drives the user import endpoint through MockMvc with the import service mocked; the lines the
+ * service reads are recorded, to check how the uploaded bytes were decoded.
+ */
+class AdminControllerTests {
+
+    private static final String CSV = "username,password,email,role\nrené,secret,rene@hiring.test,CANDIDATE\n";
+
+    private final UserImportService userImportService = mock(UserImportService.class);
+    private final List<String> lines = new ArrayList<>();
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        AdminController controller = new AdminController();
+        ReflectionTestUtils.setField(controller, "userImportService", userImportService);
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+        when(userImportService.importUsers(any(BufferedReader.class), any())).thenAnswer(invocation -> {
+            BufferedReader reader = invocation.getArgument(0);
+            reader.lines().forEach(lines::add);
+            return new ImportReport();
+        });
+    }
+
+    @Test
+    void decodesTheFileAsUtf8WithoutACharset() throws Exception {
+        mvc.perform(post("/admin/users/import").contentType("text/csv").content(CSV.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk());
+
+        assertEquals("rené,secret,rene@hiring.test,CANDIDATE", lines.get(1));
+    }
+
+    @Test
+    void decodesTheFileInTheCharsetOfTheContentType() throws Exception {
+        mvc.perform(post("/admin/users/import").contentType("text/csv;charset=ISO-8859-1")
+                        .content(CSV.getBytes(StandardCharsets.ISO_8859_1)))
+                .andExpect(status().isOk());
+
+        assertEquals("rené,secret,rene@hiring.test,CANDIDATE", lines.get(1));
+        verify(userImportService).importUsers(any(BufferedReader.class), eq(UserImportService.Format.CSV));
+    }
+
+    @Test
+    void refusesACharsetItCannotDecode() throws Exception {
+        mvc.perform(post("/admin/users/import").contentType("application/x-ndjson;charset=x-no-such-charset")
+                        .content("{}".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(userImportService);
+    }
+}
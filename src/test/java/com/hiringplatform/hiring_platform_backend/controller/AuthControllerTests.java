@@ -0,0 +1,132 @@
+package com.hiringplatform.hiring_platform_backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.hiringplatform.hiring_platform_backend.config.RateLimitProperties;
+import com.hiringplatform.hiring_platform_backend.config.SecurityConfig;
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.repository.UserRepository;
+import com.hiringplatform.hiring_platform_backend.service.PasswordHashingService;
+import com.hiringplatform.hiring_platform_backend.service.TokenVersionService;
+import com.hiringplatform.hiring_platform_backend.service.UserCacheService;
+import com.hiringplatform.hiring_platform_backend.util.JwtUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the asynchronous auth endpoints through the real security filter chain, including the
+ * second (ASYNC) dispatch in which Spring MVC writes the result of the returned future.
+ */
+@WebMvcTest(AuthController.class)
+@Import({ SecurityConfig.class, RateLimitProperties.class, JwtUtil.class, PasswordHashingService.class, SimpleMeterRegistry.class })
+@TestPropertySource(properties = "security.bcrypt.strength=4")
+class AuthControllerTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private UserCacheService userCacheService;
+
+    @MockBean
+    private TokenVersionService tokenVersionService;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private MongoTemplate mongoTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId("user-1");
+        user.setUsername("alice");
+        user.setRole("JOB_SEEKER");
+        user.setPassword(passwordEncoder.encode("old-secret"));
+        when(userCacheService.findById("user-1")).thenReturn(Optional.of(user));
+        when(tokenVersionService.isCurrent(eq("user-1"), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void changesThePasswordAndReturnsTheNewTokenOnTheAsyncDispatch() throws Exception {
+        String token = jwtUtil.generateToken(user);
+
+        MvcResult started = mvc.perform(post("/password")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentPassword\": \"old-secret\", \"newPassword\": \"new-secret\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5_000);
+        // The token of the first dispatch is revoked by now; the second must not verify it again.
+        when(tokenVersionService.isCurrent(eq("user-1"), anyLong())).thenReturn(false);
+
+        MvcResult finished = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        verify(tokenVersionService).revokeAll("user-1");
+        assertEquals("user-1", jwtUtil.verify(finished.getResponse().getContentAsString()).getUserId());
+    }
+
+    @Test
+    void answersTheWrongCurrentPasswordWith401OnTheAsyncDispatch() throws Exception {
+        MvcResult started = mvc.perform(post("/password")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentPassword\": \"wrong\", \"newPassword\": \"new-secret\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5_000);
+
+        MvcResult finished = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+
+        assertEquals("Invalid credentials", finished.getResponse().getContentAsString());
+        verify(tokenVersionService, never()).revokeAll("user-1");
+    }
+
+    @Test
+    void rejectsAPasswordChangeWithoutAToken() throws Exception {
+        mvc.perform(post("/password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentPassword\": \"old-secret\", \"newPassword\": \"new-secret\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(request().asyncNotStarted());
+    }
+}
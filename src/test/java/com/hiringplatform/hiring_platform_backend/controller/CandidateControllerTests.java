@@ -0,0 +1,184 @@
+package com.hiringplatform.hiring_platform_backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.hiringplatform.hiring_platform_backend.dto.AuthenticatedUser;
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.service.CandidateProfileService;
+import com.hiringplatform.hiring_platform_backend.service.ResumeStorageService;
+
+/**
+ * Downloads resumes through MockMvc from a ResumeStorageService on a temporary directory,
+ * with the profile lookup mocked.
+ */
+class CandidateControllerTests {
+
+    private static final byte[] PDF = "%PDF-1.7\n0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path root;
+
+    private final CandidateProfileService candidateProfileService = mock(CandidateProfileService.class);
+    private MockMvc mvc;
+    private String id;
+    private String etag;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ResumeStorageService resumeStorageService = new ResumeStorageService(root.toString(), 1024);
+        ResumeStorageService.StoredResume stored = resumeStorageService.store(new ByteArrayInputStream(PDF));
+        id = stored.id();
+        etag = stored.etag();
+
+        CandidateController controller = new CandidateController();
+        ReflectionTestUtils.setField(controller, "resumeStorageService", resumeStorageService);
+        ReflectionTestUtils.setField(controller, "candidateProfileService", candidateProfileService);
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        signIn("recruiter-1", "RECRUITER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void servesTheWholeFileWithItsDigestAsETag() throws Exception {
+        mvc.perform(get("/candidate/resume/" + id))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(PDF))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, Integer.toString(PDF.length)))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"resume-" + id.substring(0, 12) + "\""));
+    }
+
+    @Test
+    void answersNotModifiedWhenIfNoneMatchNamesTheFile() throws Exception {
+        for (String ifNoneMatch : List.of(etag, "\"other\", " + etag, "W/" + etag, "*")) {
+            mvc.perform(get("/candidate/resume/" + id).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(content().bytes(new byte[0]));
+        }
+        mvc.perform(get("/candidate/resume/" + id).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(PDF));
+    }
+
+    @Test
+    void servesASingleRangeWithPartialContent() throws Exception {
+        mvc.perform(get("/candidate/resume/" + id).header(HttpHeaders.RANGE, "bytes=9-12"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(PDF, 9, 13)))
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 9-12/" + PDF.length))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "4"));
+        mvc.perform(get("/candidate/resume/" + id).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(PDF, PDF.length - 5, PDF.length)));
+    }
+
+    @Test
+    void honoursIfRangeOnlyForTheCurrentETag() throws Exception {
+        mvc.perform(get("/candidate/resume/" + id).header(HttpHeaders.RANGE, "bytes=0-3").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(PDF, 0, 4)));
+        mvc.perform(get("/candidate/resume/" + id).header(HttpHeaders.RANGE, "bytes=0-3").header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().bytes(PDF));
+    }
+
+    @Test
+    void refusesARangeBeyondTheFile() throws Exception {
+        mvc.perform(get("/candidate/resume/" + id).header(HttpHeaders.RANGE, "bytes=" + PDF.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + PDF.length));
+    }
+
+    @Test
+    void answersHeadWithTheHeadersOnly() throws Exception {
+        mvc.perform(head("/candidate/resume/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, Integer.toString(PDF.length)))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void handsTheRangeToSendfileWhenTheContainerSupportsIt() throws Exception {
+        MvcResult result = mvc.perform(get("/candidate/resume/" + id)
+                        .header(HttpHeaders.RANGE, "bytes=2-6")
+                        .requestAttr("org.apache.tomcat.sendfile.support", true))
+                .andExpect(status().isPartialContent())
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.filename", root.resolve(id.substring(0, 2)).resolve(id).toString()))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.start", 2L))
+                .andExpect(request().attribute("org.apache.tomcat.sendfile.end", 7L))
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    void letsACandidateReadOnlyTheResumeTheirProfileLinksTo() throws Exception {
+        signIn("candidate-1", "CANDIDATE");
+        CandidateProfile profile = new CandidateProfile();
+        profile.setUserId("candidate-1");
+        profile.setResumeUrl("http://localhost:8080/candidate/resume/" + id);
+        when(candidateProfileService.findByUserId("candidate-1")).thenReturn(Optional.of(profile));
+        when(candidateProfileService.findByUserId("candidate-2")).thenReturn(Optional.empty());
+
+        MvcResult result = mvc.perform(get("/candidate/resume/" + id)).andExpect(status().isOk()).andReturn();
+        assertArrayEquals(PDF, result.getResponse().getContentAsByteArray());
+
+        // Another candidate is refused whether or not the resume exists.
+        signIn("candidate-2", "CANDIDATE");
+        mvc.perform(get("/candidate/resume/" + id)).andExpect(status().isForbidden());
+        mvc.perform(get("/candidate/resume/" + "0".repeat(64))).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void answersNotFoundForAnUnknownResume() throws Exception {
+        mvc.perform(get("/candidate/resume/" + "0".repeat(64))).andExpect(status().isNotFound());
+        mvc.perform(get("/candidate/resume/not-a-digest")).andExpect(status().isNotFound());
+    }
+
+    private static void signIn(String userId, String role) {
+        AuthenticatedUser principal = new AuthenticatedUser(userId, userId + "@hiring.test", role);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
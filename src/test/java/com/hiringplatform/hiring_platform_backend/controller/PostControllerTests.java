@@ -0,0 +1,399 @@
+package com.hiringplatform.hiring_platform_backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiringplatform.hiring_platform_backend.dto.AuthenticatedUser;
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
+import com.hiringplatform.hiring_platform_backend.service.CatalogVersion;
+import com.hiringplatform.hiring_platform_backend.service.JobPostingCatalog;
+import com.mongodb.client.MongoCursor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Drives PostController through MockMvc with the repository and catalog mocked. The streamed listing
+ * reads from a cursor that the test can hold before a given posting, to observe what was sent so far.
+ */
+class PostControllerTests {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JobPostingRepository jobPostingRepository = mock(JobPostingRepository.class);
+    private final JobPostingCatalog catalog = mock(JobPostingCatalog.class);
+    private final CatalogVersion catalogVersion = mock(CatalogVersion.class);
+    private final PostController controller = new PostController(1, false, new SimpleMeterRegistry());
+
+    /**
+     * Set to make every further write to the response fail, as it does once the client has gone.
+     */
+    private final AtomicBoolean disconnected = new AtomicBoolean();
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(controller, "jobPostingRepository", jobPostingRepository);
+        ReflectionTestUtils.setField(controller, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(controller, "catalog", catalog);
+        ReflectionTestUtils.setField(controller, "catalogVersion", catalogVersion);
+        ReflectionTestUtils.setField(controller, "streamBatchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(controller, "streamTimeoutSeconds", 60L);
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .addFilter((request, response, chain) -> chain.doFilter(request, new DisconnectingResponse((HttpServletResponse) response)))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        controller.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void answersNotModifiedWhileTheCatalogVersionIsUnchanged() throws Exception {
+        when(catalogVersion.etag()).thenReturn("\"v1\"");
+        when(catalog.findAllSummaries()).thenReturn(summaries(2));
+
+        mvc.perform(get("/posts/all"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""));
+        mvc.perform(get("/posts/all").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(content().string(""));
+        mvc.perform(get("/posts/all?size=1").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified());
+        verify(catalog, times(1)).findAllSummaries();
+        verify(catalog, never()).findSummariesBefore(any(), anyInt());
+
+        // A write moves the version on, and the stale ETag gets the full listing again.
+        when(catalogVersion.etag()).thenReturn("\"v2\"");
+        mvc.perform(get("/posts/all").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v2\""));
+        verify(catalog, times(2)).findAllSummaries();
+    }
+
+    @Test
+    void servesTheListingWithoutAnETagWhileThereIsNoVersion() throws Exception {
+        when(catalog.findAllSummaries()).thenReturn(summaries(2));
+
+        mvc.perform(get("/posts/all").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void pagesThroughTheListingNewestFirstWithItsCursor() throws Exception {
+        List<JobPostingSummary> stored = summaries(5);
+        stored.sort(Comparator.comparing(JobPostingSummary::getId).reversed());
+        when(catalog.findSummariesBefore(any(), anyInt())).thenAnswer(invocation -> {
+            String beforeId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return new ArrayList<>(stored.stream()
+                    .filter(summary -> beforeId == null || summary.getId().compareTo(beforeId) < 0)
+                    .limit(limit)
+                    .toList());
+        });
+
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String uri = "/posts/all?size=2" + (cursor == null ? "" : "&cursor=" + cursor);
+            JsonNode page = objectMapper.readTree(mvc.perform(get(uri))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            assertTrue(page.get("results").size() <= 2);
+            page.get("results").forEach(summary -> ids.add(summary.get("id").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of("post-4", "post-3", "post-2", "post-1", "post-0"), ids);
+        assertEquals(3, pages);
+        verify(catalog).findSummariesBefore(null, 3);
+        verify(catalog).findSummariesBefore("post-3", 3);
+        verify(catalog).findSummariesBefore("post-1", 3);
+    }
+
+    @Test
+    void rejectsInvalidListingPagesAndCursors() throws Exception {
+        mvc.perform(get("/posts/all?size=0")).andExpect(status().isBadRequest());
+        mvc.perform(get("/posts/all?size=101")).andExpect(status().isBadRequest());
+        mvc.perform(get("/posts/all?size=2&cursor=not-a-cursor")).andExpect(status().isBadRequest());
+        verify(catalog, never()).findSummariesBefore(any(), anyInt());
+    }
+
+    @Test
+    void listsAllOfTheCallersPostingsWithoutASize() throws Exception {
+        signIn("recruiter-1");
+        when(jobPostingRepository.findSummariesByRecruiterBefore("recruiter-1", null, 0)).thenReturn(summaries(3));
+
+        JsonNode posts = objectMapper.readTree(mvc.perform(get("/posts/mine"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        assertEquals(3, posts.size());
+        // 0 asks the repository for every posting of the recruiter.
+        verify(jobPostingRepository).findSummariesByRecruiterBefore("recruiter-1", null, 0);
+        verify(jobPostingRepository, never()).findSummariesByRecruiterBefore(eq("recruiter-2"), any(), anyInt());
+    }
+
+    @Test
+    void pagesThroughTheCallersPostingsBeforeTheLastId() throws Exception {
+        signIn("recruiter-1");
+        List<JobPostingSummary> stored = summaries(5);
+        stored.sort(Comparator.comparing(JobPostingSummary::getId).reversed());
+        when(jobPostingRepository.findSummariesByRecruiterBefore(anyString(), any(), anyInt())).thenAnswer(invocation -> {
+            String beforeId = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return new ArrayList<>(stored.stream()
+                    .filter(summary -> beforeId == null || summary.getId().compareTo(beforeId) < 0)
+                    .limit(limit)
+                    .toList());
+        });
+
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            String uri = "/posts/mine?size=2" + (cursor == null ? "" : "&cursor=" + cursor);
+            JsonNode page = objectMapper.readTree(mvc.perform(get(uri))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("results").forEach(summary -> ids.add(summary.get("id").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        assertEquals(List.of("post-4", "post-3", "post-2", "post-1", "post-0"), ids);
+        verify(jobPostingRepository).findSummariesByRecruiterBefore("recruiter-1", null, 3);
+        verify(jobPostingRepository).findSummariesByRecruiterBefore("recruiter-1", "post-3", 3);
+        verify(jobPostingRepository).findSummariesByRecruiterBefore("recruiter-1", "post-1", 3);
+    }
+
+    @Test
+    void rejectsInvalidPagesOfTheCallersPostings() throws Exception {
+        signIn("recruiter-1");
+
+        mvc.perform(get("/posts/mine?size=0")).andExpect(status().isBadRequest());
+        mvc.perform(get("/posts/mine?size=2&cursor=not-a-cursor")).andExpect(status().isBadRequest());
+        verify(jobPostingRepository, never()).findSummariesByRecruiterBefore(any(), any(), anyInt());
+    }
+
+    @Test
+    void streamsOneSummaryPerLineSendingEachBatchBeforeReadingTheNext() throws Exception {
+        HeldCursor cursor = new HeldCursor(summaries(5), BATCH_SIZE);
+        when(jobPostingRepository.openSummaryCursor(BATCH_SIZE)).thenReturn(cursor.mock);
+
+        MvcResult result = mvc.perform(get("/posts/all/stream")).andExpect(request().asyncStarted()).andReturn();
+        await(() -> cursor.waiting.getCount() == 0);
+        // The first batch has reached the client while the cursor waits to be asked for more.
+        assertEquals(BATCH_SIZE, lines(result).size());
+
+        cursor.release.countDown();
+        result.getAsyncResult(5_000);
+
+        List<String> lines = lines(result);
+        assertEquals(5, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode summary = objectMapper.readTree(lines.get(i));
+            assertEquals("post-" + i, summary.get("id").asText());
+            assertEquals("Role " + i, summary.get("role").asText());
+        }
+        assertEquals("application/x-ndjson", result.getResponse().getContentType());
+        verify(cursor.mock).close();
+    }
+
+    @Test
+    void stopsReadingAndClosesTheCursorWhenTheClientGoesAway() throws Exception {
+        HeldCursor cursor = new HeldCursor(summaries(5), BATCH_SIZE);
+        when(jobPostingRepository.openSummaryCursor(BATCH_SIZE)).thenReturn(cursor.mock);
+
+        MvcResult result = mvc.perform(get("/posts/all/stream")).andExpect(request().asyncStarted()).andReturn();
+        await(() -> cursor.waiting.getCount() == 0);
+        disconnected.set(true);
+        cursor.release.countDown();
+
+        // The second batch failed to send, so the fifth posting was never read. The response itself is
+        // ended by the servlet container, which notices the failed write; MockMvc does not.
+        verify(cursor.mock, timeout(5_000)).close();
+        verify(cursor.mock, times(2 * BATCH_SIZE)).next();
+        assertEquals(BATCH_SIZE, lines(result).size());
+
+        // The stream's thread is free again.
+        disconnected.set(false);
+        HeldCursor next = new HeldCursor(summaries(1), Integer.MAX_VALUE);
+        when(jobPostingRepository.openSummaryCursor(BATCH_SIZE)).thenReturn(next.mock);
+        MvcResult again = mvc.perform(get("/posts/all/stream")).andExpect(request().asyncStarted()).andReturn();
+        again.getAsyncResult(5_000);
+        assertEquals(1, lines(again).size());
+    }
+
+    @Test
+    void refusesAStreamWhileEveryStreamThreadIsBusy() throws Exception {
+        HeldCursor cursor = new HeldCursor(summaries(3), BATCH_SIZE);
+        when(jobPostingRepository.openSummaryCursor(BATCH_SIZE)).thenReturn(cursor.mock);
+        MvcResult running = mvc.perform(get("/posts/all/stream")).andExpect(request().asyncStarted()).andReturn();
+        await(() -> cursor.waiting.getCount() == 0);
+
+        mvc.perform(get("/posts/all/stream"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        cursor.release.countDown();
+        running.getAsyncResult(5_000);
+        assertEquals(3, lines(running).size());
+    }
+
+    private static void signIn(String recruiterId) {
+        AuthenticatedUser principal = new AuthenticatedUser(recruiterId, recruiterId + "@hiring.test", "RECRUITER");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static List<String> lines(MvcResult result) throws Exception {
+        String content = result.getResponse().getContentAsString();
+        assertTrue(content.isEmpty() || content.endsWith("\n"));
+        return content.isEmpty() ? List.of() : List.of(content.split("\n"));
+    }
+
+    private static List<JobPostingSummary> summaries(int count) {
+        List<JobPostingSummary> summaries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            JobPostingSummary summary = new JobPostingSummary();
+            summary.setId("post-" + i);
+            summary.setRole("Role " + i);
+            summary.setSkillSet(List.of("java"));
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not reached within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * A mocked cursor over the given summaries that waits for 'release' before handing out the one at 'holdAt'.
+     */
+    private static final class HeldCursor {
+
+        final CountDownLatch waiting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger position = new AtomicInteger();
+        @SuppressWarnings("unchecked")
+        final MongoCursor<JobPostingSummary> mock = mock(MongoCursor.class);
+
+        HeldCursor(List<JobPostingSummary> summaries, int holdAt) {
+            when(mock.hasNext()).thenAnswer(invocation -> {
+                if (position.get() == holdAt) {
+                    waiting.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                return position.get() < summaries.size();
+            });
+            when(mock.next()).thenAnswer(invocation -> summaries.get(position.getAndIncrement()));
+        }
+    }
+
+    /**
+     * A response whose output stream fails while 'disconnected' is set.
+     */
+    private final class DisconnectingResponse extends HttpServletResponseWrapper {
+
+        DisconnectingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            ServletOutputStream target = super.getOutputStream();
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    check();
+                    target.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    check();
+                    target.write(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    check();
+                    target.flush();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                }
+
+                private void check() throws IOException {
+                    if (disconnected.get()) {
+                        throw new IOException("Broken pipe");
+                    }
+                }
+            };
+        }
+    }
+}
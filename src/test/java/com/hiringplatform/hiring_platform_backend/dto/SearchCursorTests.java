@@ -0,0 +1,50 @@
+package com.hiringplatform.hiring_platform_backend.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class SearchCursorTests {
+
+    @Test
+    void roundTripsThroughTheEncodedForm() {
+        SearchCursor cursor = SearchCursor.decode(new SearchCursor(SearchSort.EXPERIENCE, "3", "abc").encode());
+
+        assertEquals(SearchSort.EXPERIENCE, cursor.getSort());
+        assertEquals(3.0, cursor.getNumericValue());
+        assertEquals("abc", cursor.getId());
+    }
+
+    @Test
+    void rejectsExperienceCursorsWithoutAWholeNumber() {
+        for (String value : new String[] {"three", "NaN", "Infinity", "2.5", "1e12", ""}) {
+            String encoded = encode("EXPERIENCE\n" + value + "\nabc");
+            assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode(encoded), value);
+        }
+    }
+
+    @Test
+    void leavesRelevanceValuesToTheEngineButRejectsThemAsNumbers() {
+        // Atlas carries its searchAfter token; the in-memory engine reads a score.
+        SearchCursor token = SearchCursor.decode(encode("RELEVANCE\nCMtJGgYQuq+ngwgaCSkAjBYH7AAAAA==\nabc"));
+        assertThrows(IllegalArgumentException.class, token::getNumericValue);
+
+        SearchCursor score = SearchCursor.decode(encode("RELEVANCE\n1.25\nabc"));
+        assertEquals(1.25, score.getNumericValue());
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode(encode("SIDEWAYS\n1\nabc")));
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode(encode("NEWEST\n")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
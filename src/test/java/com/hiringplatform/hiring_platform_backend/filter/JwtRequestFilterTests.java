@@ -0,0 +1,102 @@
+package com.hiringplatform.hiring_platform_backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.dto.AuthenticatedUser;
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.service.TokenVersionService;
+import com.hiringplatform.hiring_platform_backend.service.UserCacheService;
+import com.hiringplatform.hiring_platform_backend.util.JwtUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtRequestFilterTests {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final JwtUtil jwtUtil = new JwtUtil(100, new SimpleMeterRegistry());
+    private final TokenVersionService tokenVersionService = new TokenVersionService(100, 60, new SimpleMeterRegistry());
+    private final JwtRequestFilter filter = new JwtRequestFilter();
+
+    /**
+     * The user's token version as stored in MongoDB.
+     */
+    private final AtomicLong storedVersion = new AtomicLong();
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenVersionService, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(tokenVersionService, "userCacheService", mock(UserCacheService.class));
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "tokenVersionService", tokenVersionService);
+
+        user = new User();
+        user.setId("user-1");
+        user.setUsername("alice");
+        user.setRole("JOB_SEEKER");
+        when(mongoTemplate.findOne(any(Query.class), eq(User.class))).thenAnswer(invocation -> {
+            User stored = new User();
+            stored.setTokenVersion(storedVersion.get());
+            return stored;
+        });
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(User.class))).thenAnswer(invocation -> {
+            storedVersion.incrementAndGet();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesACurrentToken() throws Exception {
+        Authentication authentication = filter(jwtUtil.generateToken(user));
+
+        assertNotNull(authentication);
+        assertEquals("user-1", ((AuthenticatedUser) authentication.getPrincipal()).getId());
+    }
+
+    @Test
+    void rejectsATokenRevokedAfterItWasAccepted() throws Exception {
+        String token = jwtUtil.generateToken(user);
+        assertNotNull(filter(token));
+
+        tokenVersionService.revokeAll("user-1");
+
+        assertNull(filter(token));
+        user.setTokenVersion(storedVersion.get());
+        assertNotNull(filter(jwtUtil.generateToken(user)));
+    }
+
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/mine");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
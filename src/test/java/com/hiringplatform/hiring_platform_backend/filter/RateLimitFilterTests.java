@@ -0,0 +1,190 @@
+package com.hiringplatform.hiring_platform_backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.config.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Sends mock requests through the filter. Refill rates are slow enough that no token comes back
+ * while a test runs, so every request past a route's capacity is rejected.
+ */
+class RateLimitFilterTests {
+
+    private static final double NO_REFILL = 0.001;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void appliesTheFirstMatchingRouteOnly() throws Exception {
+        RateLimitFilter filter = filter(properties(route("/posts/search/**", null, 1), route("/posts/**", null, 3)));
+
+        assertEquals(200, send(filter, "GET", "/posts/search/java", "10.0.0.1").getStatus());
+        assertEquals(429, send(filter, "GET", "/posts/search/java", "10.0.0.1").getStatus());
+        // The broader route keeps a bucket of its own, untouched by the searches.
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, send(filter, "GET", "/posts/all", "10.0.0.1").getStatus());
+        }
+        assertEquals(429, send(filter, "GET", "/posts/all", "10.0.0.1").getStatus());
+        // Paths no route matches are never limited.
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, send(filter, "GET", "/candidate/profile", "10.0.0.1").getStatus());
+        }
+    }
+
+    @Test
+    void limitsOnlyTheConfiguredMethod() throws Exception {
+        RateLimitFilter filter = filter(properties(route("/login", "post", 1)));
+
+        assertEquals(200, send(filter, "POST", "/login", "10.0.0.1").getStatus());
+        assertEquals(429, send(filter, "POST", "/login", "10.0.0.1").getStatus());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, send(filter, "GET", "/login", "10.0.0.1").getStatus());
+        }
+    }
+
+    @Test
+    void rejectsWith429AndRetryAfterWithoutCallingTheChain() throws Exception {
+        RateLimitFilter filter = filter(properties(route("/login", "POST", 1, 0.2)));
+        send(filter, "POST", "/login", "10.0.0.1");
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/login", "10.0.0.1"), response, chain);
+
+        assertEquals(429, response.getStatus());
+        // One token at 0.2 per second is at most five seconds away, rounded up to whole seconds.
+        assertEquals("5", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getContentType().startsWith("text/plain"));
+        assertEquals("Too many requests. Please slow down.", response.getContentAsString());
+        assertNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.get("ratelimit.rejected").tag("route", "/login").counter().count());
+    }
+
+    @Test
+    void keysAuthenticatedClientsByUserAndAnonymousOnesByAddress() throws Exception {
+        RateLimitFilter filter = filter(properties(route("/posts/search", null, 1)));
+
+        // Two users behind one address each get their own bucket, wherever they connect from.
+        signIn("ann");
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.1").getStatus());
+        assertEquals(429, send(filter, "GET", "/posts/search", "10.0.0.2").getStatus());
+        signIn("bob");
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.1").getStatus());
+
+        // Anonymous requests share one bucket per address, whether or not an anonymous token is present.
+        SecurityContextHolder.clearContext();
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.1").getStatus());
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        assertEquals(429, send(filter, "GET", "/posts/search", "10.0.0.1").getStatus());
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void sharesAnOverflowBucketOnceMaxKeysIsReached() throws Exception {
+        RateLimitProperties properties = properties(route("/posts/search", null, 1));
+        properties.setMaxKeys(2);
+        RateLimitFilter filter = filter(properties);
+
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.1").getStatus());
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.2").getStatus());
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.3").getStatus());
+        assertEquals(429, send(filter, "GET", "/posts/search", "10.0.0.4").getStatus());
+    }
+
+    @Test
+    void evictsIdleBucketsWhenSweeping() throws Exception {
+        RateLimitProperties properties = properties(route("/posts/search", null, 1));
+        properties.setIdleEvictionSeconds(0);
+        RateLimitFilter filter = filter(properties);
+        Map<?, ?> buckets = (Map<?, ?>) ReflectionTestUtils.getField(filter, "buckets");
+
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.1").getStatus());
+        assertEquals(429, send(filter, "GET", "/posts/search", "10.0.0.1").getStatus());
+        Thread.sleep(5);
+        // Every 4096th limited request sweeps; the bucket of 10.0.0.1 has been idle since its first request.
+        for (int i = 2; i < 4096; i++) {
+            send(filter, "GET", "/posts/search", "10.0.0.2");
+        }
+
+        assertTrue(buckets.keySet().stream().noneMatch(key -> key.toString().endsWith("ip:10.0.0.1")));
+        // A dropped bucket is indistinguishable from a full one.
+        assertEquals(200, send(filter, "GET", "/posts/search", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void letsEverythingThroughWhenDisabled() throws Exception {
+        RateLimitProperties properties = properties(route("/login", null, 1));
+        properties.setEnabled(false);
+        RateLimitFilter filter = filter(properties);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, send(filter, "POST", "/login", "10.0.0.1").getStatus());
+        }
+    }
+
+    private RateLimitFilter filter(RateLimitProperties properties) {
+        return new RateLimitFilter(properties, meterRegistry);
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, String method, String path, String address) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path, address), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr(address);
+        return request;
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.createAuthorityList("ROLE_CANDIDATE")));
+    }
+
+    private static RateLimitProperties properties(RateLimitProperties.Route... routes) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(routes));
+        return properties;
+    }
+
+    private static RateLimitProperties.Route route(String pattern, String method, int capacity) {
+        return route(pattern, method, capacity, NO_REFILL);
+    }
+
+    private static RateLimitProperties.Route route(String pattern, String method, int capacity, double refillPerSecond) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPattern(pattern);
+        route.setMethod(method);
+        route.setCapacity(capacity);
+        route.setRefillPerSecond(refillPerSecond);
+        return route;
+    }
+}
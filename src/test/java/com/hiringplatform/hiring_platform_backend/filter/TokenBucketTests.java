@@ -0,0 +1,47 @@
+package com.hiringplatform.hiring_platform_backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTests {
+
+    @Test
+    void burstUpToCapacityThenRefillsOverTime() {
+        RateLimitFilter.TokenBucket bucket = new RateLimitFilter.TokenBucket(3, 2.0);
+        long start = System.currentTimeMillis();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(start));
+        }
+        long wait = bucket.tryAcquire(start);
+        assertTrue(wait > 0 && wait <= 500, "one token at 2/s is at most 500 ms away, was " + wait);
+
+        assertEquals(0, bucket.tryAcquire(start + 500));
+        assertTrue(bucket.tryAcquire(start + 500) > 0);
+    }
+
+    @Test
+    void concurrentCallersNeverOverdraw() throws InterruptedException {
+        RateLimitFilter.TokenBucket bucket = new RateLimitFilter.TokenBucket(1000, 0.001);
+        long now = System.currentTimeMillis();
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 5000; i++) {
+            pool.execute(() -> {
+                if (bucket.tryAcquire(now) == 0) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1000, granted.get());
+    }
+}
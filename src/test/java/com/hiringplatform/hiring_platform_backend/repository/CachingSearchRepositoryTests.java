@@ -0,0 +1,150 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.dto.SearchPage;
+import com.hiringplatform.hiring_platform_backend.dto.SearchQuery;
+import com.hiringplatform.hiring_platform_backend.dto.SearchSort;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingSearchRepositoryTests {
+
+    private final SearchRepository engine = mock(SearchRepository.class);
+    private CachingSearchRepository repository;
+    private JobPosting posting;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingSearchRepository(engine, 100, 300, new SimpleMeterRegistry());
+        posting = posting("1", "Java Developer", "Builds services", List.of("java"));
+        when(engine.findPage(any())).thenAnswer(invocation -> new SearchPage(List.of(JobPostingSummary.of(posting)), null));
+    }
+
+    @Test
+    void servesRepeatedQueriesFromTheCache() {
+        repository.findPage(query("java", false));
+        repository.findPage(query("java", false));
+
+        verify(engine, times(1)).findPage(any());
+    }
+
+    @Test
+    void dropsPagesWhoseShownFieldsChanged() {
+        repository.findPage(query("java", false));
+
+        JobPosting edited = posting("1", "Senior Java Developer", "Builds services", List.of("java"));
+        repository.onAfterSave(saved(edited));
+        repository.findPage(query("java", false));
+
+        verify(engine, times(2)).findPage(any());
+    }
+
+    @Test
+    void keepsPagesWhenOnlyUnsearchableFieldsChanged() {
+        repository.findPage(query("java", false));
+
+        JobPosting edited = posting("1", "Java Developer", "Builds services", List.of("java"));
+        edited.setRecruiterId("another-recruiter");
+        repository.onAfterSave(saved(edited));
+        repository.findPage(query("java", false));
+
+        verify(engine, times(1)).findPage(any());
+    }
+
+    @Test
+    void dropsQueriesANewPostingCouldMatch() {
+        repository.findPage(query("python", false));
+        repository.findPage(query("golang", false));
+
+        repository.onAfterSave(saved(posting("2", "Python Engineer", "Data pipelines", List.of("python"))));
+        repository.findPage(query("python", false));
+        repository.findPage(query("golang", false));
+
+        verify(engine, times(3)).findPage(any());
+    }
+
+    @Test
+    void dropsFuzzyQueriesOnEverySave() {
+        repository.findPage(query("javscript", true));
+
+        repository.onAfterSave(saved(posting("2", "Javascript Engineer", "Frontend", List.of("javascript"))));
+        repository.findPage(query("javscript", true));
+
+        verify(engine, times(2)).findPage(any());
+    }
+
+    @Test
+    void dropsResultsCachedBeforeALaggingEngineIndexedTheWrite() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        when(engine.indexLagMillis()).thenReturn(50L);
+        CachingSearchRepository lagging = new CachingSearchRepository(engine, 100, 300, meterRegistry);
+        try {
+            lagging.findPage(query("python", false));
+            lagging.onAfterSave(saved(posting("2", "Python Engineer", "Data pipelines", List.of("python"))));
+            // Asked again before the engine has indexed the new posting: the old result is cached once more.
+            lagging.findPage(query("python", false));
+            lagging.findPage(query("python", false));
+            verify(engine, times(2)).findPage(any());
+
+            FunctionCounter invalidations = meterRegistry.get("cache.invalidations").functionCounter();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (invalidations.count() < 2 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            lagging.findPage(query("python", false));
+
+            verify(engine, times(3)).findPage(any());
+        } finally {
+            lagging.shutdown();
+        }
+    }
+
+    @Test
+    void invalidatesOnlyOnceForAnEngineWithoutLag() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CachingSearchRepository immediate = new CachingSearchRepository(engine, 100, 300, meterRegistry);
+        immediate.findPage(query("python", false));
+
+        immediate.onAfterSave(saved(posting("2", "Python Engineer", "Data pipelines", List.of("python"))));
+        immediate.findPage(query("python", false));
+
+        assertEquals(1.0, meterRegistry.get("cache.invalidations").functionCounter().count());
+        immediate.shutdown();
+    }
+
+    private static SearchQuery query(String text, boolean fuzzy) {
+        return new SearchQuery(text, 10, SearchSort.RELEVANCE, null, List.of(), null, false, fuzzy);
+    }
+
+    private static AfterSaveEvent<JobPosting> saved(JobPosting posting) {
+        return new AfterSaveEvent<>(posting, new Document(), "JobPostings");
+    }
+
+    private static JobPosting posting(String id, String role, String description, List<String> skills) {
+        JobPosting posting = new JobPosting();
+        posting.setId(id);
+        posting.setRecruiterId("recruiter-1");
+        posting.setRole(role);
+        posting.setDescription(description);
+        posting.setSkillSet(skills);
+        posting.setExperience(2);
+        return posting;
+    }
+}
@@ -0,0 +1,297 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.dto.ExperienceBucket;
+import com.hiringplatform.hiring_platform_backend.dto.FacetCount;
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.dto.SearchCursor;
+import com.hiringplatform.hiring_platform_backend.dto.SearchFacets;
+import com.hiringplatform.hiring_platform_backend.dto.SearchPage;
+import com.hiringplatform.hiring_platform_backend.dto.SearchQuery;
+import com.hiringplatform.hiring_platform_backend.dto.SearchSort;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+
+class InMemorySearchRepositoryTests {
+
+	/**
+	 * Twelve postings matching "java", with ties on experience and, for the identical pairs, on score.
+	 */
+	private static final List<JobPosting> CATALOG = List.of(
+			posting(1, "Java Developer", "Backend services in java", 0, "java"),
+			posting(2, "Java Developer", "Backend services in java", 2, "java"),
+			posting(3, "Senior Java Engineer", "Java, Spring and Kafka", 2, "java", "spring"),
+			posting(4, "Platform Engineer", "Some java tooling", 5, "go"),
+			posting(5, "Java Developer", "Backend services in java", 2, "java"),
+			posting(6, "Data Engineer", "Pipelines in java and python", 0, "python"),
+			posting(7, "Java Java Architect", "Java everywhere, java always", 8, "java"),
+			posting(8, "Platform Engineer", "Some java tooling", 5, "go"),
+			posting(9, "Android Developer", "Kotlin and java on mobile", 2, "kotlin"),
+			posting(10, "Java Developer", "Backend services in java", 3, "java"),
+			posting(11, "QA Engineer", "Test automation with java", 0, "selenium"),
+			posting(12, "Senior Java Engineer", "Java, Spring and Kafka", 5, "java", "spring"));
+
+	private final JobPostingRepository jobPostingRepository = mock(JobPostingRepository.class);
+	private final InMemorySearchRepository repository = new InMemorySearchRepository();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(repository, "jobPostingRepository", jobPostingRepository);
+	}
+
+	@Test
+	void replaysWritesMadeWhileTheIndexWasBuilt() {
+		when(jobPostingRepository.findAll()).thenAnswer(invocation -> {
+			List<JobPosting> snapshot = new ArrayList<>(List.of(
+					posting("1", "Java Developer", "java"),
+					posting("2", "Go Developer", "go")));
+			// Written after the snapshot was read, but before it is indexed.
+			repository.onAfterSave(new AfterSaveEvent<>(posting("3", "Kotlin Developer", "kotlin"), new Document(), "JobPostings"));
+			repository.onAfterDelete(new AfterDeleteEvent<>(new Document("_id", "2"), JobPosting.class, "JobPostings"));
+			return snapshot;
+		});
+
+		repository.buildIndex();
+
+		assertEquals(List.of("3"), ids(repository.findByText("kotlin")));
+		assertEquals(List.of("1"), ids(repository.findByText("java")));
+		assertTrue(repository.findByText("go").isEmpty());
+	}
+
+	@Test
+	void appliesWritesDirectlyOnceBuilt() {
+		when(jobPostingRepository.findAll()).thenReturn(List.of(posting("1", "Java Developer", "java")));
+		repository.buildIndex();
+
+		repository.onAfterSave(new AfterSaveEvent<>(posting("1", "Rust Developer", "rust"), new Document(), "JobPostings"));
+
+		assertEquals(List.of("1"), ids(repository.findByText("rust")));
+		assertTrue(repository.findByText("java").isEmpty());
+	}
+
+	/**
+	 * Six developer postings; the third lists Java twice, in different cases.
+	 */
+	private static final List<JobPosting> FACETED = List.of(
+			posting(1, "Developer", "", 0, "java", "spring"),
+			posting(2, "Developer", "", 3, "java", "docker"),
+			posting(3, "Developer", "", 6, "Java", "java "),
+			posting(4, "Developer", "", 12, "go", "Docker"),
+			posting(5, "Developer", "", 1, "python"),
+			posting(6, "Developer", "", 2, "spring", "java"));
+
+	@Test
+	void countsSkillsAndExperienceBucketsOverTheWholeMatchSet() {
+		when(jobPostingRepository.findAll()).thenReturn(FACETED);
+		repository.buildIndex();
+
+		SearchPage page = repository.findPage(facetQuery(2, null, List.of(), null));
+
+		assertEquals(2, page.getResults().size());
+		SearchFacets facets = page.getFacets();
+		assertEquals(6, facets.getTotal());
+		// The posting listing Java twice counts once; equal counts are ordered by skill.
+		assertEquals(List.of("java=4", "docker=2", "spring=2", "go=1", "python=1"), counts(facets.getSkills()));
+		assertEquals(List.of("0-1=2", "2-4=2", "5-9=1", "10+=1"), counts(facets.getExperience()));
+	}
+
+	@Test
+	void countsOnlyThePostingsPassingTheFilters() {
+		when(jobPostingRepository.findAll()).thenReturn(FACETED);
+		repository.buildIndex();
+
+		SearchFacets bySkill = repository.findPage(facetQuery(10, null, List.of("DOCKER"), null)).getFacets();
+		assertEquals(2, bySkill.getTotal());
+		assertEquals(List.of("docker=2", "go=1", "java=1"), counts(bySkill.getSkills()));
+		assertEquals(List.of("0-1=0", "2-4=1", "5-9=0", "10+=1"), counts(bySkill.getExperience()));
+
+		SearchFacets byExperience = repository.findPage(facetQuery(10, null, List.of(), ExperienceBucket.JUNIOR)).getFacets();
+		assertEquals(2, byExperience.getTotal());
+		assertEquals(List.of("java=1", "python=1", "spring=1"), counts(byExperience.getSkills()));
+	}
+
+	@Test
+	void reportsTheTopSkillsBreakingTiesBySkill() {
+		List<JobPosting> catalog = new ArrayList<>();
+		for (int i = 12; i >= 1; i--) {
+			catalog.add(posting(i, "Developer", "", 4, "java", String.format("skill-%02d", i)));
+		}
+		when(jobPostingRepository.findAll()).thenReturn(catalog);
+		repository.buildIndex();
+
+		List<FacetCount> skills = repository.findPage(facetQuery(1, null, List.of(), null)).getFacets().getSkills();
+
+		assertEquals(SearchFacets.TOP_SKILLS, skills.size());
+		assertEquals("java=12", counts(skills).get(0));
+		assertEquals(List.of("skill-01=1", "skill-02=1", "skill-03=1", "skill-04=1", "skill-05=1",
+				"skill-06=1", "skill-07=1", "skill-08=1", "skill-09=1"), counts(skills).subList(1, 10));
+	}
+
+	@Test
+	void computesFacetsForTheFirstPageOnly() {
+		when(jobPostingRepository.findAll()).thenReturn(FACETED);
+		repository.buildIndex();
+
+		SearchPage first = repository.findPage(facetQuery(4, null, List.of(), null));
+		SearchPage second = repository.findPage(facetQuery(4, SearchCursor.decode(first.getNextCursor()), List.of(), null));
+
+		// Later pages share the first page's match set, so they carry no facets of their own.
+		assertEquals(6, first.getFacets().getTotal());
+		assertNull(second.getFacets());
+		assertEquals(2, second.getResults().size());
+		List<String> served = new ArrayList<>(summaryIds(first.getResults()));
+		served.addAll(summaryIds(second.getResults()));
+		assertEquals(List.of(id(6), id(5), id(4), id(3), id(2), id(1)), served);
+	}
+
+	@Test
+	void ordersEveryPageLikeTheSortAndContinuesWithoutGapsOrRepeats() {
+		when(jobPostingRepository.findAll()).thenReturn(CATALOG);
+		repository.buildIndex();
+		Map<String, Double> scores = scores("java");
+
+		for (SearchSort sort : SearchSort.values()) {
+			List<String> expected = CATALOG.stream()
+					.sorted(expectedOrder(sort, scores))
+					.map(JobPosting::getId)
+					.toList();
+			assertEquals(expected, summaryIds(repository.findPage(new SearchQuery("java", 100, sort, null)).getResults()), sort.name());
+			for (int size : new int[] {1, 5, 12}) {
+				assertEquals(expected, allPages(sort, size), sort + " in pages of " + size);
+			}
+		}
+	}
+
+	@Test
+	void breaksTiesOnTheSortKeyByAscendingId() {
+		when(jobPostingRepository.findAll()).thenReturn(CATALOG);
+		repository.buildIndex();
+
+		List<String> byExperience = allPages(SearchSort.EXPERIENCE, 2);
+		assertEquals(List.of(id(2), id(3), id(5), id(9)), byExperience.subList(3, 7));
+
+		// Identical postings score the same, so relevance falls back to the id as well.
+		List<String> byRelevance = allPages(SearchSort.RELEVANCE, 1);
+		List<String> identical = byRelevance.stream().filter(List.of(id(1), id(2), id(5), id(10))::contains).toList();
+		assertEquals(List.of(id(1), id(2), id(5), id(10)), identical);
+		int first = byRelevance.indexOf(id(1));
+		assertEquals(identical, byRelevance.subList(first, first + 4));
+	}
+
+	@Test
+	void aPageAfterAnyPositionIsTheSameSliceOfTheFullSort() {
+		when(jobPostingRepository.findAll()).thenReturn(CATALOG);
+		repository.buildIndex();
+		Map<String, Double> scores = scores("java");
+		Map<String, JobPosting> byId = CATALOG.stream().collect(Collectors.toMap(JobPosting::getId, Function.identity()));
+
+		for (SearchSort sort : SearchSort.values()) {
+			List<String> full = allPages(sort, 100);
+			for (int position = 0; position < full.size(); position++) {
+				JobPosting last = byId.get(full.get(position));
+				String value = switch (sort) {
+					case RELEVANCE -> Double.toString(scores.get(last.getId()));
+					case EXPERIENCE -> Integer.toString(last.getExperience());
+					case NEWEST -> "";
+				};
+				SearchPage page = repository.findPage(new SearchQuery("java", 3, sort, new SearchCursor(sort, value, last.getId())));
+
+				int to = Math.min(full.size(), position + 4);
+				assertEquals(full.subList(position + 1, to), summaryIds(page.getResults()), sort + " after position " + position);
+				if (to < full.size()) {
+					assertNotNull(page.getNextCursor());
+				} else {
+					assertNull(page.getNextCursor());
+				}
+			}
+		}
+	}
+
+	private static SearchQuery facetQuery(int size, SearchCursor cursor, List<String> skills, ExperienceBucket experience) {
+		return new SearchQuery("developer", size, SearchSort.NEWEST, cursor, skills, experience, true, false);
+	}
+
+	private static List<String> counts(List<FacetCount> facets) {
+		return facets.stream().map(facet -> facet.getValue() + "=" + facet.getCount()).toList();
+	}
+
+	/**
+	 * Follows the cursors from the first page to the last and returns the ids in the order served.
+	 */
+	private List<String> allPages(SearchSort sort, int size) {
+		List<String> ids = new ArrayList<>();
+		SearchCursor cursor = null;
+		do {
+			SearchPage page = repository.findPage(new SearchQuery("java", size, sort, cursor));
+			assertTrue(page.getResults().size() <= size);
+			ids.addAll(summaryIds(page.getResults()));
+			cursor = page.getNextCursor() == null ? null : SearchCursor.decode(page.getNextCursor());
+		} while (cursor != null);
+		return ids;
+	}
+
+	private Map<String, Double> scores(String text) {
+		InvertedIndex index = (InvertedIndex) ReflectionTestUtils.getField(repository, "index");
+		return index.search(text).stream()
+				.collect(Collectors.toMap(hit -> hit.getPosting().getId(), ScoredPosting::getScore));
+	}
+
+	private static Comparator<JobPosting> expectedOrder(SearchSort sort, Map<String, Double> scores) {
+		Comparator<JobPosting> byId = Comparator.comparing(JobPosting::getId);
+		return switch (sort) {
+			case RELEVANCE -> Comparator.<JobPosting>comparingDouble(posting -> -scores.get(posting.getId())).thenComparing(byId);
+			case EXPERIENCE -> Comparator.comparingInt(JobPosting::getExperience).thenComparing(byId);
+			case NEWEST -> byId.reversed();
+		};
+	}
+
+	private static String id(int n) {
+		return String.format("65a0000000000000000000%02x", n);
+	}
+
+	private static JobPosting posting(int n, String role, String description, int experience, String... skills) {
+		JobPosting posting = new JobPosting();
+		posting.setId(id(n));
+		posting.setRole(role);
+		posting.setDescription(description);
+		posting.setExperience(experience);
+		posting.setSkillSet(List.of(skills));
+		return posting;
+	}
+
+	private static List<String> summaryIds(List<JobPostingSummary> summaries) {
+		return summaries.stream().map(JobPostingSummary::getId).toList();
+	}
+
+	private static JobPosting posting(String id, String role, String skill) {
+		JobPosting posting = new JobPosting();
+		posting.setId(id);
+		posting.setRole(role);
+		posting.setDescription("");
+		posting.setSkillSet(List.of(skill));
+		return posting;
+	}
+
+	private static List<String> ids(List<JobPosting> postings) {
+		return postings.stream().map(JobPosting::getId).toList();
+	}
+}
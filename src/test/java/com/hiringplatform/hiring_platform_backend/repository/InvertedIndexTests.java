@@ -0,0 +1,94 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+
+class InvertedIndexTests {
+
+	private static JobPosting posting(String id, String role, String description, String... skills) {
+		JobPosting posting = new JobPosting();
+		posting.setId(id);
+		posting.setRole(role);
+		posting.setDescription(description);
+		posting.setSkillSet(List.of(skills));
+		return posting;
+	}
+
+	private static List<String> rankedIds(InvertedIndex index, String query) {
+		return rankedIds(index.search(query));
+	}
+
+	private static List<String> rankedIds(List<ScoredPosting> hits) {
+		return hits.stream()
+				.sorted(Comparator.comparingDouble(ScoredPosting::getScore).reversed())
+				.map(hit -> hit.getPosting().getId())
+				.toList();
+	}
+
+	@Test
+	void ranksRoleAndSkillMatchesAboveDescriptionMentions() {
+		InvertedIndex index = new InvertedIndex();
+		index.rebuild(List.of(
+				posting("1", "Java Developer", "Backend services", "Java", "Spring"),
+				posting("2", "Frontend Engineer", "Some Java exposure is a plus", "React"),
+				posting("3", "Data Analyst", "SQL reporting", "SQL")));
+
+		assertEquals(List.of("1", "2"), rankedIds(index, "java"));
+		assertTrue(index.search("kotlin").isEmpty());
+	}
+
+	@Test
+	void reindexingReplacesThePreviousVersion() {
+		InvertedIndex index = new InvertedIndex();
+		index.add(posting("1", "Java Developer", "Backend", "Java"));
+		index.add(posting("1", "Go Developer", "Backend", "Go"));
+
+		assertEquals(1, index.size());
+		assertTrue(index.search("java").isEmpty());
+		assertEquals(List.of("1"), rankedIds(index, "go"));
+
+		index.remove("1");
+		assertEquals(0, index.size());
+		assertTrue(index.search("go").isEmpty());
+	}
+
+	@Test
+	void fuzzySearchToleratesTypos() {
+		InvertedIndex index = new InvertedIndex();
+		index.rebuild(List.of(
+				posting("1", "Frontend Engineer", "Modern web apps", "JavaScript", "React"),
+				posting("2", "Platform Engineer", "Cluster operations", "Kubernetes"),
+				posting("3", "Data Analyst", "SQL reporting", "SQL")));
+
+		assertTrue(index.search("javscript").isEmpty());
+		assertEquals(List.of("1"), rankedIds(index.searchFuzzy("javscript")));
+		assertEquals(List.of("2"), rankedIds(index.searchFuzzy("kubernates")));
+		assertTrue(index.searchFuzzy("sal").isEmpty());
+	}
+
+	@Test
+	void sumsEveryQueryTermPerPostingAcrossALargeIndex() {
+		InvertedIndex index = new InvertedIndex();
+		List<JobPosting> all = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			all.add(i % 2 == 0
+					? posting("j" + i, "Java Developer", "Backend", "Java")
+					: posting("s" + i, "Spring Developer", "Backend", "Spring"));
+		}
+		all.add(posting("both", "Java Spring Developer", "Backend", "Java", "Spring"));
+		index.rebuild(all);
+
+		List<ScoredPosting> hits = index.search("java spring");
+		assertEquals(501, hits.size());
+		assertEquals("both", rankedIds(hits).get(0));
+		assertEquals(501, hits.stream().map(hit -> hit.getPosting().getId()).distinct().count());
+	}
+}
@@ -0,0 +1,152 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+
+/**
+ * Runs the keyset queries against a mocked collection whose find evaluates the filter (equality,
+ * $lt and $and), the sort on _id and the limit it is given, with 0 meaning no limit as in MongoDB.
+ */
+class JobPostingRepositoryCustomImplTests {
+
+    private final JobPostingRepositoryCustomImpl repository = new JobPostingRepositoryCustomImpl();
+
+    /**
+     * Seven postings of two recruiters, stored in no particular order.
+     */
+    private final List<JobPostingSummary> stored = List.of(
+            summary(3, "ann"), summary(1, "ann"), summary(6, "bob"), summary(2, "bob"),
+            summary(7, "ann"), summary(5, "ann"), summary(4, "ann"));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        MongoCollection<Document> documents = mock(MongoCollection.class);
+        MongoCollection<JobPostingSummary> summaries = mock(MongoCollection.class);
+        when(mongoTemplate.getCollection("JobPostings")).thenReturn(documents);
+        when(documents.withDocumentClass(JobPostingSummary.class)).thenReturn(summaries);
+        when(summaries.find(any(Bson.class))).thenAnswer(invocation -> find(invocation.getArgument(0)));
+        ReflectionTestUtils.setField(repository, "mongoTemplate", mongoTemplate);
+    }
+
+    @Test
+    void returnsOnlyTheRecruitersPostingsNewestFirst() {
+        assertEquals(List.of(id(7), id(5), id(4), id(3), id(1)), ids(repository.findSummariesByRecruiterBefore("ann", null, 0)));
+        assertEquals(List.of(id(6), id(2)), ids(repository.findSummariesByRecruiterBefore("bob", null, 0)));
+        assertEquals(List.of(), ids(repository.findSummariesByRecruiterBefore("cy", null, 0)));
+    }
+
+    @Test
+    void pagesThroughTheRecruitersPostingsBeforeTheGivenId() {
+        assertEquals(List.of(id(7), id(5)), ids(repository.findSummariesByRecruiterBefore("ann", null, 2)));
+        assertEquals(List.of(id(4), id(3)), ids(repository.findSummariesByRecruiterBefore("ann", id(5), 2)));
+        assertEquals(List.of(id(1)), ids(repository.findSummariesByRecruiterBefore("ann", id(3), 2)));
+        assertEquals(List.of(), ids(repository.findSummariesByRecruiterBefore("ann", id(1), 2)));
+        // The position may be another recruiter's posting; the page still starts right below it.
+        assertEquals(List.of(id(5), id(4)), ids(repository.findSummariesByRecruiterBefore("ann", id(6), 2)));
+    }
+
+    @Test
+    void returnsEveryPostingBeforeTheGivenIdWithALimitOfZero() {
+        assertEquals(List.of(id(4), id(3), id(1)), ids(repository.findSummariesByRecruiterBefore("ann", id(5), 0)));
+        assertEquals(List.of(id(5), id(4), id(3), id(2), id(1)), ids(repository.findSummariesBefore(id(6), 0)));
+    }
+
+    /**
+     * A FindIterable whose into runs the query over the stored summaries.
+     */
+    @SuppressWarnings("unchecked")
+    private FindIterable<JobPostingSummary> find(Bson filter) {
+        FindIterable<JobPostingSummary> find = mock(FindIterable.class);
+        AtomicReference<Bson> sort = new AtomicReference<>();
+        AtomicInteger limit = new AtomicInteger();
+        when(find.projection(any())).thenReturn(find);
+        when(find.sort(any())).thenAnswer(invocation -> {
+            sort.set(invocation.getArgument(0));
+            return find;
+        });
+        when(find.limit(anyInt())).thenAnswer(invocation -> {
+            limit.set(invocation.getArgument(0));
+            return find;
+        });
+        when(find.into(any())).thenAnswer(invocation -> {
+            BsonDocument query = filter.toBsonDocument();
+            Stream<JobPostingSummary> results = stored.stream().filter(summary -> matches(query, summary));
+            if (sort.get() != null) {
+                assertEquals(BsonDocument.parse("{_id: -1}"), sort.get().toBsonDocument());
+                results = results.sorted(Comparator.comparing(JobPostingSummary::getId).reversed());
+            }
+            if (limit.get() > 0) {
+                results = results.limit(limit.get());
+            }
+            Collection<JobPostingSummary> target = invocation.getArgument(0);
+            results.forEach(target::add);
+            return target;
+        });
+        return find;
+    }
+
+    private static boolean matches(BsonDocument query, JobPostingSummary summary) {
+        for (String field : query.keySet()) {
+            BsonValue condition = query.get(field);
+            boolean matched = switch (field) {
+                case "$and" -> ((BsonArray) condition).stream().allMatch(inner -> matches(inner.asDocument(), summary));
+                case "_id" -> {
+                    ObjectId id = new ObjectId(summary.getId());
+                    yield condition.isDocument()
+                            ? id.compareTo(condition.asDocument().getObjectId("$lt").getValue()) < 0
+                            : condition.equals(new BsonObjectId(id));
+                }
+                case "recruiterId" -> condition.asString().getValue().equals(summary.getRecruiterId());
+                default -> throw new AssertionError("Unexpected filter on " + field);
+            };
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String id(int n) {
+        return String.format("65a0000000000000000000%02x", n);
+    }
+
+    private static JobPostingSummary summary(int n, String recruiterId) {
+        JobPostingSummary summary = new JobPostingSummary();
+        summary.setId(id(n));
+        summary.setRecruiterId(recruiterId);
+        summary.setRole("Role " + n);
+        return summary;
+    }
+
+    private static List<String> ids(List<JobPostingSummary> summaries) {
+        return summaries.stream().map(JobPostingSummary::getId).toList();
+    }
+}
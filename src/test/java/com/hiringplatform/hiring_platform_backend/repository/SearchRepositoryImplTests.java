@@ -0,0 +1,345 @@
+package com.hiringplatform.hiring_platform_backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.dto.FacetCount;
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.dto.SearchCursor;
+import com.hiringplatform.hiring_platform_backend.dto.SearchFacets;
+import com.hiringplatform.hiring_platform_backend.dto.SearchPage;
+import com.hiringplatform.hiring_platform_backend.dto.SearchQuery;
+import com.hiringplatform.hiring_platform_backend.dto.SearchSort;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Runs the Atlas search repository against a fake $search stage. The fake matches every posting
+ * to the text clause, applies the filter clauses the repository sends (range, equals and compound),
+ * sorts by the requested sort specification with fixed search scores, resumes after searchAfter
+ * tokens and honours $limit, so paging is checked end to end from the pipelines actually built.
+ * Facet queries get back the canned $$SEARCH_META document set by the test.
+ */
+class SearchRepositoryImplTests {
+
+	/**
+	 * Twelve postings as (number, experience, search score), with ties on experience and on score.
+	 */
+	private static final List<Hit> CATALOG = List.of(
+			new Hit(1, 0, 2.5), new Hit(2, 2, 2.5), new Hit(3, 2, 4.0), new Hit(4, 5, 1.0),
+			new Hit(5, 2, 2.5), new Hit(6, 0, 1.0), new Hit(7, 8, 6.0), new Hit(8, 5, 1.0),
+			new Hit(9, 2, 3.0), new Hit(10, 3, 2.5), new Hit(11, 0, 0.5), new Hit(12, 5, 4.0));
+
+	private final SearchRepositoryImpl repository = new SearchRepositoryImpl();
+	private final List<List<Document>> pipelines = new ArrayList<>();
+
+	/**
+	 * The $$SEARCH_META document returned with facet queries, or null when nothing matched.
+	 */
+	private Document searchMeta;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		MongoClient client = mock(MongoClient.class);
+		MongoDatabase database = mock(MongoDatabase.class);
+		MongoCollection<RawBsonDocument> collection = mock(MongoCollection.class);
+		when(client.getDatabase("hiring-platform")).thenReturn(database);
+		when(database.getCollection("JobPostings", RawBsonDocument.class)).thenReturn(collection);
+		when(collection.aggregate(anyList())).thenAnswer(invocation -> {
+			List<Document> pipeline = invocation.getArgument(0);
+			pipelines.add(pipeline);
+			List<RawBsonDocument> results = run(pipeline);
+			AggregateIterable<RawBsonDocument> iterable = mock(AggregateIterable.class);
+			when(iterable.into(any())).thenAnswer(into -> {
+				Collection<BsonDocument> target = into.getArgument(0);
+				target.addAll(results);
+				return target;
+			});
+			when(iterable.first()).thenReturn(results.isEmpty() ? null : results.get(0));
+			return iterable;
+		});
+		ReflectionTestUtils.setField(repository, "client", client);
+	}
+
+	@Test
+	void ordersEveryPageLikeTheSortAndContinuesWithoutGapsOrRepeats() {
+		for (SearchSort sort : SearchSort.values()) {
+			List<String> expected = CATALOG.stream().sorted(expectedOrder(sort)).map(Hit::id).toList();
+			for (int size : new int[] {1, 4, 12, 100}) {
+				assertEquals(expected, allPages(sort, size), sort + " in pages of " + size);
+			}
+		}
+	}
+
+	@Test
+	void breaksTiesOnTheSortKeyByAscendingId() {
+		List<String> byExperience = allPages(SearchSort.EXPERIENCE, 2);
+		assertEquals(List.of(id(2), id(3), id(5), id(9)), byExperience.subList(3, 7));
+
+		List<String> byRelevance = allPages(SearchSort.RELEVANCE, 1);
+		int first = byRelevance.indexOf(id(1));
+		assertEquals(List.of(id(1), id(2), id(5), id(10)), byRelevance.subList(first, first + 4));
+	}
+
+	@Test
+	void continuesFromTheCursorInsteadOfSkipping() {
+		String cursor = repository.findPage(new SearchQuery("java", 3, SearchSort.EXPERIENCE, null)).getNextCursor();
+		repository.findPage(new SearchQuery("java", 3, SearchSort.EXPERIENCE, SearchCursor.decode(cursor)));
+		cursor = repository.findPage(new SearchQuery("java", 3, SearchSort.RELEVANCE, null)).getNextCursor();
+		repository.findPage(new SearchQuery("java", 3, SearchSort.RELEVANCE, SearchCursor.decode(cursor)));
+
+		for (List<Document> pipeline : pipelines) {
+			assertTrue(pipeline.stream().noneMatch(stage -> stage.containsKey("$skip")));
+			assertEquals(4L, pipeline.get(1).get("$limit"));
+		}
+		// Experience pages resume with a range filter, relevance pages with Atlas' token of the last hit.
+		Document experience = pipelines.get(1).get(0).get("$search", Document.class);
+		assertTrue(experience.containsKey("compound"));
+		assertFalse(experience.containsKey("searchAfter"));
+		Document relevance = pipelines.get(3).get(0).get("$search", Document.class);
+		assertEquals(token(SearchCursor.decode(cursor).getId()), relevance.getString("searchAfter"));
+	}
+
+	@Test
+	void aPageAfterAnyPositionIsTheSameSliceOfTheFullSort() {
+		Map<String, Hit> byId = new HashMap<>();
+		CATALOG.forEach(hit -> byId.put(hit.id(), hit));
+
+		for (SearchSort sort : SearchSort.values()) {
+			List<String> full = allPages(sort, 100);
+			for (int position = 0; position < full.size(); position++) {
+				Hit last = byId.get(full.get(position));
+				String value = switch (sort) {
+					case RELEVANCE -> token(last.id());
+					case EXPERIENCE -> Integer.toString(last.experience());
+					case NEWEST -> "";
+				};
+				SearchPage page = repository.findPage(new SearchQuery("java", 3, sort, new SearchCursor(sort, value, last.id())));
+
+				int to = Math.min(full.size(), position + 4);
+				assertEquals(full.subList(position + 1, to), ids(page.getResults()), sort + " after position " + position);
+				if (to < full.size()) {
+					assertNotNull(page.getNextCursor());
+				} else {
+					assertNull(page.getNextCursor());
+				}
+			}
+		}
+	}
+
+	@Test
+	void readsTheFacetsFromSearchMetaInTheSameAggregation() {
+		searchMeta = Document.parse("{count: {lowerBound: {$numberLong: '42'}}, facet: {"
+				+ "skills: {buckets: [{_id: 'java', count: 30}, {_id: 'docker', count: 12}, {_id: 'spring', count: 12}]}, "
+				+ "experience: {buckets: [{_id: 0, count: 20}, {_id: 2, count: 4}, {_id: 5, count: 15}, {_id: 'other', count: 3}]}}}");
+
+		SearchPage page = repository.findPage(new SearchQuery("java", 3, SearchSort.NEWEST, null, List.of(), null, true, false));
+
+		assertEquals(List.of(id(12), id(11), id(10)), ids(page.getResults()));
+		assertEquals(42, page.getFacets().getTotal());
+		// Atlas' bucket order is kept; missing buckets are reported as zero and 'other' is dropped.
+		assertEquals(List.of("java=30", "docker=12", "spring=12"), counts(page.getFacets().getSkills()));
+		assertEquals(List.of("0-1=20", "2-4=4", "5-9=15", "10+=0"), counts(page.getFacets().getExperience()));
+
+		List<Document> pipeline = pipelines.get(0);
+		Document collector = pipeline.get(0).get("$search", Document.class).get("facet", Document.class);
+		assertTrue(collector.get("operator", Document.class).containsKey("text"));
+		assertEquals(SearchFacets.TOP_SKILLS, collector.get("facets", Document.class).get("skills", Document.class).get("numBuckets"));
+		assertTrue(pipeline.get(pipeline.size() - 1).containsKey("$facet"));
+	}
+
+	@Test
+	void reportsEmptyFacetsWhenNothingMatched() {
+		SearchPage page = repository.findPage(new SearchQuery("java", 3, SearchSort.NEWEST, null, List.of(), null, true, false));
+
+		assertEquals(0, page.getFacets().getTotal());
+		assertTrue(page.getFacets().getSkills().isEmpty());
+		assertEquals(List.of("0-1=0", "2-4=0", "5-9=0", "10+=0"), counts(page.getFacets().getExperience()));
+	}
+
+	@Test
+	void asksForFacetsOnTheFirstPageOnly() {
+		String cursor = repository.findPage(new SearchQuery("java", 3, SearchSort.NEWEST, null, List.of(), null, true, false)).getNextCursor();
+
+		SearchPage next = repository.findPage(new SearchQuery("java", 3, SearchSort.NEWEST, SearchCursor.decode(cursor),
+				List.of(), null, true, false));
+
+		assertEquals(List.of(id(9), id(8), id(7)), ids(next.getResults()));
+		assertNull(next.getFacets());
+		List<Document> pipeline = pipelines.get(1);
+		assertFalse(pipeline.get(0).get("$search", Document.class).containsKey("facet"));
+		assertTrue(pipeline.stream().noneMatch(stage -> stage.containsKey("$facet")));
+	}
+
+	/**
+	 * Follows the cursors from the first page to the last and returns the ids in the order served.
+	 */
+	private List<String> allPages(SearchSort sort, int size) {
+		List<String> ids = new ArrayList<>();
+		SearchCursor cursor = null;
+		do {
+			SearchPage page = repository.findPage(new SearchQuery("java", size, sort, cursor));
+			assertTrue(page.getResults().size() <= size);
+			ids.addAll(ids(page.getResults()));
+			cursor = page.getNextCursor() == null ? null : SearchCursor.decode(page.getNextCursor());
+		} while (cursor != null);
+		return ids;
+	}
+
+	private static Comparator<Hit> expectedOrder(SearchSort sort) {
+		Comparator<Hit> byId = Comparator.comparing(Hit::id);
+		return switch (sort) {
+			case RELEVANCE -> Comparator.comparingDouble(Hit::score).reversed().thenComparing(byId);
+			case EXPERIENCE -> Comparator.comparingInt(Hit::experience).thenComparing(byId);
+			case NEWEST -> byId.reversed();
+		};
+	}
+
+	/**
+	 * Evaluates a page pipeline: $search (filters, sort and searchAfter), $limit and $project.
+	 */
+	private List<RawBsonDocument> run(List<Document> pipeline) {
+		Document search = pipeline.get(0).get("$search", Document.class);
+		List<Document> matched = new ArrayList<>();
+		for (Hit hit : CATALOG) {
+			Document posting = hit.document();
+			if (matches(search, posting)) {
+				matched.add(posting);
+			}
+		}
+		matched.sort(sortOrder(search.get("sort", Document.class)));
+		if (search.containsKey("searchAfter")) {
+			String after = search.getString("searchAfter");
+			int position = 0;
+			while (position < matched.size() && !token(matched.get(position).getObjectId("_id").toHexString()).equals(after)) {
+				position++;
+			}
+			matched = new ArrayList<>(matched.subList(Math.min(matched.size(), position + 1), matched.size()));
+		}
+		long limit = pipeline.get(1).getLong("$limit");
+		List<Document> results = new ArrayList<>();
+		for (Document posting : matched.subList(0, (int) Math.min(limit, matched.size()))) {
+			Document projected = new Document("_id", posting.get("_id"))
+					.append("role", posting.get("role"))
+					.append("experience", posting.get("experience"))
+					.append("skillSet", posting.get("skillSet"))
+					.append("snippet", "");
+			Document projection = pipeline.get(2).get("$project", Document.class);
+			if (projection.containsKey("_searchToken")) {
+				projected.append("_searchToken", token(posting.getObjectId("_id").toHexString()));
+			}
+			results.add(projected);
+		}
+		if (pipeline.get(pipeline.size() - 1).containsKey("$facet")) {
+			Document combined = new Document("docs", results).append("meta", searchMeta == null ? List.of() : List.of(searchMeta));
+			return List.of(new RawBsonDocument(combined, new DocumentCodec()));
+		}
+		return results.stream().map(result -> new RawBsonDocument(result, new DocumentCodec())).toList();
+	}
+
+	/**
+	 * Evaluates a search operator against a posting; every posting matches the text clause.
+	 */
+	@SuppressWarnings("unchecked")
+	private static boolean matches(Document operator, Document posting) {
+		if (operator.containsKey("text")) {
+			return true;
+		}
+		if (operator.containsKey("facet")) {
+			return matches(operator.get("facet", Document.class).get("operator", Document.class), posting);
+		}
+		if (operator.containsKey("range")) {
+			Document range = operator.get("range", Document.class);
+			Comparable<Object> value = (Comparable<Object>) posting.get(range.getString("path"));
+			return (!range.containsKey("gt") || value.compareTo(range.get("gt")) > 0)
+					&& (!range.containsKey("gte") || value.compareTo(range.get("gte")) >= 0)
+					&& (!range.containsKey("lt") || value.compareTo(range.get("lt")) < 0)
+					&& (!range.containsKey("lte") || value.compareTo(range.get("lte")) <= 0);
+		}
+		if (operator.containsKey("equals")) {
+			Document equals = operator.get("equals", Document.class);
+			return equals.get("value").equals(posting.get(equals.getString("path")));
+		}
+		Document compound = operator.get("compound", Document.class);
+		for (String clause : List.of("must", "filter")) {
+			for (Document inner : compound.getList(clause, Document.class, List.of())) {
+				if (!matches(inner, posting)) {
+					return false;
+				}
+			}
+		}
+		List<Document> should = compound.getList("should", Document.class, List.of());
+		long matching = should.stream().filter(inner -> matches(inner, posting)).count();
+		return matching >= compound.getInteger("minimumShouldMatch", 0);
+	}
+
+	private static Comparator<Document> sortOrder(Document sort) {
+		Comparator<Document> order = (a, b) -> 0;
+		for (Map.Entry<String, Object> key : sort.entrySet()) {
+			Comparator<Document> next = switch (key.getKey()) {
+				case "score" -> Comparator.<Document>comparingDouble(posting -> posting.getDouble("score")).reversed();
+				case "experience" -> Comparator.comparingInt(posting -> posting.getInteger("experience"));
+				default -> Comparator.comparing(posting -> posting.getObjectId("_id"));
+			};
+			order = order.thenComparing(Integer.valueOf(-1).equals(key.getValue()) ? next.reversed() : next);
+		}
+		return order;
+	}
+
+	private static List<String> counts(List<FacetCount> facets) {
+		return facets.stream().map(facet -> facet.getValue() + "=" + facet.getCount()).toList();
+	}
+
+	private static String token(String id) {
+		return "token-" + id;
+	}
+
+	private static String id(int n) {
+		return String.format("65a0000000000000000000%02x", n);
+	}
+
+	private static List<String> ids(List<JobPostingSummary> summaries) {
+		return summaries.stream().map(JobPostingSummary::getId).toList();
+	}
+
+	private record Hit(int number, int experience, double score) {
+
+		String id() {
+			return SearchRepositoryImplTests.id(number);
+		}
+
+		Document document() {
+			return new Document("_id", new ObjectId(id()))
+					.append("role", "Java Developer " + number)
+					.append("experience", experience)
+					.append("skillSet", List.of("java"))
+					.append("score", score);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.repository.ApplicationRepository;
+import com.hiringplatform.hiring_platform_backend.repository.CandidateProfileRepository;
+
+class ApplicationLookupServiceTests {
+
+    private final CandidateProfileRepository profiles = mock(CandidateProfileRepository.class);
+    private final ApplicationRepository applications = mock(ApplicationRepository.class);
+    private final JobPostingCatalog catalog = mock(JobPostingCatalog.class);
+    private final UserCacheService users = mock(UserCacheService.class);
+    private ApplicationLookupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ApplicationLookupService(profiles, applications, catalog, users, 2, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void fetchesProfileWhileResolvingJobAndRecruiter() throws InterruptedException {
+        JobPosting job = new JobPosting();
+        job.setRecruiterId("recruiter-1");
+        CountDownLatch jobRequested = new CountDownLatch(1);
+        CountDownLatch profileRequested = new CountDownLatch(1);
+        when(profiles.findByUserId("candidate-1")).thenAnswer(invocation -> {
+            profileRequested.countDown();
+            // Only completes promptly if the job lookup is in flight at the same time.
+            assertTrue(jobRequested.await(5, TimeUnit.SECONDS));
+            return Optional.of(new CandidateProfile());
+        });
+        when(catalog.findById("job-1")).thenAnswer(invocation -> {
+            jobRequested.countDown();
+            assertTrue(profileRequested.await(5, TimeUnit.SECONDS));
+            return Optional.of(job);
+        });
+        when(users.findById("recruiter-1")).thenReturn(Optional.of(new User()));
+
+        ApplicationLookupService.ApplyContext context = service.load("candidate-1", "job-1");
+
+        assertTrue(context.profile().isPresent() && context.job().isPresent() && context.recruiter().isPresent());
+        // One query per source, no more: the profile, the existing application, the job and the recruiter.
+        verify(profiles, times(1)).findByUserId("candidate-1");
+        verify(applications, times(1)).existsByJobIdAndCandidateUserId("job-1", "candidate-1");
+        verify(catalog, times(1)).findById("job-1");
+        verify(users, times(1)).findById("recruiter-1");
+        verifyNoMoreInteractions(profiles, applications, catalog, users);
+    }
+
+    @Test
+    void skipsRecruiterLookupForUnknownJob() {
+        when(profiles.findByUserId("candidate-1")).thenReturn(Optional.of(new CandidateProfile()));
+        when(catalog.findById("missing")).thenReturn(Optional.empty());
+
+        ApplicationLookupService.ApplyContext context = service.load("candidate-1", "missing");
+
+        assertTrue(context.job().isEmpty() && context.recruiter().isEmpty());
+        assertFalse(context.alreadyApplied());
+        verify(profiles, times(1)).findByUserId("candidate-1");
+        verify(users, never()).findById(anyString());
+    }
+
+    @Test
+    void reportsAStoredApplication() {
+        when(profiles.findByUserId("candidate-1")).thenReturn(Optional.of(new CandidateProfile()));
+        when(applications.existsByJobIdAndCandidateUserId("job-1", "candidate-1")).thenReturn(true);
+        when(catalog.findById("job-1")).thenReturn(Optional.empty());
+
+        assertTrue(service.load("candidate-1", "job-1").alreadyApplied());
+    }
+}
@@ -0,0 +1,226 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.Application;
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage;
+import com.hiringplatform.hiring_platform_backend.service.ApplicationWriteBuffer.Pending;
+import com.hiringplatform.hiring_platform_backend.service.ApplicationWriteBuffer.Result;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the write-behind buffer against a mocked applications collection. Inserted documents get
+ * an _id, as the driver assigns one, and the batches written are recorded.
+ */
+class ApplicationWriteBufferTests {
+
+    private static final int BATCH_SIZE = 3;
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final EmailService emailService = mock(EmailService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApplicationWriteBuffer buffer = new ApplicationWriteBuffer(BATCH_SIZE, 50, 8, 10, 3600, meterRegistry);
+    private final List<List<Document>> batches = new ArrayList<>();
+    private MongoCollection<Document> applications;
+
+    /**
+     * Indexes of the next batch that the unique index rejects.
+     */
+    private List<Integer> duplicateIndexes = List.of();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        applications = mock(MongoCollection.class);
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        when(mongoTemplate.getCollectionName(Application.class)).thenReturn("applications");
+        when(mongoTemplate.getCollection("applications")).thenReturn(applications);
+        when(applications.insertMany(anyList(), any(InsertManyOptions.class))).thenAnswer(invocation -> {
+            List<Document> documents = invocation.getArgument(0);
+            documents.forEach(document -> document.putIfAbsent("_id", new ObjectId()));
+            batches.add(documents);
+            if (!duplicateIndexes.isEmpty()) {
+                List<BulkWriteError> errors = duplicateIndexes.stream()
+                        .map(index -> new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), index))
+                        .toList();
+                throw new MongoBulkWriteException(
+                        BulkWriteResult.acknowledged(documents.size() - errors.size(), 0, 0, 0, List.of(), List.of()),
+                        errors, null, new ServerAddress(), Set.of());
+            }
+            return null;
+        });
+        ReflectionTestUtils.setField(buffer, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(buffer, "emailService", emailService);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        buffer.stop();
+    }
+
+    @Test
+    void rejectsQueuedDuplicatesAndSubmissionsBeyondCapacity() {
+        ReflectionTestUtils.setField(buffer, "running", true);
+
+        assertEquals(Result.ACCEPTED, buffer.submit(application("job-1", "ann"), null));
+        assertEquals(Result.DUPLICATE, buffer.submit(application("job-1", "ann"), null));
+        assertEquals(Result.ACCEPTED, buffer.submit(application("job-2", "ann"), null));
+        for (int i = 0; i < 6; i++) {
+            assertEquals(Result.ACCEPTED, buffer.submit(application("job-3", "user-" + i), null));
+        }
+        assertEquals(Result.FULL, buffer.submit(application("job-4", "bob"), null));
+        // A refused submission does not block a later attempt.
+        assertEquals(Result.FULL, buffer.submit(application("job-4", "bob"), null));
+
+        assertEquals(8.0, meterRegistry.get("applications.pending").gauge().value());
+        assertEquals(1.0, meterRegistry.get("applications.duplicates").counter().count());
+    }
+
+    @Test
+    void writesQueuedApplicationsInBatches() throws InterruptedException {
+        ReflectionTestUtils.setField(buffer, "running", true);
+        for (int i = 0; i < 7; i++) {
+            buffer.submit(application("job-1", "user-" + i), null);
+        }
+
+        buffer.start();
+        buffer.stop();
+
+        assertEquals(List.of(3, 3, 1), batches.stream().map(List::size).toList());
+        assertEquals("user-6", batches.get(2).get(0).getString("candidateUserId"));
+        assertEquals(Result.FULL, buffer.submit(application("job-1", "late"), null));
+    }
+
+    @Test
+    void givesUpOnTheRestAtShutdownOnceAWriteFails() throws InterruptedException {
+        ReflectionTestUtils.setField(buffer, "running", true);
+        for (int i = 0; i < 7; i++) {
+            buffer.submit(application("job-1", "user-" + i), null);
+        }
+        when(applications.insertMany(anyList(), any(InsertManyOptions.class))).thenAnswer(invocation -> {
+            batches.add(invocation.getArgument(0));
+            throw new MongoTimeoutException("MongoDB is down");
+        });
+
+        buffer.start();
+        buffer.stop();
+
+        // Only the first batch was ever tried (retried while running, if the flusher got that far,
+        // then once more at shutdown); the other four applications were given up without a write.
+        assertFalse(batches.isEmpty());
+        for (List<Document> batch : batches) {
+            assertEquals(List.of("user-0", "user-1", "user-2"),
+                    batch.stream().map(document -> document.getString("candidateUserId")).toList());
+        }
+    }
+
+    @Test
+    void storesTheRestOfABatchAndQueuesOnlyTheirNotifications() {
+        ReflectionTestUtils.setField(buffer, "running", true);
+        assertEquals(Result.ACCEPTED, buffer.submit(application("job-1", "bob"), null));
+        duplicateIndexes = List.of(1);
+        List<Pending> batch = List.of(
+                pending("job-1", "ann", notification("a")),
+                pending("job-1", "bob", notification("b")),
+                pending("job-1", "cy", null));
+
+        buffer.write(batch);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<EmailOutboxMessage>> queued = ArgumentCaptor.forClass(Collection.class);
+        verify(emailService).enqueueAll(queued.capture());
+        assertEquals(List.of("a"), queued.getValue().stream().map(EmailOutboxMessage::getSubject).toList());
+        // The notification travels with the application and is removed once queued.
+        assertEquals("a", batches.get(0).get(0).get("notification", Document.class).getString("subject"));
+        verify(applications).updateMany(any(Bson.class), any(Bson.class));
+        assertEquals(1.0, meterRegistry.get("applications.duplicates").counter().count());
+
+        // The keys are released whatever the outcome, so the same application can be submitted again.
+        assertEquals(Result.ACCEPTED, buffer.submit(application("job-1", "bob"), null));
+    }
+
+    @Test
+    void leavesNotificationsOnTheApplicationsWhenTheOutboxIsUnavailable() {
+        doThrow(new IllegalStateException("outbox down")).when(emailService).enqueueAll(anyList());
+
+        buffer.write(List.of(pending("job-1", "ann", notification("a"))));
+
+        assertEquals(1, batches.size());
+        verify(applications, never()).updateMany(any(Bson.class), any(Bson.class));
+    }
+
+    @Test
+    void sweepsNotificationsLeftOnStoredApplications() {
+        ObjectId id = new ObjectId();
+        Application stranded = application("job-1", "ann");
+        stranded.setId(id.toHexString());
+        stranded.setNotification(notification("left"));
+        when(mongoTemplate.find(any(Query.class), eq(Application.class))).thenReturn(List.of(stranded));
+
+        buffer.requeueNotifications();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Application.class));
+        Date cutoff = (Date) query.getValue().getQueryObject().get("notification.createdAt", Document.class).get("$lt");
+        assertEquals(System.currentTimeMillis() - 3_600_000, cutoff.getTime(), 5_000);
+        verify(emailService).enqueueAll(List.of(stranded.getNotification()));
+        ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+        verify(applications).updateMany(filter.capture(), any(Bson.class));
+        assertEquals(List.of(id), filter.getValue().toBsonDocument().getDocument("_id").getArray("$in")
+                .stream().map(value -> value.asObjectId().getValue()).toList());
+    }
+
+    private static Pending pending(String jobId, String userId, EmailOutboxMessage notification) {
+        return new Pending(jobId + "|" + userId, application(jobId, userId), notification);
+    }
+
+    private static Application application(String jobId, String userId) {
+        Application application = new Application();
+        application.setJobId(jobId);
+        application.setCandidateUserId(userId);
+        application.setAppliedAt(new Date());
+        return application;
+    }
+
+    private static EmailOutboxMessage notification(String subject) {
+        return EmailService.pending("recruiter@hiring.test", subject, "body", new Date());
+    }
+}
@@ -0,0 +1,121 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.repository.CandidateProfileRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the profile cache against a mocked repository holding the profiles of ann, bob and cy.
+ */
+class CandidateProfileServiceTests {
+
+    private final CandidateProfileRepository repository = mock(CandidateProfileRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CandidateProfileService service = new CandidateProfileService(100, 60, meterRegistry);
+    private final Map<String, CandidateProfile> stored = Map.of(
+            "ann", profile("p-ann", "ann"), "bob", profile("p-bob", "bob"), "cy", profile("p-cy", "cy"));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "candidateProfileRepository", repository);
+        when(repository.findByUserId(any())).thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.getArgument(0))));
+        when(repository.findByUserIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> userIds = invocation.getArgument(0);
+            // The database returns matches in its own order, not the order asked for.
+            return stored.values().stream().filter(profile -> userIds.contains(profile.getUserId()))
+                    .sorted((a, b) -> b.getUserId().compareTo(a.getUserId())).toList();
+        });
+    }
+
+    @Test
+    void returnsProfilesInRequestOrderAndLeavesOutMissingUsers() {
+        Map<String, CandidateProfile> found = service.findByUserIds(List.of("bob", "nobody", "ann", "cy"));
+
+        assertEquals(List.of("bob", "ann", "cy"), List.copyOf(found.keySet()));
+        assertEquals("p-ann", found.get("ann").getId());
+    }
+
+    @Test
+    void queriesOnlyTheUncachedUsersInOneQuery() {
+        CandidateProfile ann = service.findByUserId("ann").orElseThrow();
+
+        Map<String, CandidateProfile> found = service.findByUserIds(List.of("ann", "bob", "cy"));
+
+        assertSame(ann, found.get("ann"));
+        verify(repository).findByUserIdIn(List.of("bob", "cy"));
+        service.findByUserIds(List.of("cy", "ann", "bob"));
+        verify(repository, times(1)).findByUserIdIn(anyCollection());
+        assertEquals(4.0, meterRegistry.get("cache.gets").tags("cache", "profiles", "result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void doesNotQueryWhenEveryProfileIsCachedOrNoneIsAsked() {
+        service.findByUserIds(List.of("ann", "bob"));
+        service.findByUserIds(List.of("bob", "ann"));
+        service.findByUserIds(List.of());
+
+        verify(repository, times(1)).findByUserIdIn(anyCollection());
+    }
+
+    @Test
+    void keepsRepeatedIdsOnce() {
+        Map<String, CandidateProfile> found = service.findByUserIds(List.of("ann", "ann", "bob"));
+
+        assertEquals(Set.of("ann", "bob"), found.keySet());
+        assertEquals(2, found.size());
+    }
+
+    @Test
+    void doesNotCacheMissingProfiles() {
+        assertTrue(service.findByUserIds(List.of("nobody")).isEmpty());
+        assertTrue(service.findByUserId("nobody").isEmpty());
+
+        verify(repository).findByUserIdIn(List.of("nobody"));
+        verify(repository).findByUserId("nobody");
+    }
+
+    @Test
+    void dropsProfilesOnSaveDeleteAndEvict() {
+        service.findByUserIds(List.of("ann", "bob", "cy"));
+
+        service.onAfterSave(new AfterSaveEvent<>(stored.get("ann"), new Document(), "CandidateProfiles"));
+        service.onAfterDelete(new AfterDeleteEvent<>(new Document("_id", "p-bob"), CandidateProfile.class, "CandidateProfiles"));
+        service.evict("cy");
+        service.findByUserIds(List.of("ann", "bob", "cy"));
+
+        verify(repository, times(2)).findByUserIdIn(List.of("ann", "bob", "cy"));
+        verify(repository, never()).findByUserId(any());
+    }
+
+    private static CandidateProfile profile(String id, String userId) {
+        CandidateProfile profile = new CandidateProfile();
+        profile.setId(id);
+        profile.setUserId(userId);
+        return profile;
+    }
+}
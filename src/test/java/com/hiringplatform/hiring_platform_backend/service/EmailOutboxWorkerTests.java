@@ -0,0 +1,150 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage;
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage.Status;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Runs the outbox worker against an embedded SMTP server. MongoDB is mocked: the claims return
+ * prepared messages and the recorded outcomes are captured from the updates.
+ */
+class EmailOutboxWorkerTests {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @RegisterExtension
+    static final GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final EmailOutboxWorker worker = new EmailOutboxWorker();
+    private SmtpTransportPool pool;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        // As MailSenderPropertiesConfiguration does from spring.mail.protocol.
+        sender.setProtocol("smtp");
+
+        pool = new SmtpTransportPool(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pool, "mailSender", sender);
+        ReflectionTestUtils.setField(pool, "poolSize", 2);
+        ReflectionTestUtils.setField(pool, "idleTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 100);
+
+        EmailService emailService = new EmailService();
+        ReflectionTestUtils.setField(emailService, "smtpTransportPool", pool);
+        ReflectionTestUtils.setField(emailService, "mailSender", sender);
+        ReflectionTestUtils.setField(emailService, "fromEmailAddress", "noreply@hiring.test");
+
+        ReflectionTestUtils.setField(worker, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(worker, "emailService", emailService);
+        ReflectionTestUtils.setField(worker, "batchSize", 20);
+        ReflectionTestUtils.setField(worker, "leaseSeconds", 60L);
+        ReflectionTestUtils.setField(worker, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(worker, "initialBackoffSeconds", 10L);
+        ReflectionTestUtils.setField(worker, "maxBackoffSeconds", 3600L);
+    }
+
+    @Test
+    void sendsClaimedMessagesAndMarksThemSent() throws Exception {
+        claimable(claimed("m1", "recruiter@hiring.test", 1), claimed("m2", "other@hiring.test", 1));
+
+        List<EmailOutboxMessage> batch = worker.claimBatch();
+        worker.deliver(batch);
+        pool.shutdown();
+
+        assertEquals(2, batch.size());
+        assertTrue(smtp.waitForIncomingEmail(5000, 2));
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("Subject m1", received[0].getSubject());
+        for (Document set : recordedSets(2)) {
+            assertEquals(Status.SENT, set.get("status"));
+        }
+    }
+
+    @Test
+    void retriesWithBackoffAndGivesUpAfterTheLastAttempt() {
+        smtp.stop();
+        claimable(claimed("m1", "recruiter@hiring.test", 1), claimed("m2", "recruiter@hiring.test", MAX_ATTEMPTS));
+
+        long before = System.currentTimeMillis();
+        worker.deliver(worker.claimBatch());
+
+        List<Document> sets = recordedSets(2);
+        assertEquals(Status.PENDING, sets.get(0).get("status"));
+        long delay = ((Date) sets.get(0).get("nextAttemptAt")).getTime() - before;
+        assertTrue(delay >= 10_000 && delay <= 12_000 + 1000, "first retry after " + delay + " ms");
+        assertEquals(Status.FAILED, sets.get(1).get("status"));
+        assertTrue(sets.get(1).get("lastError") != null);
+    }
+
+    @Test
+    void backoffDoublesIsCappedAndJittersByAtMostAFifth() {
+        for (int i = 0; i < 1000; i++) {
+            assertBetween(worker.backoffMillis(1), 10_000, 12_000);
+            assertBetween(worker.backoffMillis(3), 40_000, 48_000);
+            // 10 s * 2^9 exceeds the one-hour cap.
+            assertBetween(worker.backoffMillis(10), 3_600_000, 4_320_000);
+            assertBetween(worker.backoffMillis(60), 3_600_000, 4_320_000);
+        }
+    }
+
+    private static void assertBetween(long value, long min, long max) {
+        assertTrue(value >= min && value <= max, value + " not in [" + min + ", " + max + "]");
+    }
+
+    private void claimable(EmailOutboxMessage... messages) {
+        var stub = when(mongoTemplate.findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(EmailOutboxMessage.class)));
+        for (EmailOutboxMessage message : messages) {
+            stub = stub.thenReturn(message);
+        }
+        stub.thenReturn(null);
+    }
+
+    private List<Document> recordedSets(int count) {
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(count))
+                .updateFirst(any(Query.class), updates.capture(), eq(EmailOutboxMessage.class));
+        return updates.getAllValues().stream().map(update -> (Document) update.getUpdateObject().get("$set")).toList();
+    }
+
+    private static EmailOutboxMessage claimed(String id, String to, int attempts) {
+        EmailOutboxMessage message = EmailService.pending(to, "Subject " + id, "Body of " + id, new Date());
+        message.setId(id);
+        message.setStatus(Status.SENDING);
+        message.setAttempts(attempts);
+        return message;
+    }
+}
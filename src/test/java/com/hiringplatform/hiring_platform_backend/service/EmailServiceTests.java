@@ -0,0 +1,211 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage;
+import com.hiringplatform.hiring_platform_backend.model.EmailOutboxMessage.Status;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.model.User;
+
+/**
+ * Checks how notifications are coalesced into digests. MongoDB is mocked, so the upserts are
+ * checked against the documents they would and would not match.
+ */
+class EmailServiceTests {
+
+    private static final int MAX_ITEMS = 3;
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulk = mock(BulkOperations.class);
+    private final EmailOutboxWorker outboxWorker = mock(EmailOutboxWorker.class);
+    private final EmailService emailService = new EmailService();
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmailOutboxMessage.class)).thenReturn(bulk);
+        ReflectionTestUtils.setField(emailService, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(emailService, "outboxWorker", outboxWorker);
+        ReflectionTestUtils.setField(emailService, "digestWindowSeconds", 900L);
+        ReflectionTestUtils.setField(emailService, "digestMaxItems", MAX_ITEMS);
+    }
+
+    @Test
+    void appendsOneRecruitersNotificationsToTheirOpenDigestInOneUpsert() {
+        User recruiter = recruiter("r1", false);
+        Date now = new Date();
+        emailService.enqueueAll(List.of(
+                EmailService.applicationNotification(recruiter, job("Engineer"), candidate("Ann"), now),
+                EmailService.applicationNotification(recruiter, job("Tester"), candidate("Bob"), now)));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).upsert(query.capture(), update.capture());
+        verify(bulk).execute();
+        verify(mongoTemplate, never()).insert(anyCollection(), eq(EmailOutboxMessage.class));
+
+        Document set = update.getValue().getUpdateObject();
+        List<Object> items = pushed(set, "digestItems");
+        assertEquals(2, items.size());
+        assertTrue(items.get(0).toString().contains("Position: Engineer"));
+        assertTrue(items.get(1).toString().contains("Candidate Name: Bob"));
+        assertEquals(2, ((Document) set.get("$inc")).get("itemCount"));
+
+        Document onInsert = (Document) set.get("$setOnInsert");
+        assertEquals("r1@hiring.test", onInsert.get("to"));
+        assertEquals(900_000L, ((Date) onInsert.get("nextAttemptAt")).getTime() - ((Date) onInsert.get("createdAt")).getTime());
+
+        // The digest still collecting for this recruiter is appended to.
+        assertTrue(matches(query.getValue(), digest("r1", Status.PENDING, 0, 1)));
+    }
+
+    @Test
+    void startsANewDigestOnceTheOpenOneIsClaimedOrFull() {
+        emailService.enqueueAll(List.of(
+                EmailService.applicationNotification(recruiter("r1", false), job("Engineer"), candidate("Ann"), new Date())));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulk).upsert(query.capture(), any(Update.class));
+
+        // None of these match, so the upsert inserts a new digest instead.
+        assertFalse(matches(query.getValue(), digest("r1", Status.SENDING, 1, 1)));
+        assertFalse(matches(query.getValue(), digest("r1", Status.PENDING, 1, 1)));
+        assertFalse(matches(query.getValue(), digest("r1", Status.PENDING, 0, MAX_ITEMS)));
+        assertFalse(matches(query.getValue(), digest("r2", Status.PENDING, 0, 1)));
+    }
+
+    @Test
+    void splitsMoreItemsThanADigestHoldsIntoSeveralDigests() {
+        User recruiter = recruiter("r1", false);
+        Date now = new Date();
+        List<EmailOutboxMessage> notifications = new ArrayList<>();
+        for (int i = 0; i < 2 * MAX_ITEMS + 2; i++) {
+            notifications.add(EmailService.applicationNotification(recruiter, job("Job " + i), candidate("Ann"), now));
+        }
+
+        emailService.enqueueAll(notifications);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulk, times(3)).upsert(query.capture(), update.capture());
+        List<List<Object>> chunks = update.getAllValues().stream().map(u -> pushed(u.getUpdateObject(), "digestItems")).toList();
+        assertEquals(List.of(2, MAX_ITEMS, MAX_ITEMS), chunks.stream().map(List::size).toList());
+        // The items keep their order across the digests.
+        assertTrue(chunks.get(0).get(0).toString().contains("Position: Job 0"));
+        assertTrue(chunks.get(1).get(0).toString().contains("Position: Job 2"));
+        assertTrue(chunks.get(2).get(MAX_ITEMS - 1).toString().contains("Position: Job 7"));
+
+        // The first chunk goes to the open digest only if it still fits there; the full ones always open new digests.
+        assertTrue(matches(query.getAllValues().get(0), digest("r1", Status.PENDING, 0, 1)));
+        assertFalse(matches(query.getAllValues().get(0), digest("r1", Status.PENDING, 0, 2)));
+        for (Query full : query.getAllValues().subList(1, 3)) {
+            assertFalse(matches(full, digest("r1", Status.PENDING, 0, 1)));
+            assertFalse(matches(full, digest("r1", Status.PENDING, 0, MAX_ITEMS)));
+        }
+        verify(bulk).execute();
+    }
+
+    @Test
+    void keepsDigestsOfDifferentRecruitersApartAndInsertsImmediateEmailsOnTheirOwn() {
+        Date now = new Date();
+        emailService.enqueueAll(List.of(
+                EmailService.applicationNotification(recruiter("r1", false), job("Engineer"), candidate("Ann"), now),
+                EmailService.applicationNotification(recruiter("r2", false), job("Tester"), candidate("Bob"), now),
+                EmailService.applicationNotification(recruiter("r3", true), job("Designer"), candidate("Cy"), now)));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulk, times(2)).upsert(query.capture(), any(Update.class));
+        assertEquals("r1", query.getAllValues().get(0).getQueryObject().get("digestKey"));
+        assertEquals("r2", query.getAllValues().get(1).getQueryObject().get("digestKey"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmailOutboxMessage>> singles = ArgumentCaptor.forClass(List.class);
+        verify(mongoTemplate).insert(singles.capture(), eq(EmailOutboxMessage.class));
+        assertEquals(1, singles.getValue().size());
+        assertEquals("r3@hiring.test", singles.getValue().get(0).getTo());
+        assertEquals("New Application for Designer", singles.getValue().get(0).getSubject());
+        verify(outboxWorker).wakeUp();
+    }
+
+    /**
+     * Evaluates the equality and $lte conditions of a digest query against a stored digest.
+     */
+    private static boolean matches(Query query, Map<String, Object> stored) {
+        for (Map.Entry<String, Object> condition : query.getQueryObject().entrySet()) {
+            Object actual = stored.get(condition.getKey());
+            if (condition.getValue() instanceof Document operators) {
+                if (!operators.keySet().equals(Set.of("$lte"))
+                        || ((Number) actual).intValue() > ((Number) operators.get("$lte")).intValue()) {
+                    return false;
+                }
+            } else if (!condition.getValue().equals(actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The values of a $push with $each.
+     */
+    private static List<Object> pushed(Document update, String field) {
+        Object push = ((Document) update.get("$push")).get(field);
+        Object each = push instanceof Update.Modifiers modifiers
+                ? modifiers.getModifiers().iterator().next().getValue()
+                : ((Update.Modifier) push).getValue();
+        return Arrays.asList((Object[]) each);
+    }
+
+    private static Map<String, Object> digest(String key, Status status, int attempts, int itemCount) {
+        return Map.of("digestKey", key, "status", status, "attempts", attempts, "itemCount", itemCount);
+    }
+
+    private static User recruiter(String id, boolean immediate) {
+        User recruiter = new User();
+        recruiter.setId(id);
+        recruiter.setEmail(id + "@hiring.test");
+        recruiter.setImmediateApplicationEmails(immediate);
+        return recruiter;
+    }
+
+    private static JobPosting job(String role) {
+        JobPosting job = new JobPosting();
+        job.setRole(role);
+        return job;
+    }
+
+    private static CandidateProfile candidate(String name) {
+        CandidateProfile candidate = new CandidateProfile();
+        candidate.setFullName(name);
+        candidate.setEmail(name.toLowerCase() + "@mail.test");
+        candidate.setSkills(List.of("Java"));
+        return candidate;
+    }
+}
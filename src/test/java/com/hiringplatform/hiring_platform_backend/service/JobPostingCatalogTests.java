@@ -0,0 +1,208 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.dto.JobPostingSummary;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
+import com.mongodb.MongoCommandException;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+/**
+ * Runs the catalog against a mocked collection whose change stream is fed by the test.
+ * Every change advances the resume token, so the published CatalogVersion can be followed.
+ */
+class JobPostingCatalogTests {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final JobPostingRepository jobPostingRepository = mock(JobPostingRepository.class);
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+    private final JobPostingCatalog catalog = new JobPostingCatalog();
+
+    private final BlockingQueue<ChangeStreamDocument<JobPosting>> changes = new LinkedBlockingQueue<>();
+    private final AtomicInteger position = new AtomicInteger();
+    private ChangeStreamIterable<JobPosting> watch;
+    private List<JobPosting> stored = List.of(posting("65a000000000000000000001", "Engineer"),
+            posting("65a000000000000000000003", "Designer"), posting("65a000000000000000000002", "Tester"));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoCollection<Document> documents = mock(MongoCollection.class);
+        MongoCollection<JobPosting> postings = mock(MongoCollection.class);
+        watch = mock(ChangeStreamIterable.class);
+        MongoChangeStreamCursor<ChangeStreamDocument<JobPosting>> stream = mock(MongoChangeStreamCursor.class);
+        when(mongoTemplate.getCollection("JobPostings")).thenReturn(documents);
+        when(documents.withDocumentClass(JobPosting.class)).thenReturn(postings);
+        when(postings.watch()).thenReturn(watch);
+        when(watch.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(watch);
+        when(watch.resumeAfter(any())).thenReturn(watch);
+        when(watch.cursor()).thenReturn(stream);
+        when(stream.getResumeToken()).thenAnswer(invocation -> new BsonDocument("_data", new BsonString("token-" + position.get())));
+        when(stream.next()).thenAnswer(invocation -> taken(changes.take()));
+        when(stream.tryNext()).thenAnswer(invocation -> {
+            ChangeStreamDocument<JobPosting> change = changes.poll();
+            return change == null ? null : taken(change);
+        });
+
+        FindIterable<JobPosting> find = mock(FindIterable.class);
+        when(postings.find()).thenReturn(find);
+        when(find.iterator()).thenAnswer(invocation -> cursorOf(stored.iterator()));
+
+        ReflectionTestUtils.setField(catalog, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(catalog, "jobPostingRepository", jobPostingRepository);
+        ReflectionTestUtils.setField(catalog, "catalogVersion", catalogVersion);
+        ReflectionTestUtils.setField(catalog, "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.stop();
+    }
+
+    @Test
+    void readsFromTheRepositoryUntilLoadedOrWhenDisabled() {
+        ReflectionTestUtils.setField(catalog, "enabled", false);
+        when(jobPostingRepository.findById("x")).thenReturn(Optional.empty());
+
+        catalog.start();
+
+        assertFalse(catalog.isLive());
+        assertNull(catalogVersion.etag());
+        catalog.findAllSummaries();
+        catalog.findById("x");
+        verify(jobPostingRepository).findAllSummaries();
+        verify(jobPostingRepository).findById("x");
+    }
+
+    @Test
+    void servesTheLoadedPostingsNewestFirstWithKeysetPages() {
+        catalog.start();
+        await(catalog::isLive);
+
+        assertEquals(List.of("Designer", "Tester", "Engineer"), roles(catalog.findAllSummaries()));
+        assertEquals(List.of("Designer", "Tester"), roles(catalog.findSummariesBefore(null, 2)));
+        assertEquals(List.of("Engineer"), roles(catalog.findSummariesBefore("65a000000000000000000002", 2)));
+        assertEquals("Tester", catalog.findById("65a000000000000000000002").orElseThrow().getRole());
+        assertNotNull(catalogVersion.etag());
+        verify(jobPostingRepository, never()).findAllSummaries();
+    }
+
+    @Test
+    void appliesChangesAndAdvancesTheVersion() {
+        catalog.start();
+        await(catalog::isLive);
+        String loaded = catalogVersion.etag();
+
+        changes.add(change(OperationType.INSERT, "65a000000000000000000004", posting("65a000000000000000000004", "Analyst")));
+        changes.add(change(OperationType.UPDATE, "65a000000000000000000001", posting("65a000000000000000000001", "Lead Engineer")));
+        changes.add(change(OperationType.DELETE, "65a000000000000000000003", null));
+        // An update whose posting was deleted before the lookup.
+        changes.add(change(OperationType.UPDATE, "65a000000000000000000002", null));
+        await(() -> catalog.findAllSummaries().size() == 2);
+
+        assertEquals(List.of("Analyst", "Lead Engineer"), roles(catalog.findAllSummaries()));
+        assertNotEquals(loaded, catalogVersion.etag());
+    }
+
+    @Test
+    void fallsBackToTheRepositoryWithoutAReplicaSet() {
+        BsonDocument response = new BsonDocument("ok", new BsonInt32(0))
+                .append("code", new BsonInt32(40573))
+                .append("errmsg", new BsonString("The $changeStream stage is only supported on replica sets"));
+        when(watch.cursor()).thenThrow(new MongoCommandException(response, new ServerAddress()));
+
+        catalog.start();
+        Thread watcher = (Thread) ReflectionTestUtils.getField(catalog, "watcher");
+        await(() -> !watcher.isAlive());
+
+        assertFalse(catalog.isLive());
+        assertNull(catalogVersion.etag());
+        catalog.findAllSummaries();
+        verify(jobPostingRepository).findAllSummaries();
+    }
+
+    private ChangeStreamDocument<JobPosting> taken(ChangeStreamDocument<JobPosting> change) {
+        position.incrementAndGet();
+        return change;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<JobPosting> change(OperationType type, String id, JobPosting fullDocument) {
+        ChangeStreamDocument<JobPosting> change = mock(ChangeStreamDocument.class);
+        when(change.getOperationType()).thenReturn(type);
+        when(change.getFullDocument()).thenReturn(fullDocument);
+        when(change.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonObjectId(new ObjectId(id))));
+        return change;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MongoCursor<JobPosting> cursorOf(Iterator<JobPosting> postings) {
+        MongoCursor<JobPosting> cursor = mock(MongoCursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> postings.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> postings.next());
+        return cursor;
+    }
+
+    private static JobPosting posting(String id, String role) {
+        JobPosting posting = new JobPosting();
+        posting.setId(id);
+        posting.setRole(role);
+        posting.setSkillSet(List.of());
+        return posting;
+    }
+
+    private static List<String> roles(List<JobPostingSummary> summaries) {
+        return summaries.stream().map(JobPostingSummary::getRole).toList();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not reached within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
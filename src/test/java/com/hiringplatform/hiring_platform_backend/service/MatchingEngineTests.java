@@ -0,0 +1,157 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.CandidateProfile;
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.repository.CandidateProfileRepository;
+import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
+
+/**
+ * Ranks rows fed in through save events, so no repository is needed except to test the initial load.
+ */
+class MatchingEngineTests {
+
+    private final MatchingEngine engine = new MatchingEngine();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engine, "skillDictionary", new SkillDictionary());
+    }
+
+    @Test
+    void ranksCandidatesByCoverageScaledByExperience() {
+        save(job("j1", 4, "java", "spring", "mongodb", "docker"));
+        save(candidate("all-senior", 5, "java", "spring", "mongodb", "docker"));
+        save(candidate("all-junior", 2, "java", "spring", "mongodb", "docker"));
+        save(candidate("half", 6, "java", "spring"));
+        save(candidate("none", 9, "python"));
+
+        List<MatchingEngine.Match> matches = engine.topCandidatesForJob("j1", 10).orElseThrow();
+
+        assertEquals(List.of("all-senior", "all-junior", "half"), ids(matches));
+        assertEquals(1.0, matches.get(0).getScore(), 1e-6);
+        assertEquals(0.75, matches.get(1).getScore(), 1e-6);
+        assertEquals(0.5, matches.get(2).getScore(), 1e-6);
+        assertEquals(4, matches.get(0).getOverlap());
+        assertEquals(2, matches.get(2).getOverlap());
+    }
+
+    @Test
+    void breaksTiesByAscendingIdAndKeepsTheSameTiesWhenTheHeapIsFull() {
+        save(job("j1", 0, "java"));
+        // Offered in descending id order, so an equal score must still displace the heap's weakest.
+        for (String id : List.of("e", "d", "c", "b", "a")) {
+            save(candidate(id, 1, "java"));
+        }
+
+        assertEquals(List.of("a", "b", "c"), ids(engine.topCandidatesForJob("j1", 3).orElseThrow()));
+        assertEquals(List.of("a", "b", "c", "d", "e"), ids(engine.topCandidatesForJob("j1", 10).orElseThrow()));
+    }
+
+    @Test
+    void returnsTheSameTopKAsAFullSortAcrossParallelWorkers() {
+        String[] skills = {"java", "spring", "mongodb", "docker", "react", "sql"};
+        Random random = new Random(7);
+        save(job("j1", 3, "java", "spring", "mongodb", "docker"));
+        // Above the parallel threshold, with many equal scores so the merge order matters.
+        for (int i = 0; i < 6000; i++) {
+            List<String> own = new ArrayList<>();
+            for (String skill : skills) {
+                if (random.nextBoolean()) {
+                    own.add(skill);
+                }
+            }
+            String id = String.format("c%05d", random.nextInt(1_000_000));
+            save(candidate(id, random.nextInt(5), own.toArray(String[]::new)));
+        }
+
+        List<MatchingEngine.Match> all = engine.topCandidatesForJob("j1", 10_000).orElseThrow();
+        List<MatchingEngine.Match> top = engine.topCandidatesForJob("j1", 25).orElseThrow();
+
+        assertEquals(ids(all.subList(0, 25)), ids(top));
+        for (int i = 1; i < all.size(); i++) {
+            MatchingEngine.Match before = all.get(i - 1);
+            MatchingEngine.Match after = all.get(i);
+            assertTrue(before.getScore() > after.getScore()
+                    || (before.getScore() == after.getScore() && before.getId().compareTo(after.getId()) < 0));
+        }
+    }
+
+    @Test
+    void ranksJobsForACandidate() {
+        save(candidate("u1", 3, "java", "spring"));
+        save(job("backend", 2, "java", "spring"));
+        save(job("fullstack", 2, "java", "spring", "react", "css"));
+        save(job("frontend", 2, "react", "css"));
+
+        assertEquals(List.of("backend", "fullstack"), ids(engine.topJobsForCandidate("u1", 5).orElseThrow()));
+        assertTrue(engine.topJobsForCandidate("nobody", 5).isEmpty());
+    }
+
+    @Test
+    void replaysWritesMadeWhileLoading() {
+        CandidateProfileRepository profiles = mock(CandidateProfileRepository.class);
+        JobPostingRepository postings = mock(JobPostingRepository.class);
+        ReflectionTestUtils.setField(engine, "candidateProfileRepository", profiles);
+        ReflectionTestUtils.setField(engine, "jobPostingRepository", postings);
+        CandidateProfile deletedProfile = candidate("gone", 5, "java");
+        deletedProfile.setId("profile-gone");
+        when(profiles.findAll()).thenReturn(List.of(candidate("u1", 5, "java"), deletedProfile));
+        when(postings.findAll()).thenAnswer(invocation -> {
+            // Written after the rows below were read: the reads are stale.
+            save(job("edited", 1, "java"));
+            engine.onAfterDelete(new AfterDeleteEvent<>(new Document("_id", "deleted"), JobPosting.class, "JobPostings"));
+            engine.onAfterDelete(new AfterDeleteEvent<>(new Document("_id", "profile-gone"), CandidateProfile.class, "CandidateProfiles"));
+            return List.of(job("edited", 1, "python"), job("deleted", 1, "java"));
+        });
+
+        engine.load();
+
+        assertEquals(List.of("u1"), ids(engine.topCandidatesForJob("edited", 10).orElseThrow()));
+        assertTrue(engine.topCandidatesForJob("deleted", 10).isEmpty());
+        assertTrue(engine.topJobsForCandidate("gone", 10).isEmpty());
+
+        // Once loaded, writes apply at once again.
+        save(job("later", 1, "java"));
+        assertEquals(List.of("u1"), ids(engine.topCandidatesForJob("later", 10).orElseThrow()));
+    }
+
+    private void save(Object source) {
+        engine.onAfterSave(new AfterSaveEvent<>(source, new Document(), "collection"));
+    }
+
+    private static JobPosting job(String id, int experience, String... skills) {
+        JobPosting job = new JobPosting();
+        job.setId(id);
+        job.setExperience(experience);
+        job.setSkillSet(List.of(skills));
+        return job;
+    }
+
+    private static CandidateProfile candidate(String userId, int experience, String... skills) {
+        CandidateProfile profile = new CandidateProfile();
+        profile.setUserId(userId);
+        profile.setTotalExperience(experience);
+        profile.setSkills(List.of(skills));
+        return profile;
+    }
+
+    private static List<String> ids(List<MatchingEngine.Match> matches) {
+        return matches.stream().map(MatchingEngine.Match::getId).toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.controller.AuthController;
+import com.hiringplatform.hiring_platform_backend.dto.AuthRequest;
+import com.hiringplatform.hiring_platform_backend.util.JwtUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Fills a one-thread, one-slot hashing pool to check that further work is turned away at once.
+ */
+class PasswordHashingServiceTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingService service = new PasswordHashingService(1, 1, meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void rejectsWorkOnceThePoolAndItsQueueAreFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture<String> first = service.submit(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        });
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = service.submit(() -> "queued");
+
+        assertThrows(RejectedExecutionException.class, () -> service.submit(() -> "rejected"));
+
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals("again", service.submit(() -> "again").get(5, TimeUnit.SECONDS));
+        assertEquals(3.0, meterRegistry.get("executor.completed").tag("name", "bcrypt").functionCounter().count());
+    }
+
+    @Test
+    void loginAnswers503WithRetryAfterWhenThePoolIsFull() throws Exception {
+        AuthController controller = new AuthController();
+        ReflectionTestUtils.setField(controller, "passwordHashingService", service);
+        ReflectionTestUtils.setField(controller, "jwtUtil", mock(JwtUtil.class));
+        ReflectionTestUtils.setField(controller, "retryAfterSeconds", 2L);
+        CountDownLatch running = new CountDownLatch(1);
+        service.submit(() -> {
+            running.countDown();
+            return await(release);
+        });
+        running.await(5, TimeUnit.SECONDS);
+        service.submit(() -> "queued");
+
+        ResponseEntity<String> response = controller.loginUser(new AuthRequest()).get(1, TimeUnit.SECONDS);
+
+        assertEquals(503, response.getStatusCode().value());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
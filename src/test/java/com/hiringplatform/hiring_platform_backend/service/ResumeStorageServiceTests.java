@@ -0,0 +1,149 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import com.hiringplatform.hiring_platform_backend.service.ResumeStorageService.StoredResume;
+
+class ResumeStorageServiceTests {
+
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    @TempDir
+    Path root;
+
+    private ResumeStorageService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ResumeStorageService(root.toString(), 1024);
+    }
+
+    @Test
+    void storesAFileUnderItsDigest() throws Exception {
+        byte[] pdf = pdf("first");
+
+        StoredResume stored = service.store(new ByteArrayInputStream(pdf));
+
+        String id = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(pdf));
+        assertEquals(id, stored.id());
+        assertEquals(root.resolve(id.substring(0, 2)).resolve(id), stored.path());
+        assertEquals(pdf.length, stored.size());
+        assertEquals("application/pdf", stored.contentType());
+        assertEquals("\"" + id + "\"", stored.etag());
+        assertArrayEquals(pdf, Files.readAllBytes(stored.path()));
+        assertTrue(uploadsLeft().isEmpty());
+    }
+
+    @Test
+    void storesIdenticalUploadsOnce() throws Exception {
+        StoredResume first = service.store(new ByteArrayInputStream(pdf("same")));
+        StoredResume second = service.store(new ByteArrayInputStream(pdf("same")));
+        StoredResume other = service.store(new ByteArrayInputStream(pdf("other")));
+
+        assertEquals(first, second);
+        assertNotEquals(first.id(), other.id());
+        try (Stream<Path> files = Files.list(first.path().getParent())) {
+            assertEquals(1, files.filter(path -> path.getFileName().toString().equals(first.id())).count());
+        }
+        assertTrue(uploadsLeft().isEmpty());
+    }
+
+    @Test
+    void recognisesDocumentsByTheirContent() throws Exception {
+        byte[] doc = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1, 0};
+
+        assertEquals("application/msword", service.store(new ByteArrayInputStream(doc)).contentType());
+        assertEquals(DOCX, service.store(new ByteArrayInputStream(zip("[Content_Types].xml", "word/document.xml"))).contentType());
+    }
+
+    @Test
+    void refusesZipArchivesThatAreNotWordDocuments() {
+        for (byte[] archive : List.of(zip("notes.txt"), zip("[Content_Types].xml", "xl/workbook.xml"), zip("word/document.xml"))) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> service.store(new ByteArrayInputStream(archive)));
+            assertEquals("Only PDF, DOC and DOCX resumes are accepted.", e.getMessage());
+        }
+        // A ZIP signature followed by garbage is no archive at all.
+        assertThrows(IllegalArgumentException.class,
+                () -> service.store(new ByteArrayInputStream(new byte[] {'P', 'K', 3, 4, 1, 2, 3})));
+    }
+
+    @Test
+    void refusesEmptyUnknownAndOversizedFilesWithoutKeepingThem() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> service.store(new ByteArrayInputStream(new byte[0])));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.store(new ByteArrayInputStream("plain text".getBytes(StandardCharsets.US_ASCII))));
+        assertThrows(MaxUploadSizeExceededException.class, () -> service.store(new ByteArrayInputStream(pdf("x".repeat(1024)))));
+
+        assertTrue(uploadsLeft().isEmpty());
+        try (Stream<Path> files = Files.list(root)) {
+            assertEquals(List.of(root.resolve("uploads")), files.toList());
+        }
+    }
+
+    @Test
+    void findsStoredFilesByIdOnly() throws Exception {
+        StoredResume stored = service.store(new ByteArrayInputStream(zip("[Content_Types].xml", "word/document.xml")));
+
+        assertEquals(stored, service.find(stored.id()).orElseThrow());
+        assertTrue(service.find("0".repeat(64)).isEmpty());
+        for (String malformed : new String[] {null, "", stored.id().toUpperCase(), stored.id().substring(1), "../" + stored.id().substring(3)}) {
+            assertTrue(service.find(malformed).isEmpty(), String.valueOf(malformed));
+        }
+    }
+
+    @Test
+    void servesAZipStoredBeforeDocxWasCheckedAsOctetStream() throws IOException {
+        String id = "ab" + "0".repeat(62);
+        Files.createDirectories(root.resolve("ab"));
+        Files.write(root.resolve("ab").resolve(id), zip("notes.txt"));
+
+        assertEquals("application/octet-stream", service.find(id).orElseThrow().contentType());
+    }
+
+    private List<Path> uploadsLeft() throws IOException {
+        try (Stream<Path> files = Files.list(root.resolve("uploads"))) {
+            return files.toList();
+        }
+    }
+
+    private static byte[] pdf(String body) {
+        return ("%PDF-1.7\n" + body).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] zip(String... entries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (String entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry));
+                zip.write("<xml/>".getBytes(StandardCharsets.US_ASCII));
+                zip.closeEntry();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,88 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Runs the SMTP connection pool against an embedded SMTP server.
+ */
+class SmtpTransportPoolTests {
+
+    @RegisterExtension
+    static final GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JavaMailSenderImpl sender;
+    private SmtpTransportPool pool;
+
+    @BeforeEach
+    void setUp() {
+        // No protocol set: the pool defaults to smtp like JavaMailSenderImpl.
+        sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+
+        pool = new SmtpTransportPool(meterRegistry);
+        ReflectionTestUtils.setField(pool, "mailSender", sender);
+        ReflectionTestUtils.setField(pool, "poolSize", 2);
+        ReflectionTestUtils.setField(pool, "idleTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void rotatesTheConnectionWithinABatchAtTheMessageLimit() throws Exception {
+        List<MailException> failures = pool.send(messages(5));
+
+        failures.forEach(failure -> assertNull(failure));
+        smtp.waitForIncomingEmail(5000, 5);
+        assertEquals(5, smtp.getReceivedMessages().length);
+        assertEquals(3.0, meterRegistry.get("smtp.connections").counter().count());
+    }
+
+    @Test
+    void reusesAnIdleConnectionBelowTheLimitForTheNextBatch() throws Exception {
+        pool.send(messages(1));
+        pool.send(messages(1));
+
+        smtp.waitForIncomingEmail(5000, 2);
+        assertEquals(2, smtp.getReceivedMessages().length);
+        assertEquals(1.0, meterRegistry.get("smtp.connections").counter().count());
+    }
+
+    private List<MimeMessage> messages(int count) throws Exception {
+        List<MimeMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MimeMessage message = sender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message);
+            helper.setFrom("noreply@hiring.test");
+            helper.setTo("recruiter" + i + "@hiring.test");
+            helper.setSubject("Message " + i);
+            helper.setText("Body " + i);
+            messages.add(message);
+        }
+        return messages;
+    }
+}
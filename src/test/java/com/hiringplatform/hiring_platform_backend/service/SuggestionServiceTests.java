@@ -0,0 +1,78 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.JobPosting;
+import com.hiringplatform.hiring_platform_backend.repository.JobPostingRepository;
+import com.hiringplatform.hiring_platform_backend.service.SuggestionService.Suggestion;
+
+class SuggestionServiceTests {
+
+    private final JobPostingRepository jobPostingRepository = mock(JobPostingRepository.class);
+    private final SuggestionService service = new SuggestionService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "jobPostingRepository", jobPostingRepository);
+    }
+
+    @Test
+    void countsEachPostingOnceAcrossResaves() {
+        save(posting("1", "Java Developer", "Java", "Spring"));
+        save(posting("2", "Java Architect", "java"));
+        save(posting("1", "Java Developer", "Java", "Kafka"));
+
+        assertEquals(List.of(new Suggestion("Java", "skill", 2)), service.suggest("jav", 1));
+        assertTrue(service.suggest("spr", 10).isEmpty());
+        assertEquals(1, service.suggest("kaf", 10).get(0).count());
+    }
+
+    @Test
+    void replaysWritesMadeWhileLoading() {
+        when(jobPostingRepository.findAll()).thenAnswer(invocation -> {
+            // Written after the rows below were read: the reads are stale.
+            save(posting("1", "Data Engineer", "Python"));
+            service.onAfterDelete(new AfterDeleteEvent<>(new Document("_id", "2"), JobPosting.class, "JobPostings"));
+            return List.of(posting("1", "Java Developer", "Java"), posting("2", "Go Developer", "Go"));
+        });
+
+        service.load();
+
+        assertEquals(List.of("Data Engineer"), values(service.suggest("d", 10)));
+        assertEquals(List.of("Python"), values(service.suggest("py", 10)));
+        assertTrue(service.suggest("j", 10).isEmpty());
+        assertTrue(service.suggest("go", 10).isEmpty());
+
+        // Once loaded, writes apply at once again.
+        save(posting("3", "Go Developer", "Go"));
+        assertEquals(List.of("Go Developer", "Go"), values(service.suggest("go", 10)));
+    }
+
+    private void save(JobPosting posting) {
+        service.onAfterSave(new AfterSaveEvent<>(posting, new Document(), "JobPostings"));
+    }
+
+    private static JobPosting posting(String id, String role, String... skills) {
+        JobPosting posting = new JobPosting();
+        posting.setId(id);
+        posting.setRole(role);
+        posting.setSkillSet(List.of(skills));
+        return posting;
+    }
+
+    private static List<String> values(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::value).toList();
+    }
+}
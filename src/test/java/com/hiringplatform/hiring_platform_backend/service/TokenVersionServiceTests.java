@@ -0,0 +1,118 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the revocation check against a mocked MongoDB holding one user's token version.
+ */
+class TokenVersionServiceTests {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final UserCacheService userCacheService = mock(UserCacheService.class);
+    private final TokenVersionService service = new TokenVersionService(100, 60, new SimpleMeterRegistry());
+
+    /**
+     * The version stored for user-1, and whether that user exists at all.
+     */
+    private final AtomicLong storedVersion = new AtomicLong(4);
+    private boolean exists = true;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(service, "userCacheService", userCacheService);
+        when(mongoTemplate.findOne(any(Query.class), eq(User.class))).thenAnswer(invocation -> {
+            if (!exists) {
+                return null;
+            }
+            User user = new User();
+            user.setId("user-1");
+            user.setTokenVersion(storedVersion.get());
+            return user;
+        });
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(User.class))).thenAnswer(invocation -> {
+            storedVersion.incrementAndGet();
+            return null;
+        });
+    }
+
+    @Test
+    void acceptsOnlyTheStoredVersionAndCachesIt() {
+        assertTrue(service.isCurrent("user-1", 4));
+        assertFalse(service.isCurrent("user-1", 3));
+        assertTrue(service.isCurrent("user-1", 4));
+
+        verify(mongoTemplate, times(1)).findOne(any(Query.class), eq(User.class));
+    }
+
+    @Test
+    void readsOnlyTheVersionField() {
+        service.isCurrent("user-1", 4);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(query.capture(), eq(User.class));
+        assertEquals(new Document("tokenVersion", 1), query.getValue().getFieldsObject());
+    }
+
+    @Test
+    void revokeAllIncrementsTheVersionAndDropsBothCaches() {
+        assertTrue(service.isCurrent("user-1", 4));
+
+        service.revokeAll("user-1");
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(User.class));
+        assertEquals(new Document("tokenVersion", 1), update.getValue().getUpdateObject().get("$inc"));
+        verify(userCacheService).evict("user-1");
+        assertFalse(service.isCurrent("user-1", 4));
+        assertTrue(service.isCurrent("user-1", 5));
+    }
+
+    @Test
+    void rejectsEveryTokenOfAnUnknownOrDeletedUser() {
+        assertTrue(service.isCurrent("user-1", 4));
+
+        exists = false;
+        service.onAfterDelete(new AfterDeleteEvent<>(new Document("_id", "user-1"), User.class, "users"));
+
+        assertFalse(service.isCurrent("user-1", 4));
+        assertFalse(service.isCurrent("user-1", 0));
+    }
+
+    @Test
+    void rereadsTheVersionAfterALocalSave() {
+        assertTrue(service.isCurrent("user-1", 4));
+
+        storedVersion.set(9);
+        User saved = new User();
+        saved.setId("user-1");
+        service.onAfterSave(new AfterSaveEvent<>(saved, new Document(), "users"));
+
+        assertTrue(service.isCurrent("user-1", 9));
+    }
+}
@@ -0,0 +1,132 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.hiringplatform.hiring_platform_backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserCacheServiceTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserCacheService service = new UserCacheService(100, 300, meterRegistry);
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "userRepository", userRepository);
+        ReflectionTestUtils.setField(service, "mongoTemplate", mongoTemplate);
+        alice = user("user-1", "alice", "hash");
+        when(userRepository.findByUsername("alice")).thenAnswer(invocation -> Optional.of(alice));
+        when(userRepository.findById("user-1")).thenAnswer(invocation -> Optional.of(alice));
+    }
+
+    @Test
+    void cachesAUserUnderBothItsNameAndItsId() {
+        User byName = service.findByUsername("alice").orElseThrow();
+        User byId = service.findById("user-1").orElseThrow();
+
+        assertSame(byName, byId);
+        verify(userRepository, times(1)).findByUsername("alice");
+        verify(userRepository, never()).findById(any());
+        assertEquals(1, meterRegistry.get("users.load").timer().count());
+    }
+
+    @Test
+    void doesNotCacheUnknownUsers() {
+        when(userRepository.findByUsername("nobody")).thenReturn(Optional.empty());
+
+        assertTrue(service.findByUsername("nobody").isEmpty());
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nobody"));
+
+        verify(userRepository, times(2)).findByUsername("nobody");
+    }
+
+    @Test
+    void mapsTheRoleToAnAuthority() {
+        UserDetails details = service.loadUserByUsername("alice");
+
+        assertEquals("alice", details.getUsername());
+        assertEquals("hash", details.getPassword());
+        assertEquals("ROLE_RECRUITER", details.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void dropsEveryEntryOfAUserOnSaveDeleteAndEvict() {
+        service.findByUsername("alice");
+        service.onAfterSave(new AfterSaveEvent<>(alice, new Document(), "users"));
+        service.findById("user-1");
+        verify(userRepository, times(1)).findById("user-1");
+
+        service.onAfterDelete(new AfterDeleteEvent<>(new Document("_id", "user-1"), User.class, "users"));
+        service.findByUsername("alice");
+        verify(userRepository, times(2)).findByUsername("alice");
+
+        service.evict("user-1");
+        service.findById("user-1");
+        verify(userRepository, times(2)).findById("user-1");
+    }
+
+    @Test
+    void storesRehashedPasswordsAndForgetsTheOldHash() {
+        UserDetails details = service.loadUserByUsername("alice");
+        alice = user("user-1", "alice", "rehashed");
+
+        UserDetails updated = service.updatePassword(details, "rehashed");
+
+        verify(mongoTemplate).updateFirst(any(Query.class), eq(Update.update("password", "rehashed")), eq(User.class));
+        assertEquals("rehashed", updated.getPassword());
+        assertEquals("rehashed", service.findByUsername("alice").orElseThrow().getPassword());
+    }
+
+    @Test
+    void doesNotCacheAUserLoadedAcrossAnInvalidation() {
+        when(userRepository.findByUsername("alice")).thenAnswer(invocation -> {
+            User stale = alice;
+            // A save lands while the old version is being read.
+            service.onAfterSave(new AfterSaveEvent<>(stale, new Document(), "users"));
+            return Optional.of(stale);
+        });
+
+        service.findByUsername("alice");
+        service.findByUsername("alice");
+
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+
+    private static User user(String id, String username, String password) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setPassword(password);
+        user.setRole("RECRUITER");
+        return user;
+    }
+}
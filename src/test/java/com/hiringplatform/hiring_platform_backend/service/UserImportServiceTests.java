@@ -0,0 +1,163 @@
+package com.hiringplatform.hiring_platform_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hiringplatform.hiring_platform_backend.dto.ImportReport;
+import com.hiringplatform.hiring_platform_backend.model.User;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Imports into a mocked users collection that enforces the unique username index the way an
+ * unordered bulkWrite does: every other write is applied and the duplicates are reported by index.
+ */
+class UserImportServiceTests {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private final UserImportService service = new UserImportService(2);
+
+    /**
+     * The usernames stored so far, and the size of every bulk write.
+     */
+    private final Set<String> stored = new HashSet<>(Set.of("taken"));
+    private final List<Integer> bulkSizes = new ArrayList<>();
+    private final List<Document> inserted = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoCollection<Document> users = mock(MongoCollection.class);
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        when(mongoTemplate.getCollectionName(User.class)).thenReturn("users");
+        when(mongoTemplate.getCollection("users")).thenReturn(users);
+        when(users.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenAnswer(invocation -> {
+            List<WriteModel<Document>> writes = invocation.getArgument(0);
+            bulkSizes.add(writes.size());
+            List<BulkWriteError> errors = new ArrayList<>();
+            for (int i = 0; i < writes.size(); i++) {
+                Document document = ((InsertOneModel<Document>) writes.get(i)).getDocument();
+                if (stored.add(document.getString("username"))) {
+                    inserted.add(document);
+                } else {
+                    errors.add(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), i));
+                }
+            }
+            BulkWriteResult result = BulkWriteResult.acknowledged(writes.size() - errors.size(), 0, 0, 0, List.of(), List.of());
+            if (!errors.isEmpty()) {
+                throw new MongoBulkWriteException(result, errors, null, new ServerAddress(), Set.of());
+            }
+            return result;
+        });
+
+        ReflectionTestUtils.setField(service, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(service, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void importsCsvInBatchesWithHashedPasswords() throws IOException {
+        ImportReport report = importCsv("""
+                Username,Password,Email,Role
+                ann,secret1,ann@mail.test,RECRUITER
+                "bob, jr",secret2,bob@mail.test,JOB_SEEKER
+
+                cy,"pa""ss",cy@mail.test,JOB_SEEKER
+                """);
+
+        assertEquals(3, report.getTotal());
+        assertEquals(3, report.getInserted());
+        assertEquals(0, report.getFailed());
+        assertEquals(List.of(2, 1), bulkSizes);
+        assertEquals("bob, jr", inserted.get(1).getString("username"));
+        assertEquals("bob@mail.test", inserted.get(1).getString("email"));
+        assertTrue(passwordEncoder.matches("pa\"ss", inserted.get(2).getString("password")));
+    }
+
+    @Test
+    void reportsInvalidAndDuplicateRowsByLineAndInsertsTheRest() throws IOException {
+        ImportReport report = importNdjson("""
+                {"username": "ann", "password": "secret", "role": "RECRUITER"}
+                {"username": "taken", "password": "secret", "role": "RECRUITER"}
+                {"username": "ann", "password": "secret", "role": "JOB_SEEKER"}
+                {"username": "root", "password": "secret", "role": "ADMIN"}
+                {"username": "nopass", "role": "JOB_SEEKER"}
+                not json
+                {"username": "dan", "password": "secret", "role": "JOB_SEEKER"}
+                """);
+
+        assertEquals(7, report.getTotal());
+        assertEquals(2, report.getInserted());
+        assertEquals(5, report.getFailed());
+        List<ImportReport.RowError> errors = report.getErrors();
+        // Duplicates are only known once their batch (of two rows) has been written.
+        assertEquals(List.of(2L, 4L, 5L, 6L, 3L), errors.stream().map(ImportReport.RowError::getLine).toList());
+        assertEquals("taken", errors.get(0).getUsername());
+        assertEquals("Username is already taken", errors.get(0).getReason());
+        assertEquals("Role must be RECRUITER or JOB_SEEKER", errors.get(1).getReason());
+        assertEquals("Missing password", errors.get(2).getReason());
+        assertTrue(errors.get(3).getReason().startsWith("Unreadable row"));
+        assertEquals("ann", errors.get(4).getUsername());
+        assertEquals("Username is already taken", errors.get(4).getReason());
+    }
+
+    @Test
+    void rejectsCsvWithoutTheRequiredColumns() {
+        assertThrows(IOException.class, () -> importCsv("name,email\nann,ann@mail.test\n"));
+        assertThrows(IOException.class, () -> importCsv(""));
+    }
+
+    @Test
+    void splitsCsvRecordsWithQuotedFields() {
+        assertEquals(List.of("a", "b,c", "d\"e", ""), UserImportService.splitCsv("a,\"b,c\",\"d\"\"e\","));
+        assertEquals(List.of(""), UserImportService.splitCsv(""));
+        assertThrows(IllegalArgumentException.class, () -> UserImportService.splitCsv("a,\"b"));
+    }
+
+    private ImportReport importCsv(String content) throws IOException {
+        return service.importUsers(new BufferedReader(new StringReader(content)), UserImportService.Format.CSV);
+    }
+
+    private ImportReport importNdjson(String content) throws IOException {
+        return service.importUsers(new BufferedReader(new StringReader(content)), UserImportService.Format.NDJSON);
+    }
+}
@@ -0,0 +1,76 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTests {
+
+    @Test
+    void servesAHitAfterAMiss() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v", cache.computeIfAbsent("k", key -> { loads.incrementAndGet(); return "v"; }));
+        assertEquals("v", cache.computeIfAbsent("k", key -> { loads.incrementAndGet(); return "other"; }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void expiresEntriesAfterTheTtl() throws InterruptedException {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 50);
+        cache.put("k", "v");
+        assertEquals("v", cache.get("k"));
+
+        Thread.sleep(100);
+
+        assertNull(cache.get("k"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2, 0);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+    }
+
+    @Test
+    void doesNotStoreAValueLoadedAcrossAnInvalidation() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 0);
+
+        // The source changes, and the entry is invalidated, while the old value is being read.
+        String loaded = cache.computeIfAbsent("k", key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertNull(cache.get("k"));
+        assertEquals("fresh", cache.computeIfAbsent("k", key -> "fresh"));
+        assertEquals("fresh", cache.get("k"));
+    }
+
+    @Test
+    void putIfUnchangedRejectsAnOutdatedGeneration() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, 0);
+        long generation = cache.generation();
+        cache.invalidateIf((key, value) -> false);
+
+        assertFalse(cache.putIfUnchanged("k", "v", generation));
+        assertNull(cache.get("k"));
+    }
+}
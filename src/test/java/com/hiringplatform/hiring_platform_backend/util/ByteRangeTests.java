@@ -0,0 +1,37 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ByteRangeTests {
+
+    @Test
+    void resolvesSingleRangesAgainstTheSize() {
+        assertEquals(new ByteRange(0, 99), ByteRange.parse("bytes=0-99", 1000));
+        assertEquals(new ByteRange(500, 999), ByteRange.parse("bytes=500-", 1000));
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=-100", 1000));
+        // Ends beyond the content are clamped, and so are suffixes longer than it.
+        assertEquals(new ByteRange(990, 999), ByteRange.parse("bytes=990-2000", 1000));
+        assertEquals(new ByteRange(0, 999), ByteRange.parse("bytes=-5000", 1000));
+        assertEquals(100, ByteRange.parse("bytes=0-99", 1000).length());
+    }
+
+    @Test
+    void ignoresWhatItDoesNotSupport() {
+        assertNull(ByteRange.parse(null, 1000));
+        assertNull(ByteRange.parse("items=0-5", 1000));
+        assertNull(ByteRange.parse("bytes=0-5,10-20", 1000));
+        assertNull(ByteRange.parse("bytes=20-10", 1000));
+        assertNull(ByteRange.parse("bytes=abc-", 1000));
+    }
+
+    @Test
+    void rejectsRangesBeyondTheContent() {
+        assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=1000-", 1000));
+        assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=-0", 1000));
+        assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=0-", 0));
+    }
+}
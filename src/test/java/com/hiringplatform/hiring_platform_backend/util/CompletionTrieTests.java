@@ -0,0 +1,91 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CompletionTrieTests {
+
+    @Test
+    void ranksByWeightThenAlphabetically() {
+        CompletionTrie trie = new CompletionTrie(10);
+        trie.adjust("Java", 3);
+        trie.adjust("JavaScript", 5);
+        trie.adjust("Jakarta EE", 3);
+        trie.adjust("Python", 9);
+
+        assertEquals(List.of("JavaScript", "Jakarta EE", "Java"), values(trie.complete("ja", 10)));
+        assertEquals(List.of("JavaScript", "Jakarta EE"), values(trie.complete("ja", 2)));
+        assertEquals(List.of("Python", "JavaScript", "Jakarta EE", "Java"), values(trie.complete("", 10)));
+        assertEquals(List.of(), values(trie.complete("rust", 10)));
+    }
+
+    @Test
+    void normalizesTermsAndPrefixes() {
+        CompletionTrie trie = new CompletionTrie(10);
+        trie.adjust("  Spring   Boot ", 1);
+        trie.adjust("spring boot", 1);
+
+        List<CompletionTrie.Completion> completions = trie.complete("SPRING  b", 10);
+
+        // The first form seen is the one shown, and both spellings count for the same term.
+        assertEquals(List.of(new CompletionTrie.Completion("Spring   Boot", 2)), completions);
+    }
+
+    @Test
+    void replacesADecreasedTermWithOneOutsideTheList() {
+        CompletionTrie trie = new CompletionTrie(2);
+        trie.adjust("go", 5);
+        trie.adjust("gradle", 4);
+        trie.adjust("groovy", 3);
+        assertEquals(List.of("go", "gradle"), values(trie.complete("g", 10)));
+
+        trie.adjust("gradle", -2);
+        assertEquals(List.of("go", "groovy"), values(trie.complete("g", 10)));
+
+        trie.adjust("go", -5);
+        assertEquals(List.of("groovy", "gradle"), values(trie.complete("g", 10)));
+        assertEquals(List.of(), values(trie.complete("go", 10)));
+    }
+
+    @Test
+    void matchesAFullRecountAfterRandomAdjustments() {
+        String[] terms = {"a", "ab", "abc", "abd", "ac", "b", "ba", "bab", "bb", "c", "ca", "cab"};
+        CompletionTrie trie = new CompletionTrie(3);
+        Map<String, Long> weights = new HashMap<>();
+        Random random = new Random(42);
+        for (int step = 0; step < 5000; step++) {
+            String term = terms[random.nextInt(terms.length)];
+            long delta = random.nextInt(5) - 2;
+            trie.adjust(term, delta);
+            weights.merge(term, delta, (weight, change) -> Math.max(0, weight + change));
+
+            for (String prefix : List.of("", "a", "ab", "b", "ba", "c")) {
+                assertEquals(expected(weights, prefix, 3), trie.complete(prefix, 3), "prefix '" + prefix + "' at step " + step);
+            }
+        }
+    }
+
+    private static List<CompletionTrie.Completion> expected(Map<String, Long> weights, String prefix, int limit) {
+        List<CompletionTrie.Completion> all = new ArrayList<>();
+        weights.forEach((term, weight) -> {
+            if (term.startsWith(prefix) && weight > 0) {
+                all.add(new CompletionTrie.Completion(term, weight));
+            }
+        });
+        all.sort(Comparator.comparingLong(CompletionTrie.Completion::weight).reversed()
+                .thenComparing(CompletionTrie.Completion::value));
+        return all.subList(0, Math.min(limit, all.size()));
+    }
+
+    private static List<String> values(List<CompletionTrie.Completion> completions) {
+        return completions.stream().map(CompletionTrie.Completion::value).toList();
+    }
+}
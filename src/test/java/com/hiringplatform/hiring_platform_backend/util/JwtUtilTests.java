@@ -0,0 +1,91 @@
+package com.hiringplatform.hiring_platform_backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hiringplatform.hiring_platform_backend.model.User;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtUtilTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtUtil jwtUtil = new JwtUtil(2, meterRegistry);
+
+    @Test
+    void verifiesATokenOnceAndServesRepeatsFromTheCache() {
+        String token = jwtUtil.generateToken(user("alice", 3L));
+
+        VerifiedToken first = jwtUtil.verify(token);
+        VerifiedToken second = jwtUtil.verify(token);
+
+        assertSame(first, second);
+        assertEquals("alice", first.getUsername());
+        assertEquals("id-alice", first.getUserId());
+        assertEquals("RECRUITER", first.getRole());
+        assertEquals(3L, first.getTokenVersion());
+        assertEquals(1.0, gets("miss"));
+        assertEquals(1.0, gets("hit"));
+    }
+
+    @Test
+    void neverCachesTamperedOrExpiredTokens() {
+        String token = jwtUtil.generateToken(user("alice", 0L));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+
+        SecretKey key = (SecretKey) ReflectionTestUtils.getField(JwtUtil.class, "SECRET_KEY");
+        String expired = Jwts.builder()
+                .setSubject("alice")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(expired));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(expired));
+
+        assertEquals(0.0, gets("hit"));
+    }
+
+    @Test
+    void keepsOnlyTheConfiguredNumberOfVerifiedTokens() {
+        String a = jwtUtil.generateToken(user("a", 0L));
+        String b = jwtUtil.generateToken(user("b", 0L));
+        String c = jwtUtil.generateToken(user("c", 0L));
+
+        jwtUtil.verify(a);
+        jwtUtil.verify(b);
+        jwtUtil.verify(c);
+
+        // 'a' was the least recently used of three tokens in a cache of two, so it is verified again.
+        assertEquals("a", jwtUtil.verify(a).getUsername());
+        assertEquals(0.0, gets("hit"));
+        // Evicted by 'c', and its re-verification in turn evicted 'b'.
+        assertEquals(2.0, meterRegistry.get("cache.evictions").tag("cache", "jwt").functionCounter().count());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", result).functionCounter().count();
+    }
+
+    private static User user(String username, long tokenVersion) {
+        User user = new User();
+        user.setId("id-" + username);
+        user.setUsername(username);
+        user.setRole("RECRUITER");
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+}